@@ -3,6 +3,7 @@ package com.beour.global.exception;
 import com.beour.global.exception.exceptionType.DuplicateException;
 import com.beour.global.exception.exceptionType.InputInvalidFormatException;
 import com.beour.global.exception.exceptionType.ReviewCommentNotFoundException;
+import com.beour.global.exception.exceptionType.ServiceUnavailableException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.global.response.ErrorResponse;
 import com.beour.global.exception.exceptionType.MissMatch;
@@ -90,4 +91,10 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT)
             .body(new ErrorResponse(ex.getErrorCode(), "DUPLICATE_ERROR", ex.getMessage()));
     }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(new ErrorResponse(ex.getErrorCode(), "SERVICE_UNAVAILABLE", ex.getMessage()));
+    }
 }
@@ -9,7 +9,12 @@ import lombok.RequiredArgsConstructor;
 public enum AvailableTimeErrorCode implements ErrorCode {
 
     AVAILABLE_TIME_NOT_FOUND(404, "예약 가능한 시간이 존재하지 않습니다."),
-    TIME_UNAVAILABLE(400, "예약이 불가능한 시간입니다.");
+    TIME_UNAVAILABLE(400, "예약이 불가능한 시간입니다."),
+    INVALID_DATE_RANGE(400, "조회 기간이 올바르지 않습니다."),
+    INVALID_WEEKLY_SCHEDULE(400, "운영 시간 규칙이 올바르지 않습니다."),
+    RESERVED_TIME_CLOSED(400, "예약된 시간은 운영 시간에서 뺄 수 없습니다."),
+    HOLD_NOT_FOUND(404, "선점한 시간이 없거나 만료되었습니다."),
+    HOLD_MISMATCH(400, "선점한 시간과 예약 정보가 일치하지 않습니다.");
 
     private final Integer code;
     private final String message;
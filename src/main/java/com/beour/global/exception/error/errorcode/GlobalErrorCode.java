@@ -8,7 +8,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum GlobalErrorCode implements ErrorCode {
 
-    NO_INFO_TO_UPDATE(400, "수정할 정보를 입력해주세요.");
+    NO_INFO_TO_UPDATE(400, "수정할 정보를 입력해주세요."),
+    INVALID_CURSOR(400, "유효하지 않은 커서입니다."),
+    INVALID_IDEMPOTENCY_KEY(400, "Idempotency-Key 는 100자 이하여야 합니다."),
+    IDEMPOTENCY_IN_PROGRESS(409, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(400, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
 
     private final Integer code;
     private final String message;
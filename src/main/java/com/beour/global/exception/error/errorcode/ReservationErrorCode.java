@@ -14,7 +14,12 @@ public enum ReservationErrorCode implements ErrorCode {
     CANNOT_CANCEL_RESERVATION(400, "해당 예약은 취소할 수 없습니다."),
     SPACE_MISMATCH(400, "예약과 공간 정보가 일치하지 않습니다."),
     FUTURE_RESERVATION_REMAIN(400, "해당 유저의 완료되지 않은 예약이 존재합니다."),
-    RESERVATION_NOT_FOUND(404, "예약이 존재하지 않습니다.");
+    INVALID_REVENUE_PERIOD(400, "집계 단위는 daily, weekly, monthly 중 하나여야 합니다."),
+    INVALID_REVENUE_RANGE(400, "조회 기간이 올바르지 않거나 집계 단위별 최대 기간(일별 92일, 주별 53주, 월별 36개월)을 넘었습니다."),
+    INVALID_STATUS_TRANSITION(400, "현재 예약 상태에서는 변경할 수 없습니다."),
+    INVALID_BULK_STATUS(400, "일괄 변경은 승인(ACCEPTED) 또는 거절(REJECTED)만 가능합니다."),
+    RESERVATION_NOT_FOUND(404, "예약이 존재하지 않습니다."),
+    BOOKING_TIMEOUT(503, "예약 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
 
     private final Integer code;
     private final String message;
@@ -13,6 +13,8 @@ public enum SpaceErrorCode implements ErrorCode {
     NO_RECENT_SPACE(404, "최근 등록된 공간이 없습니다."),
     NO_HOST_SPACE(404, "해당 호스트가 등록한 공간이 없습니다."),
     KEYWORD_REQUIRED(400, "키워드를 입력해주세요"),
+    INVALID_TIME_WINDOW(400, "검색 시간 범위가 올바르지 않습니다."),
+    INVALID_IMAGE_URL(400, "해당 공간에 등록된 이미지가 아닙니다."),
     NO_PERMISSION(401, "해당 공간에 대한 권한이 없습니다.");
 
     private final Integer code;
@@ -0,0 +1,16 @@
+package com.beour.global.exception.exceptionType;
+
+import com.beour.global.exception.error.ErrorCode;
+
+public class ServiceUnavailableException extends RuntimeException{
+    private final Integer errorCode;
+
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode.getCode();
+    }
+
+    public Integer getErrorCode(){
+        return this.errorCode;
+    }
+}
@@ -0,0 +1,154 @@
+package com.beour.global.idempotency;
+
+import com.beour.global.exception.error.errorcode.GlobalErrorCode;
+import com.beour.global.exception.exceptionType.DuplicateException;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.global.exception.exceptionType.MissMatch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 헤더로 들어온 생성 요청의 첫 결과를 (사용자, 범위, 키) 로 TTL 동안 보관한다.
+ * 같은 키의 재시도는 도메인 테이블을 거치지 않고 보관한 결과를 돌려주고,
+ * 첫 요청이 아직 처리 중이면 새로 실행하지 않고 그 결과를 기다린다.
+ * 실패도 그대로 보관한다. 503 처럼 커밋 여부를 알 수 없는 실패 뒤에 같은 키로 다시 실행하면
+ * 중복 생성될 수 있기 때문이다. 다시 시도하려면 새 키를 써야 한다.
+ * 키마다 요청 본문의 해시를 함께 보관해 같은 키로 다른 본문을 보내면 거절한다. 서버마다 따로 보관한다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final long waitMillis;
+
+    public IdempotencyStore(ObjectMapper objectMapper,
+        @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+        @Value("${idempotency.wait-millis:30000}") long waitMillis) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.waitMillis = waitMillis;
+    }
+
+    // key 가 없으면 그대로 실행. scope 는 같은 키를 다른 요청에 다시 쓰더라도 섞이지 않도록 엔드포인트와 대상으로 정한다.
+    // body 는 JSON 으로 직렬화해 해시를 비교하므로 요청 내용을 모두 담아야 한다
+    public <T, E extends Exception> T execute(String scope, String key, Object body,
+        IdempotentCall<T, E> call) throws E {
+        if (key == null || key.isBlank()) {
+            return call.call();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InputInvalidFormatException(GlobalErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String storeKey = currentUser() + ":" + scope + ":" + key;
+        Entry mine = new Entry(fingerprint(body));
+        Entry existing = entries.compute(storeKey, (k, entry) ->
+            entry == null || entry.isExpired(System.currentTimeMillis()) ? mine : entry);
+        if (existing != mine) {
+            if (!MessageDigest.isEqual(existing.fingerprint, mine.fingerprint)) {
+                throw new MissMatch(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return this.<T, E>await(existing);
+        }
+
+        try {
+            T result = call.call();
+            mine.complete(result, System.currentTimeMillis() + ttlMillis);
+            return result;
+        } catch (Exception | Error e) {
+            mine.fail(e, System.currentTimeMillis() + ttlMillis);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.sweep-millis:60000}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    // 먼저 들어온 요청이 실패했으면 보관한 예외를 그대로 다시 던진다
+    @SuppressWarnings("unchecked")
+    private <T, E extends Exception> T await(Entry entry) throws E {
+        try {
+            return (T) entry.result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new DuplicateException(GlobalErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DuplicateException(GlobalErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw (E) cause;
+        }
+    }
+
+    private byte[] fingerprint(Object body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String currentUser() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final byte[] fingerprint;
+
+        // 처리 중인 요청은 만료되지 않는다
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private void complete(Object value, long expiresAt) {
+            this.expiresAt = expiresAt;
+            result.complete(value);
+        }
+
+        private void fail(Throwable cause, long expiresAt) {
+            this.expiresAt = expiresAt;
+            result.completeExceptionally(cause);
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
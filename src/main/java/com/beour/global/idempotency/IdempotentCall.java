@@ -0,0 +1,7 @@
+package com.beour.global.idempotency;
+
+@FunctionalInterface
+public interface IdempotentCall<T, E extends Exception> {
+
+    T call() throws E;
+}
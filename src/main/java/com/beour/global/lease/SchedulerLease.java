@@ -0,0 +1,58 @@
+package com.beour.global.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// 여러 서버 중 한 곳에서만 돌아야 하는 예약 작업의 임대. leasedUntil 이 지나면 다른 서버가 가져갈 수 있다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "scheduler_lease")
+public class SchedulerLease implements Persistable<String> {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime leasedUntil;
+
+    // 이름을 직접 지정하므로 merge 로 다른 서버의 임대를 덮어쓰지 않도록 새 행은 항상 insert
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    private SchedulerLease(String name, String owner, LocalDateTime leasedUntil) {
+        this.name = name;
+        this.owner = owner;
+        this.leasedUntil = leasedUntil;
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,53 @@
+package com.beour.global.lease;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * scheduler_lease 테이블의 조건부 UPDATE 로 작업 임대를 잡는다.
+ * 서버가 작업 도중 죽어도 임대 기간이 지나면 다른 서버가 이어 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaseManager {
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(status ->
+            schedulerLeaseRepository.acquire(name, owner, now, now.plus(duration)));
+        if (acquired != null && acquired > 0) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+
+        // 처음 쓰는 임대. 동시에 만든 서버가 있으면 유니크 키에서 진다
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                schedulerLeaseRepository.saveAndFlush(SchedulerLease.builder()
+                    .name(name)
+                    .owner(owner)
+                    .leasedUntil(now.plus(duration))
+                    .build()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+            schedulerLeaseRepository.release(name, owner, LocalDateTime.now()));
+    }
+}
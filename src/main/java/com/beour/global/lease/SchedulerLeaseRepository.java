@@ -0,0 +1,27 @@
+package com.beour.global.lease;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 만료됐거나 이미 내 것인 임대만 가져온다. 갱신된 행 수가 1 이면 획득
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLease l SET l.owner = :owner, l.leasedUntil = :leasedUntil
+        WHERE l.name = :name AND (l.leasedUntil <= :now OR l.owner = :owner)
+        """)
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+        @Param("now") LocalDateTime now, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLease l SET l.leasedUntil = :now
+        WHERE l.name = :name AND l.owner = :owner
+        """)
+    int release(@Param("name") String name, @Param("owner") String owner,
+        @Param("now") LocalDateTime now);
+}
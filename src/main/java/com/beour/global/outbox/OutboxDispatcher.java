@@ -0,0 +1,161 @@
+package com.beour.global.outbox;
+
+import com.beour.global.lease.SchedulerLeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대기 중인 아웃박스 이벤트를 id 순서대로 읽어 등록된 핸들러에 전달한다.
+ * 같은 대상(aggregateType, aggregateId)의 이벤트는 앞 이벤트가 전달되기 전까지 뒤 이벤트를 보내지 않아 대상별 순서가 지켜진다.
+ * 실패한 이벤트는 지수 백오프로 다시 시도하고, MAX_ATTEMPTS 번 실패하면 FAILED 로 남긴다.
+ * FAILED 이벤트는 대기열에서 빠지므로 같은 대상의 뒤 이벤트는 그 이벤트를 건너뛰고 전달된다.
+ * 한 대상이 영영 멈추지 않도록 순서보다 진행을 택한 것이고, 포기한 이벤트는 outbox.failed 지표와 로그로 따로 처리한다.
+ * 임대를 잡은 서버 한 곳에서만 돈다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String LEASE_NAME = "outbox-dispatcher";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(1);
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ROUNDS = 10;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Timer dispatchLag;
+    private final Counter dispatchedCounter;
+    private final Counter failedAttemptCounter;
+    private final Counter deadCounter;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+        List<OutboxEventHandler> handlers, SchedulerLeaseManager schedulerLeaseManager,
+        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+        @Value("${outbox.batch-size:100}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.dispatchLag = Timer.builder("outbox.dispatch.lag")
+            .description("이벤트 기록부터 전달 완료까지 걸린 시간")
+            .register(meterRegistry);
+        this.dispatchedCounter = Counter.builder("outbox.dispatched")
+            .description("전달 완료한 이벤트 수")
+            .register(meterRegistry);
+        this.failedAttemptCounter = Counter.builder("outbox.attempts.failed")
+            .description("핸들러가 실패한 전달 시도 수")
+            .register(meterRegistry);
+        this.deadCounter = Counter.builder("outbox.failed")
+            .description("재시도를 모두 실패해 포기한 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("outbox.pending", pendingCount, AtomicLong::get)
+            .description("전달 대기 중인 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("outbox.oldest.pending.age.seconds", oldestPendingAgeSeconds, AtomicLong::get)
+            .description("가장 오래 기다린 대기 이벤트의 경과 시간")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-millis:1000}")
+    public void run() {
+        if (!schedulerLeaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            return;
+        }
+
+        try {
+            dispatchPending();
+        } finally {
+            schedulerLeaseManager.release(LEASE_NAME);
+        }
+    }
+
+    // 보낼 수 있는 이벤트가 없을 때까지 묶음 단위로 전달하고 전달한 이벤트 수를 돌려준다.
+    // 한 묶음에는 대상마다 맨 앞 이벤트만 들어오므로 같은 대상의 다음 이벤트는 다음 묶음에서 보낸다.
+    // 전달에 실패한 이벤트는 다음 시도 시각이 미뤄져 다시 고르지 않으므로 묶음마다 대기열이 줄어든다
+    public synchronized int dispatchPending() {
+        updateBacklog(LocalDateTime.now());
+
+        int dispatched = 0;
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            List<OutboxEvent> events = outboxEventRepository.findDispatchable(LocalDateTime.now(),
+                PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                break;
+            }
+            for (OutboxEvent event : events) {
+                if (deliver(event)) {
+                    dispatched++;
+                }
+            }
+        }
+
+        return dispatched;
+    }
+
+    private boolean deliver(OutboxEvent event) {
+        try {
+            for (OutboxEventHandler handler : handlers) {
+                if (handler.supports(event.getAggregateType(), event.getEventType())) {
+                    handler.handle(event);
+                }
+            }
+        } catch (Exception e) {
+            LocalDateTime now = LocalDateTime.now();
+            event.markAttemptFailed(e.toString(), now.plus(backoff(event.getAttempts() + 1)), MAX_ATTEMPTS);
+            save(event);
+            failedAttemptCounter.increment();
+            if (event.getStatus() == OutboxStatus.FAILED) {
+                deadCounter.increment();
+                log.error("아웃박스 이벤트 전달 포기: id={}, type={}", event.getId(), event.getEventType(), e);
+            } else {
+                log.warn("아웃박스 이벤트 전달 실패: id={}, attempts={}", event.getId(), event.getAttempts(), e);
+            }
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        event.markDispatched(now);
+        save(event);
+        dispatchLag.record(Duration.between(event.getCreatedAt(), now));
+        dispatchedCounter.increment();
+        return true;
+    }
+
+    private void save(OutboxEvent event) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.save(event));
+    }
+
+    private void updateBacklog(LocalDateTime now) {
+        pendingCount.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+        oldestPendingAgeSeconds.set(outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+            .map(event -> Duration.between(event.getCreatedAt(), now).toSeconds())
+            .orElse(0L));
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
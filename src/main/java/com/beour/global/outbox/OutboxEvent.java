@@ -0,0 +1,92 @@
+package com.beour.global.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 상태 변경과 같은 트랜잭션에 기록하는 이벤트. 커밋된 뒤 디스패처가 id 순서대로 핸들러에 전달한다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_event",
+    indexes = {
+        @Index(name = "idx_outbox_event_status_id", columnList = "status, id"),
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregateType, aggregateId, status, id")
+    })
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime dispatchedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    private OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload,
+                        LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    public void markDispatched(LocalDateTime now) {
+        this.status = OutboxStatus.DISPATCHED;
+        this.dispatchedAt = now;
+        this.lastError = null;
+    }
+
+    // 실패 횟수를 늘리고 다음 시도 시각을 미룬다. 마지막 시도였으면 FAILED 로 남긴다
+    public void markAttemptFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+            ? error : error.substring(0, MAX_ERROR_LENGTH);
+        this.nextAttemptAt = nextAttemptAt;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
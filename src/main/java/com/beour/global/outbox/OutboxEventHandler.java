@@ -0,0 +1,12 @@
+package com.beour.global.outbox;
+
+/**
+ * 아웃박스 이벤트를 받는 빈. 같은 이벤트가 두 번 이상 올 수 있으므로(at-least-once) 멱등하게 처리해야 한다.
+ * 예외를 던지면 그 이벤트는 백오프 후 다시 전달되고, 그동안 같은 대상의 이후 이벤트는 전달되지 않는다.
+ */
+public interface OutboxEventHandler {
+
+    boolean supports(String aggregateType, String eventType);
+
+    void handle(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,27 @@
+package com.beour.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 지금 보낼 수 있는 이벤트만 고른다. 같은 대상에 앞선 PENDING 이벤트가 있으면 그 대상의 뒤 이벤트는 고르지 않는다.
+    // 재시도를 기다리는 이벤트가 묶음 자리를 차지해 다른 대상의 이벤트가 밀리지 않는다
+    @Query("SELECT e FROM OutboxEvent e "
+        + "WHERE e.status = com.beour.global.outbox.OutboxStatus.PENDING "
+        + "AND e.nextAttemptAt <= :now "
+        + "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p "
+        + "WHERE p.aggregateType = e.aggregateType AND p.aggregateId = e.aggregateId "
+        + "AND p.status = com.beour.global.outbox.OutboxStatus.PENDING AND p.id < e.id) "
+        + "ORDER BY e.id ASC")
+    List<OutboxEvent> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,9 @@
+package com.beour.global.outbox;
+
+public enum OutboxStatus {
+
+    PENDING,
+    DISPATCHED,
+    // 재시도 횟수를 다 쓴 이벤트. 같은 대상의 다음 이벤트를 막지 않도록 대기열에서 뺀다
+    FAILED
+}
@@ -0,0 +1,81 @@
+package com.beour.global.pagination;
+
+import com.beour.global.exception.error.errorcode.GlobalErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 키셋 페이지네이션 커서. 마지막 항목의 정렬 키와 id 를 "key|id" 로 묶어 URL-safe Base64 로 내보낸다.
+ * 클라이언트는 값을 해석하지 않고 다음 요청의 cursor 파라미터로 그대로 넘긴다.
+ */
+@Getter
+public class Cursor {
+
+    private static final char DELIMITER = '|';
+
+    private final String key;
+    private final Long id;
+
+    private Cursor(String key, Long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static Cursor of(Object key, Long id) {
+        return new Cursor(key == null ? "" : String.valueOf(key), id);
+    }
+
+    public static Cursor ofId(Long id) {
+        return of(null, id);
+    }
+
+    public static Cursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InputInvalidFormatException(GlobalErrorCode.INVALID_CURSOR);
+            }
+
+            return new Cursor(raw.substring(0, delimiterIndex),
+                Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InputInvalidFormatException(GlobalErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int keyAsInt() {
+        return parseKey(Integer::parseInt);
+    }
+
+    public double keyAsDouble() {
+        return parseKey(Double::parseDouble);
+    }
+
+    public LocalTime keyAsTime() {
+        return parseKey(LocalTime::parse);
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        return parseKey(LocalDateTime::parse);
+    }
+
+    private <T> T parseKey(Function<String, T> parser) {
+        try {
+            return parser.apply(key);
+        } catch (RuntimeException e) {
+            throw new InputInvalidFormatException(GlobalErrorCode.INVALID_CURSOR);
+        }
+    }
+}
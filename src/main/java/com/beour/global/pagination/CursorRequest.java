@@ -0,0 +1,48 @@
+package com.beour.global.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 커서 모드 목록 요청. cursor 파라미터가 있으면(빈 값이면 첫 페이지) 커서 모드로 동작하고,
+ * 없으면 기존 page/size 방식 그대로 동작한다.
+ */
+@Getter
+public class CursorRequest {
+
+    private final Cursor cursor;
+    private final int size;
+
+    private CursorRequest(Cursor cursor, int size) {
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    // 커서 모드가 아니면 null
+    public static CursorRequest from(String encodedCursor, Pageable pageable) {
+        if (encodedCursor == null) {
+            return null;
+        }
+
+        Cursor cursor = encodedCursor.isBlank() ? null : Cursor.decode(encodedCursor);
+        return new CursorRequest(cursor, pageable.getPageSize());
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    public Long cursorId() {
+        return cursor == null ? null : cursor.getId();
+    }
+
+    // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회한다
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    public Pageable fetchPageable() {
+        return PageRequest.of(0, fetchSize());
+    }
+}
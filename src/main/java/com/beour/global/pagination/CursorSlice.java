@@ -0,0 +1,39 @@
+package com.beour.global.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 커서 모드 조회 결과. 전체 개수를 세지 않으므로 응답의 totalPage 는 0 으로 내려가고,
+ * 다음 페이지가 있으면 nextCursor 가 채워진다.
+ */
+@Getter
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final boolean last;
+    private final String nextCursor;
+
+    private CursorSlice(List<T> content, boolean last, String nextCursor) {
+        this.content = content;
+        this.last = last;
+        this.nextCursor = nextCursor;
+    }
+
+    // fetched 는 request.fetchSize() 만큼 조회한 결과
+    public static <T> CursorSlice<T> of(List<T> fetched, CursorRequest request,
+        Function<T, Cursor> cursorOf) {
+        if (fetched.size() <= request.getSize()) {
+            return new CursorSlice<>(fetched, true, null);
+        }
+
+        List<T> content = fetched.subList(0, request.getSize());
+        T lastItem = content.get(content.size() - 1);
+        return new CursorSlice<>(content, false, cursorOf.apply(lastItem).encode());
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
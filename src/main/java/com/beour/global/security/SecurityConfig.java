@@ -67,20 +67,25 @@ public class SecurityConfig {
                 .permitAll()
 
                 // all - 공간 검색 및 이용가능 시간
-                .requestMatchers("/api/users/banners", "/api/spaces/*", "/api/spaces/*/available-times/date", "/api/reviews/new",
+                .requestMatchers("/api/users/banners", "/api/spaces/*", "/api/spaces/*/available-times/date",
+                    "/api/spaces/*/available-times/calendar", "/api/reviews/new",
                     "/api/spaces/nearby", "/api/spaces/keyword", "/api/spaces/filter",
                     "/api/spaces/spacecategory", "/api/spaces/usecategory", "/api/spaces/new")
                 .permitAll()
 
                 //host - 공간 예약
-                .requestMatchers("/api/reservations/condition", "/api/reservations/*/accept",
-                    "/api/reservations/*/reject", "/api/users/me/spaces-name", "/api/reservations",
+                .requestMatchers("/api/reservations/condition", "/api/reservations/calendar",
+                    "/api/reservations/revenue",
+                    "/api/reservations/*/accept", "/api/reservations/*/reject",
+                    "/api/reservations/statuses",
+                    "/api/users/me/spaces-name", "/api/reservations",
                     "/api/spaces/reservations").hasRole("HOST")
 
                 //host - 공간
                 .requestMatchers("/api/spaces", "/api/spaces/*/simple",
                     "/api/spaces/*/basic", "/api/spaces/*/description", "/api/spaces/*/tags",
-                    "/api/spaces/*/images", "/api/spaces/*/available-times").hasRole("HOST")
+                    "/api/spaces/*/images", "/api/spaces/*/available-times",
+                    "/api/spaces/*/available-times/weekly").hasRole("HOST")
 
                 // host - 댓글
                 .requestMatchers("/api/users/me/commentable-reviews",
@@ -89,7 +94,8 @@ public class SecurityConfig {
 
                 // guest - 예약
                 .requestMatchers("/api/spaces/*/reservations", "/api/reservations/current",
-                    "/api/reservations/past", "/api/reservations/status", "/api/reservations/*").hasRole("GUEST")
+                    "/api/reservations/past", "/api/reservations/status", "/api/reservations/*",
+                    "/api/spaces/*/holds", "/api/holds/*").hasRole("GUEST")
 
                 // guest - 리뷰
                 .requestMatchers("/api/users/me/reviewable-reservations", "/api/users/me/reviews",
@@ -99,7 +105,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/likes", "/api/spaces/*/likes").hasRole("GUEST")
 
                 //admin
-                .requestMatchers("/api/banners", "/admin/banner/list").hasRole("ADMIN")
+                .requestMatchers("/api/banners", "/admin/banner/list", "/actuator/**").hasRole("ADMIN")
 
                 //guest, host, admin
                 .requestMatchers("/api/token/reissue", "api/users", "api/users/me",
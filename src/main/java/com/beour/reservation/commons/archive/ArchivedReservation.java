@@ -0,0 +1,65 @@
+package com.beour.reservation.commons.archive;
+
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관 기간이 지난 완료·거절·취소 예약. id 는 원래 예약 id 를 그대로 쓰고, 연관 대신 id 컬럼만 남긴다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "reservation_archive", indexes = {
+    @Index(name = "idx_reservation_archive_guest_start_at", columnList = "guest_id, start_at"),
+    @Index(name = "idx_reservation_archive_host_start_at", columnList = "host_id, start_at")
+})
+public class ArchivedReservation {
+
+    @Id
+    private Long id;
+
+    @Column(name = "guest_id")
+    private Long guestId;
+
+    @Column(name = "host_id")
+    private Long hostId;
+
+    @Column(name = "space_id")
+    private Long spaceId;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private UsagePurpose usagePurpose;
+
+    @Column(length = 200)
+    private String requestMessage;
+
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    private int price;
+    private int guestCount;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime deletedAt;
+    private LocalDateTime archivedAt;
+}
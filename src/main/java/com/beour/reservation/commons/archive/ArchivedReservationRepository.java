@@ -0,0 +1,66 @@
+package com.beour.reservation.commons.archive;
+
+import com.beour.reservation.commons.repository.PastReservationRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedReservationRepository extends JpaRepository<ArchivedReservation, Long> {
+
+    long countByGuestId(Long guestId);
+
+    boolean existsByGuestId(Long guestId);
+
+    // 예약 행을 그대로 복사한다. 원래 예약은 호출한 쪽에서 같은 트랜잭션 안에 지운다
+    @Modifying
+    @Query("""
+    INSERT INTO ArchivedReservation (id, guestId, hostId, spaceId, status, usagePurpose,
+        requestMessage, date, startTime, endTime, startAt, endAt, price, guestCount,
+        createdAt, updatedAt, deletedAt, archivedAt)
+    SELECT r.id, r.guest.id, r.host.id, r.space.id, r.status, r.usagePurpose,
+        r.requestMessage, r.date, r.startTime, r.endTime, r.startAt, r.endAt, r.price, r.guestCount,
+        r.createdAt, r.updatedAt, r.deletedAt, :archivedAt
+    FROM Reservation r
+    WHERE r.id IN :ids
+    """)
+    int copyFromReservations(@Param("ids") Collection<Long> ids,
+        @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 리뷰가 달린 예약은 보관하지 않으므로 reviewId 는 항상 비어 있다
+    @Query("""
+    SELECT a.id AS reservationId, s.name AS spaceName, s.thumbnailUrl AS spaceThumbnailUrl,
+        a.date AS date, a.startTime AS startTime, a.endTime AS endTime,
+        a.price AS price, a.guestCount AS guestCount, a.status AS status,
+        a.usagePurpose AS usagePurpose, a.requestMessage AS requestMessage,
+        CAST(NULL AS Long) AS reviewId
+    FROM ArchivedReservation a
+    LEFT JOIN Space s ON s.id = a.spaceId
+    WHERE a.guestId = :guestId
+    ORDER BY a.startAt DESC, a.id DESC
+    """)
+    List<PastReservationRow> findPastByGuest(@Param("guestId") Long guestId, Pageable pageable);
+
+    // 커서 모드: (startAt, id) 내림차순
+    @Query("""
+    SELECT a.id AS reservationId, s.name AS spaceName, s.thumbnailUrl AS spaceThumbnailUrl,
+        a.date AS date, a.startTime AS startTime, a.endTime AS endTime,
+        a.price AS price, a.guestCount AS guestCount, a.status AS status,
+        a.usagePurpose AS usagePurpose, a.requestMessage AS requestMessage,
+        CAST(NULL AS Long) AS reviewId
+    FROM ArchivedReservation a
+    LEFT JOIN Space s ON s.id = a.spaceId
+    WHERE a.guestId = :guestId
+    AND (:cursorId IS NULL OR a.startAt < :cursorAt
+        OR (a.startAt = :cursorAt AND a.id < :cursorId))
+    ORDER BY a.startAt DESC, a.id DESC
+    """)
+    List<PastReservationRow> findPastByGuestAfter(@Param("guestId") Long guestId,
+        @Param("cursorAt") LocalDateTime cursorAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package com.beour.reservation.commons.archive;
+
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 이용 종료 후 retention-days 가 지난 예약을 보관 대상으로 본다
+@Component
+public class ReservationArchivePolicy {
+
+    private final long retentionDays;
+
+    public ReservationArchivePolicy(
+        @Value("${reservation.archive.retention-days:365}") long retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    // 보관 테이블의 예약은 모두 이 시각보다 먼저 끝났다
+    public LocalDateTime cutoff(LocalDateTime now) {
+        return now.minusDays(retentionDays);
+    }
+}
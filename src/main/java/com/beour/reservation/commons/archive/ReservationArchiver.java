@@ -0,0 +1,83 @@
+package com.beour.reservation.commons.archive;
+
+import com.beour.global.lease.SchedulerLeaseManager;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간이 지난 완료·거절·취소 예약을 reservation_archive 로 옮겨 예약 테이블을 작게 유지한다.
+ * CHUNK_SIZE 건씩 복사와 삭제를 한 트랜잭션으로 묶고, 임대를 잡은 서버 한 곳에서만 돈다.
+ * 옮기는 예약은 모두 지난 날짜라 예약 가능 색인과 달력 캐시, 매출 집계에는 영향이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationArchiver {
+
+    private static final String LEASE_NAME = "reservation-archive";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_PER_RUN = 200;
+    private static final Set<ReservationStatus> ARCHIVABLE_STATUSES =
+        EnumSet.of(ReservationStatus.COMPLETED, ReservationStatus.REJECTED);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final ReservationArchivePolicy reservationArchivePolicy;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${reservation.archive.cron:0 30 4 * * *}")
+    public void run() {
+        if (!schedulerLeaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            return;
+        }
+
+        try {
+            int archived = archive(LocalDateTime.now());
+            if (archived > 0) {
+                log.info("예약 보관: {}건", archived);
+            }
+        } finally {
+            schedulerLeaseManager.release(LEASE_NAME);
+        }
+    }
+
+    public int archive(LocalDateTime now) {
+        LocalDateTime cutoff = reservationArchivePolicy.cutoff(now);
+        int archived = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = reservationRepository.findArchivableIds(cutoff,
+                    ARCHIVABLE_STATUSES, PageRequest.of(0, CHUNK_SIZE));
+                if (ids.isEmpty()) {
+                    return null;
+                }
+
+                archivedReservationRepository.copyFromReservations(ids, now);
+                reservationSlotRepository.deleteByReservationIdIn(ids);
+                reservationRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+            if (moved == null) {
+                break;
+            }
+            archived += moved;
+        }
+
+        return archived;
+    }
+}
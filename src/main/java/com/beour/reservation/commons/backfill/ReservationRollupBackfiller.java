@@ -0,0 +1,47 @@
+package com.beour.reservation.commons.backfill;
+
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.rollup.ReservationRollupRecorder;
+import com.beour.reservation.commons.rollup.SpaceDayRow;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 매출 집계 도입 이전에 생성된 예약의 (공간, 날짜) 집계 행을 만든다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationRollupBackfiller {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationRollupRecorder reservationRollupRecorder;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int filled = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<SpaceDayRow> days = reservationRepository.findDaysWithoutRollup(
+                    PageRequest.of(0, CHUNK_SIZE));
+                days.forEach(day -> reservationRollupRecorder.rebuild(day.getSpaceId(), day.getDate()));
+                return days.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            filled += count;
+        }
+
+        if (filled > 0) {
+            log.info("예약 매출 집계 채움: {}일", filled);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.beour.reservation.commons.backfill;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// start_at / end_at 컬럼 도입 이전에 생성된 예약의 시각을 채운다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationTimeRangeBackfiller {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int filled = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Reservation> reservations = reservationRepository.findByStartAtIsNullOrderByIdAsc(
+                    PageRequest.of(0, CHUNK_SIZE));
+                reservations.forEach(Reservation::syncTimeRange);
+                return reservations.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            filled += count;
+        }
+
+        if (filled > 0) {
+            log.info("예약 시작/종료 시각 채움: {}건", filled);
+        }
+    }
+}
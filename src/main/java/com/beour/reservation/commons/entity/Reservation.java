@@ -4,27 +4,40 @@ import com.beour.global.entity.BaseTimeEntity;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.index.ReservationIndexListener;
 import com.beour.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_reservation_guest_end_at", columnList = "guest_id, end_at"),
+    @Index(name = "idx_reservation_host_start_at", columnList = "host_id, start_at"),
+    @Index(name = "idx_reservation_host_calendar", columnList = "host_id, date, status, space_id")
+})
+@EntityListeners(ReservationIndexListener.class)
 public class Reservation extends BaseTimeEntity {
 
     @Id
@@ -55,9 +68,20 @@ public class Reservation extends BaseTimeEntity {
     private LocalDate date;
     private LocalTime startTime;
     private LocalTime endTime;
+
+    // date + startTime / endTime 을 합친 시각. 시간 범위 조건을 한 컬럼의 범위 검색으로 만들기 위해 함께 저장한다
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
     private int price;
     private int guestCount;
 
+    // 상태 전환은 조건부 UPDATE 로 하면서 version 도 올린다. 엔티티로 고친 변경이 그 사이 전환을 덮어쓰지 못하게 한다
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     public void cancel(){
         this.status = ReservationStatus.REJECTED;
         this.softDelete();
@@ -67,6 +91,14 @@ public class Reservation extends BaseTimeEntity {
         this.status = status;
     }
 
+    // 자정 종료(00:00)처럼 종료 시각이 시작 시각보다 이르면 다음 날로 본다
+    public void syncTimeRange() {
+        this.startAt = LocalDateTime.of(date, startTime);
+        this.endAt = endTime.isAfter(startTime)
+            ? LocalDateTime.of(date, endTime)
+            : LocalDateTime.of(date.plusDays(1), endTime);
+    }
+
     @Builder
     private Reservation(User guest, User host, Space space, ReservationStatus status,
                         UsagePurpose usagePurpose, String requestMessage, LocalDate date,
@@ -82,5 +114,6 @@ public class Reservation extends BaseTimeEntity {
         this.endTime = endTime;
         this.price = price;
         this.guestCount = guestCount;
+        syncTimeRange();
     }
 }
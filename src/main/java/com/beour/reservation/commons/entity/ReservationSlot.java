@@ -0,0 +1,63 @@
+package com.beour.reservation.commons.entity;
+
+import com.beour.space.domain.slot.HourSlots;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 예약이 점유한 한 시간 칸. (공간, 날짜, 칸) 유니크 키로 DB 가 겹치는 예약을 막는다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "reservation_slot",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"space_id", "date", "slot"}))
+public class ReservationSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "space_id", nullable = false)
+    private Long spaceId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    // 시작 시각(시)
+    @Column(nullable = false)
+    private int slot;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    // 예약 시간에 걸친 칸마다 한 행
+    public static List<ReservationSlot> claimsOf(Reservation reservation) {
+        return HourSlots.startTimes(
+                HourSlots.of(reservation.getStartTime(), reservation.getEndTime())).stream()
+            .map(startTime -> ReservationSlot.builder()
+                .spaceId(reservation.getSpace().getId())
+                .date(reservation.getDate())
+                .slot(startTime.getHour())
+                .reservationId(reservation.getId())
+                .build())
+            .toList();
+    }
+
+    @Builder
+    private ReservationSlot(Long spaceId, LocalDate date, int slot, Long reservationId) {
+        this.spaceId = spaceId;
+        this.date = date;
+        this.slot = slot;
+        this.reservationId = reservationId;
+    }
+}
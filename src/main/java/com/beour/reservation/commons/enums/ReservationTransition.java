@@ -0,0 +1,23 @@
+package com.beour.reservation.commons.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 상태 전환 규칙. 각 전환은 from 상태의 예약에만 적용되고,
+ * 조건부 UPDATE 의 WHERE status = from 으로 검사하므로 조회와 변경 사이에 상태가 바뀌면 영향받은 행이 0 이 된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReservationTransition {
+
+    ACCEPT(ReservationStatus.PENDING, ReservationStatus.ACCEPTED),     // 호스트 승인
+    REJECT(ReservationStatus.PENDING, ReservationStatus.REJECTED),     // 호스트 거절
+    REVOKE(ReservationStatus.ACCEPTED, ReservationStatus.REJECTED),    // 호스트가 승인한 예약을 거절
+    CANCEL(ReservationStatus.PENDING, ReservationStatus.REJECTED),     // 게스트 취소 (삭제 표시)
+    COMPLETE(ReservationStatus.ACCEPTED, ReservationStatus.COMPLETED), // 이용 종료
+    EXPIRE(ReservationStatus.PENDING, ReservationStatus.REJECTED);     // 시작 시각까지 미승인
+
+    private final ReservationStatus from;
+    private final ReservationStatus to;
+}
@@ -0,0 +1,48 @@
+package com.beour.reservation.commons.enums;
+
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 매출 집계 구간. 주는 월요일, 월은 1일부터 시작한다. maxDays 는 한 번에 조회할 수 있는 최대 일수
+@Getter
+@RequiredArgsConstructor
+public enum RevenuePeriod {
+
+    DAILY("daily", 92),
+    WEEKLY("weekly", 371),
+    MONTHLY("monthly", 1096);
+
+    private final String text;
+    private final int maxDays;
+
+    public static RevenuePeriod from(String text) {
+        for (RevenuePeriod period : values()) {
+            if (period.text.equals(text)) {
+                return period;
+            }
+        }
+
+        throw new InputInvalidFormatException(ReservationErrorCode.INVALID_REVENUE_PERIOD);
+    }
+
+    public LocalDate bucketOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate next(LocalDate bucket) {
+        return switch (this) {
+            case DAILY -> bucket.plusDays(1);
+            case WEEKLY -> bucket.plusWeeks(1);
+            case MONTHLY -> bucket.plusMonths(1);
+        };
+    }
+}
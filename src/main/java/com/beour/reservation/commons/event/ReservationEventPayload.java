@@ -0,0 +1,49 @@
+package com.beour.reservation.commons.event;
+
+import com.beour.reservation.commons.entity.Reservation;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class ReservationEventPayload {
+
+    private final Long reservationId;
+    private final Long spaceId;
+    private final Long guestId;
+    private final Long hostId;
+    private final String status;
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final int price;
+
+    @Builder
+    private ReservationEventPayload(Long reservationId, Long spaceId, Long guestId, Long hostId,
+        String status, LocalDate date, LocalTime startTime, LocalTime endTime, int price) {
+        this.reservationId = reservationId;
+        this.spaceId = spaceId;
+        this.guestId = guestId;
+        this.hostId = hostId;
+        this.status = status;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.price = price;
+    }
+
+    public static ReservationEventPayload of(Reservation reservation) {
+        return ReservationEventPayload.builder()
+            .reservationId(reservation.getId())
+            .spaceId(reservation.getSpace().getId())
+            .guestId(reservation.getGuest().getId())
+            .hostId(reservation.getHost().getId())
+            .status(reservation.getStatus().name())
+            .date(reservation.getDate())
+            .startTime(reservation.getStartTime())
+            .endTime(reservation.getEndTime())
+            .price(reservation.getPrice())
+            .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.beour.reservation.commons.event;
+
+import com.beour.global.outbox.OutboxPublisher;
+import com.beour.reservation.commons.entity.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 예약 상태 변경을 같은 트랜잭션의 아웃박스에 남긴다. 알림 등 후속 처리는 OutboxEventHandler 로 붙인다
+@Component
+@RequiredArgsConstructor
+public class ReservationEventPublisher {
+
+    public static final String AGGREGATE_TYPE = "RESERVATION";
+
+    private final OutboxPublisher outboxPublisher;
+
+    public void publish(Reservation reservation, ReservationEventType type) {
+        outboxPublisher.publish(AGGREGATE_TYPE, reservation.getId(), type.name(),
+            ReservationEventPayload.of(reservation));
+    }
+}
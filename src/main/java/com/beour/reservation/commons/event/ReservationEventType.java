@@ -0,0 +1,9 @@
+package com.beour.reservation.commons.event;
+
+public enum ReservationEventType {
+
+    CREATED,
+    ACCEPTED,
+    REJECTED,
+    CANCELLED
+}
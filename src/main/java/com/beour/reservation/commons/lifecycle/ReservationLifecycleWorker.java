@@ -0,0 +1,147 @@
+package com.beour.reservation.commons.lifecycle;
+
+import com.beour.global.lease.SchedulerLeaseManager;
+import com.beour.global.transaction.AfterCommit;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.ReservationTransition;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.commons.rollup.ReservationRollupRecorder;
+import com.beour.space.domain.index.AvailabilityCalendarCache;
+import com.beour.space.domain.index.SpaceAvailabilityIndex;
+import com.beour.space.domain.repository.TimeSlotRow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이용이 끝난 승인 예약은 완료로, 시작 시각까지 승인되지 않은 대기 예약은 거절로 바꾼다.
+ * 한 번에 CHUNK_SIZE 건씩 id 로 묶어 UPDATE 하고, 임대를 잡은 서버 한 곳에서만 돈다.
+ * 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 색인과 달력 캐시는 여기서 직접 갱신한다.
+ * 승인 → 완료는 매출 집계를 바꾸지 않고, 대기 만료만 집계의 대기 건수를 줄인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationLifecycleWorker {
+
+    private static final String LEASE_NAME = "reservation-lifecycle";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_PER_RUN = 20;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final ReservationRollupRecorder reservationRollupRecorder;
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${reservation.lifecycle.cron:30 * * * * *}")
+    public void run() {
+        if (!schedulerLeaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            return;
+        }
+
+        try {
+            int completed = completeEndedReservations(LocalDateTime.now());
+            int expired = expireStartedPendingReservations(LocalDateTime.now());
+            if (completed > 0 || expired > 0) {
+                log.info("예약 상태 정리: 완료 {}건, 대기 만료 {}건", completed, expired);
+            }
+        } finally {
+            schedulerLeaseManager.release(LEASE_NAME);
+        }
+    }
+
+    public int completeEndedReservations(LocalDateTime now) {
+        int completed = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<TimeSlotRow> rows = reservationRepository.findEndedTimeSlots(
+                    ReservationTransition.COMPLETE.getFrom(), now, PageRequest.of(0, CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    return null;
+                }
+
+                int count = reservationRepository.transitionStatus(ids(rows),
+                    ReservationTransition.COMPLETE.getFrom(), ReservationTransition.COMPLETE.getTo(), now);
+                releaseFromIndex(rows);
+                return count;
+            });
+            if (updated == null) {
+                break;
+            }
+            completed += updated;
+        }
+
+        return completed;
+    }
+
+    // 대기 예약이 차지하던 시간 칸도 함께 돌려준다. 그 사이 승인된 예약의 칸은 남긴다
+    public int expireStartedPendingReservations(LocalDateTime now) {
+        int expired = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<TimeSlotRow> rows = reservationRepository.findStartedTimeSlots(
+                    ReservationTransition.EXPIRE.getFrom(), now, PageRequest.of(0, CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    return null;
+                }
+
+                // 조회 이후 승인·거절된 예약은 빼고 아직 대기 중인 예약만 잠가 만료시킨다
+                Set<Long> pendingIds = reservationRepository.findAllByIdInAndStatusForUpdate(ids(rows),
+                        ReservationTransition.EXPIRE.getFrom()).stream()
+                    .map(Reservation::getId)
+                    .collect(Collectors.toSet());
+                List<TimeSlotRow> expiring = rows.stream()
+                    .filter(row -> pendingIds.contains(row.getId()))
+                    .toList();
+                if (expiring.isEmpty()) {
+                    return 0;
+                }
+
+                List<Long> ids = ids(expiring);
+                int count = reservationRepository.transitionStatus(ids,
+                    ReservationTransition.EXPIRE.getFrom(), ReservationTransition.EXPIRE.getTo(), now);
+                reservationSlotRepository.deleteByReservationIdInAndStatus(ids,
+                    ReservationStatus.REJECTED);
+                reservationRollupRecorder.recordExpiredPending(expiring);
+                releaseFromIndex(expiring);
+                return count;
+            });
+            if (updated == null) {
+                break;
+            }
+            expired += updated;
+        }
+
+        return expired;
+    }
+
+    private void releaseFromIndex(List<TimeSlotRow> rows) {
+        AfterCommit.execute(() -> {
+            for (TimeSlotRow row : rows) {
+                spaceAvailabilityIndex.removeReservation(row.getId(), row.getSpaceId(),
+                    row.getDate());
+                availabilityCalendarCache.evict(row.getSpaceId(), row.getDate());
+            }
+        });
+    }
+
+    private static List<Long> ids(List<TimeSlotRow> rows) {
+        return rows.stream()
+            .map(TimeSlotRow::getId)
+            .toList();
+    }
+}
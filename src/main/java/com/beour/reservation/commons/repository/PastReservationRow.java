@@ -0,0 +1,34 @@
+package com.beour.reservation.commons.repository;
+
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 지난 예약 목록 한 행. 작성한 리뷰가 없으면 reviewId 는 null
+public interface PastReservationRow {
+
+    Long getReservationId();
+
+    String getSpaceName();
+
+    String getSpaceThumbnailUrl();
+
+    LocalDate getDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    int getPrice();
+
+    int getGuestCount();
+
+    ReservationStatus getStatus();
+
+    UsagePurpose getUsagePurpose();
+
+    String getRequestMessage();
+
+    Long getReviewId();
+}
@@ -2,44 +2,282 @@ package com.beour.reservation.commons.repository;
 
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.rollup.SpaceDayRow;
+import com.beour.space.domain.repository.TimeSlotRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
     List<Reservation> findBySpaceIdAndDateAndDeletedAtIsNull(Long spaceId, LocalDate date);
 
+    // 날짜별 예약 가능 색인 초기 적재용
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.date AS date,
+        r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.date >= :from AND r.deletedAt IS NULL
+    AND r.status IN :statuses
+    """)
+    List<TimeSlotRow> findTimeSlotsFrom(@Param("from") LocalDate from,
+            @Param("statuses") Collection<ReservationStatus> statuses);
+
+    // 운영 시간 창 밖의 날짜 필터용
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.date AS date,
+        r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.date = :date AND r.deletedAt IS NULL
+    AND r.status IN :statuses
+    """)
+    List<TimeSlotRow> findTimeSlotsOn(@Param("date") LocalDate date,
+            @Param("statuses") Collection<ReservationStatus> statuses);
+
+    // 호스트의 운영 시간 상세 화면에서 수정 불가로 보여줄 예약 시간
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.date AS date,
+        r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.space.id = :spaceId AND r.date >= :from AND r.deletedAt IS NULL
+    AND r.status IN :statuses
+    """)
+    List<TimeSlotRow> findSpaceTimeSlotsFrom(@Param("spaceId") Long spaceId,
+            @Param("from") LocalDate from,
+            @Param("statuses") Collection<ReservationStatus> statuses);
+
+    // 매출 집계 행이 없는 (공간, 날짜). 집계 도입 이전 데이터
+    @Query("""
+    SELECT DISTINCT r.space.id AS spaceId, r.date AS date FROM Reservation r
+    WHERE r.deletedAt IS NULL
+    AND NOT EXISTS (SELECT d.id FROM SpaceDailyRollup d WHERE d.spaceId = r.space.id AND d.date = r.date)
+    """)
+    List<SpaceDayRow> findDaysWithoutRollup(Pageable pageable);
+
+    // 시간 칸 점유 행이 없는 예약 (칸 테이블 도입 이전 데이터)
+    @Query("""
+    SELECT r FROM Reservation r JOIN FETCH r.space
+    WHERE r.date >= :from AND r.deletedAt IS NULL AND r.status IN :statuses
+    AND NOT EXISTS (SELECT s.id FROM ReservationSlot s WHERE s.reservationId = r.id)
+    """)
+    List<Reservation> findUnclaimedReservationsFrom(@Param("from") LocalDate from,
+            @Param("statuses") Collection<ReservationStatus> statuses);
+
+    // 종료 시각이 지난 예약
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.date AS date,
+        r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.status = :status AND r.deletedAt IS NULL AND r.endAt <= :now
+    ORDER BY r.id ASC
+    """)
+    List<TimeSlotRow> findEndedTimeSlots(@Param("status") ReservationStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    // 시작 시각이 지난 예약
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.date AS date,
+        r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.status = :status AND r.deletedAt IS NULL AND r.startAt <= :now
+    ORDER BY r.id ASC
+    """)
+    List<TimeSlotRow> findStartedTimeSlots(@Param("status") ReservationStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    // start_at 이 비어 있는 예약 (컬럼 도입 이전 데이터)
+    List<Reservation> findByStartAtIsNullOrderByIdAsc(Pageable pageable);
+
+    // 조회 이후 다른 곳에서 상태가 바뀐 예약은 건드리지 않는다
+    @Modifying
+    @Query("""
+    UPDATE Reservation r SET r.status = :to, r.updatedAt = :updatedAt, r.version = r.version + 1
+    WHERE r.id IN :ids AND r.status = :from
+    """)
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+            @Param("from") ReservationStatus from,
+            @Param("to") ReservationStatus to,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 일괄 상태 변경 대상. 요청한 호스트의 예약만 잠가 조회와 UPDATE 사이에 상태가 바뀌지 않게 하고,
+    // 변경은 벌크 UPDATE 로 하므로 변경 감지에서 빠지도록 읽기 전용으로 가져온다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.host.id = :hostId ORDER BY r.id ASC")
+    List<Reservation> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids,
+            @Param("hostId") Long hostId);
+
+    // 상태 전환 직전에 아직 그 상태인 예약만 잠가, 뒤따르는 UPDATE 가 정확히 이 예약들에만 적용되게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.status = :status ORDER BY r.id ASC")
+    List<Reservation> findAllByIdInAndStatusForUpdate(@Param("ids") Collection<Long> ids,
+            @Param("status") ReservationStatus status);
+
+    // 잠금 없이 존재 여부만. 일괄 변경에서 잠그지 못한 id 가 없는 예약인지 다른 호스트의 예약인지 가린다
+    @Query("SELECT r.id FROM Reservation r WHERE r.id IN :ids AND r.deletedAt IS NULL")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 보관 대상: 오래전에 끝난 완료·거절·취소 예약. 리뷰가 참조하는 예약은 외래 키가 깨지지 않도록 남긴다
+    @Query("""
+    SELECT r.id FROM Reservation r
+    WHERE r.endAt < :cutoff
+    AND (r.status IN :statuses OR r.deletedAt IS NOT NULL)
+    AND NOT EXISTS (SELECT rev.id FROM Review rev WHERE rev.reservation = r)
+    ORDER BY r.id ASC
+    """)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            Pageable pageable);
+
+    // 호스트의 승인·거절. 예약이 이 호스트의 이 공간 것이고 from 상태일 때만 바뀐다
+    @Modifying
+    @Query("""
+    UPDATE Reservation r SET r.status = :to, r.updatedAt = :updatedAt, r.version = r.version + 1
+    WHERE r.id = :id AND r.host.id = :hostId AND r.space.id = :spaceId
+    AND r.status = :from AND r.deletedAt IS NULL
+    """)
+    int transitionByHost(@Param("id") Long id,
+            @Param("hostId") Long hostId,
+            @Param("spaceId") Long spaceId,
+            @Param("from") ReservationStatus from,
+            @Param("to") ReservationStatus to,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 게스트 취소. 본인 예약이고 from 상태일 때만 바뀌며 삭제 표시도 함께 한다
+    @Modifying
+    @Query("""
+    UPDATE Reservation r SET r.status = :to, r.deletedAt = :updatedAt, r.updatedAt = :updatedAt,
+        r.version = r.version + 1
+    WHERE r.id = :id AND r.guest.id = :guestId
+    AND r.status = :from AND r.deletedAt IS NULL
+    """)
+    int cancelByGuest(@Param("id") Long id,
+            @Param("guestId") Long guestId,
+            @Param("from") ReservationStatus from,
+            @Param("to") ReservationStatus to,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
     List<Reservation> findBySpaceIdAndDateAndStatusNot(Long spaceId, LocalDate date,
                                                        ReservationStatus status);
 
+    // 시간 칸을 차지하고 있는 예약. 삭제되거나 거절된 예약은 뺀다.
+    // 빈 시간 조회, 선점, 예약 판정이 모두 이 기준으로 겹침을 본다
+    @Query("""
+    SELECT r FROM Reservation r
+    WHERE r.space.id = :spaceId AND r.date = :date
+    AND r.status <> com.beour.reservation.commons.enums.ReservationStatus.REJECTED
+    AND r.deletedAt IS NULL
+    """)
+    List<Reservation> findActiveBySpaceIdAndDate(@Param("spaceId") Long spaceId,
+            @Param("date") LocalDate date);
+
+    @Query("""
+    SELECT r FROM Reservation r
+    WHERE r.space.id = :spaceId AND r.date BETWEEN :from AND :to
+    AND r.status <> com.beour.reservation.commons.enums.ReservationStatus.REJECTED
+    AND r.deletedAt IS NULL
+    """)
+    List<Reservation> findActiveBySpaceIdAndDateBetween(@Param("spaceId") Long spaceId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
     Page<Reservation> findByGuestIdAndStatus(Long guestId, ReservationStatus status, Pageable pageable);
 
-    @Query("SELECT r FROM Reservation r JOIN FETCH r.space " +
-            "WHERE r.guest.id = :guestId AND " +
-            "(r.date > :today OR (r.date = :today AND r.endTime > :now))")
+    @Query(value = "SELECT r FROM Reservation r JOIN FETCH r.space " +
+            "WHERE r.guest.id = :guestId AND r.endAt > :now",
+            countQuery = "SELECT COUNT(r) FROM Reservation r " +
+            "WHERE r.guest.id = :guestId AND r.endAt > :now")
     Page<Reservation> findUpcomingReservationsByGuest(
             @Param("guestId") Long guestId,
-            @Param("today") LocalDate today,
-            @Param("now") LocalTime now,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 공간 정보와 리뷰 id 를 한 번에 가져온다
+    @Query(value = """
+    SELECT r.id AS reservationId, s.name AS spaceName, s.thumbnailUrl AS spaceThumbnailUrl,
+        r.date AS date, r.startTime AS startTime, r.endTime AS endTime,
+        r.price AS price, r.guestCount AS guestCount, r.status AS status,
+        r.usagePurpose AS usagePurpose, r.requestMessage AS requestMessage, rev.id AS reviewId
+    FROM Reservation r
+    JOIN r.space s
+    LEFT JOIN Review rev ON rev.reservation = r AND rev.deletedAt IS NULL
+    WHERE r.guest.id = :guestId AND r.endAt <= :now
+    """,
+        countQuery = """
+    SELECT COUNT(r) FROM Reservation r
+    WHERE r.guest.id = :guestId AND r.endAt <= :now
+    """)
+    Page<PastReservationRow> findPastReservationsByGuest(
+            @Param("guestId") Long guestId,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 커서 모드: (startAt, id) 오름차순
+    @Query("""
+    SELECT r FROM Reservation r JOIN FETCH r.space
+    WHERE r.guest.id = :guestId AND r.endAt > :now
+    AND (:cursorId IS NULL OR r.startAt > :cursorAt
+        OR (r.startAt = :cursorAt AND r.id > :cursorId))
+    ORDER BY r.startAt ASC, r.id ASC
+    """)
+    List<Reservation> findUpcomingReservationsByGuestAfter(
+            @Param("guestId") Long guestId,
+            @Param("now") LocalDateTime now,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
             Pageable pageable
     );
 
-    @Query("SELECT r FROM Reservation r " +
-            "WHERE r.guest.id = :guestId AND " +
-            "(r.date < :today OR (r.date = :today AND r.endTime <= :now))")
-    Page<Reservation> findPastReservationsByGuest(
+    // 커서 모드: (startAt, id) 내림차순
+    @Query("""
+    SELECT r.id AS reservationId, s.name AS spaceName, s.thumbnailUrl AS spaceThumbnailUrl,
+        r.date AS date, r.startTime AS startTime, r.endTime AS endTime,
+        r.price AS price, r.guestCount AS guestCount, r.status AS status,
+        r.usagePurpose AS usagePurpose, r.requestMessage AS requestMessage, rev.id AS reviewId
+    FROM Reservation r
+    JOIN r.space s
+    LEFT JOIN Review rev ON rev.reservation = r AND rev.deletedAt IS NULL
+    WHERE r.guest.id = :guestId AND r.endAt <= :now
+    AND (:cursorId IS NULL OR r.startAt < :cursorAt
+        OR (r.startAt = :cursorAt AND r.id < :cursorId))
+    ORDER BY r.startAt DESC, r.id DESC
+    """)
+    List<PastReservationRow> findPastReservationsByGuestAfter(
             @Param("guestId") Long guestId,
-            @Param("today") LocalDate today,
-            @Param("now") LocalTime now,
+            @Param("now") LocalDateTime now,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
             Pageable pageable
     );
 
+    @Query("""
+    SELECT r FROM Reservation r JOIN FETCH r.space
+    WHERE r.guest.id = :guestId AND r.status = :status
+    AND (:cursorId IS NULL OR r.id < :cursorId)
+    ORDER BY r.id DESC
+    """)
+    List<Reservation> findByGuestIdAndStatusAfter(@Param("guestId") Long guestId,
+            @Param("status") ReservationStatus status,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     @Query("""
     SELECT r FROM Reservation r
     JOIN FETCH r.space
@@ -56,17 +294,49 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("SELECT r FROM Reservation r JOIN FETCH r.space WHERE r.guest.id = :guestId AND r.status = 'COMPLETED' AND r.deletedAt IS NULL")
     List<Reservation> findCompletedReservationsWithSpaceByGuestId(@Param("guestId") Long guestId);
 
-    List<Reservation> findByHostIdAndDateAndDeletedAtIsNull(Long hostId, LocalDate date);
-    List<Reservation> findByHostIdAndDateAndSpaceIdAndDeletedAtIsNull(Long hostId, LocalDate date, Long spaceId);
-    List<Reservation> findByHostIdAndDateAndStatusAndDeletedAtIsNull(Long hostId, LocalDate date, ReservationStatus status);
-    List<Reservation> findByHostIdAndDateAndSpaceIdAndStatusAndDeletedAtIsNull(Long hostId, LocalDate date, Long spaceId, ReservationStatus status);
-    List<Reservation> findBySpaceIdAndDeletedAtIsNull(Long spaceId);
-
-    // 페이징을 위한 새로운 메서드들 추가
-    Page<Reservation> findByHostIdAndDateAndDeletedAtIsNullOrderByStartTime(Long hostId, LocalDate date, Pageable pageable);
-    Page<Reservation> findByHostIdAndDateAndSpaceIdAndDeletedAtIsNullOrderByStartTime(Long hostId, LocalDate date, Long spaceId, Pageable pageable);
-    Page<Reservation> findByHostIdAndDateAndStatusAndDeletedAtIsNullOrderByStartTime(Long hostId, LocalDate date, ReservationStatus status, Pageable pageable);
-    Page<Reservation> findByHostIdAndDateAndSpaceIdAndStatusAndDeletedAtIsNullOrderByStartTime(Long hostId, LocalDate date, Long spaceId, ReservationStatus status, Pageable pageable);
+    // 호스트 달력. spaceId 가 null 이면 전체 공간, [from, to] 날짜의 statuses 상태 예약을 (date, startTime, id) 순으로
+    @Query(value = """
+    SELECT r FROM Reservation r
+    JOIN FETCH r.guest
+    JOIN FETCH r.space
+    WHERE r.host.id = :hostId AND r.date BETWEEN :from AND :to
+    AND r.status IN :statuses AND r.deletedAt IS NULL
+    AND (:spaceId IS NULL OR r.space.id = :spaceId)
+    ORDER BY r.date ASC, r.startTime ASC, r.id ASC
+    """,
+        countQuery = """
+    SELECT COUNT(r) FROM Reservation r
+    WHERE r.host.id = :hostId AND r.date BETWEEN :from AND :to
+    AND r.status IN :statuses AND r.deletedAt IS NULL
+    AND (:spaceId IS NULL OR r.space.id = :spaceId)
+    """)
+    Page<Reservation> findHostCalendarReservations(@Param("hostId") Long hostId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("spaceId") Long spaceId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            Pageable pageable);
+
+    // 커서 모드: spaceId 가 null 이면 전체 공간, [from, to) 에 시작하는 statuses 상태 예약을 (startAt, id) 오름차순
+    @Query("""
+    SELECT r FROM Reservation r
+    JOIN FETCH r.guest
+    JOIN FETCH r.space
+    WHERE r.host.id = :hostId AND r.startAt >= :from AND r.startAt < :to AND r.deletedAt IS NULL
+    AND (:spaceId IS NULL OR r.space.id = :spaceId)
+    AND r.status IN :statuses
+    AND (:cursorId IS NULL OR r.startAt > :cursorAt
+        OR (r.startAt = :cursorAt AND r.id > :cursorId))
+    ORDER BY r.startAt ASC, r.id ASC
+    """)
+    List<Reservation> findHostCalendarReservationsAfter(@Param("hostId") Long hostId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("spaceId") Long spaceId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
     List<Reservation> findByHostIdAndStatusInAndDeletedAtIsNull(Long hostId,
                                                                 List<ReservationStatus> statuses);
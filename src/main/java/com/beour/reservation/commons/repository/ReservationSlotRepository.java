@@ -0,0 +1,32 @@
+package com.beour.reservation.commons.repository;
+
+import com.beour.reservation.commons.entity.ReservationSlot;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    List<ReservationSlot> findByReservationId(Long reservationId);
+
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservationId IN :reservationIds")
+    int deleteByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+
+    // 주어진 예약 중 status 상태인 예약의 점유 행만 지운다
+    @Modifying
+    @Query("""
+        DELETE FROM ReservationSlot s WHERE s.reservationId IN (
+            SELECT r.id FROM Reservation r WHERE r.id IN :reservationIds AND r.status = :status)
+        """)
+    int deleteByReservationIdInAndStatus(@Param("reservationIds") Collection<Long> reservationIds,
+        @Param("status") ReservationStatus status);
+}
@@ -0,0 +1,147 @@
+package com.beour.reservation.commons.rollup;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.space.domain.repository.TimeSlotRow;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 상태가 바뀌면 (공간, 날짜) 집계 행에 전환 전후 기여분의 차이만 더한다.
+ * 대기 예약은 대기 건수에, 승인·완료 예약은 승인 건수·이용 시간·매출에 기여하고 거절·취소된 예약은 기여하지 않는다.
+ * 따라서 승인 → 완료 전환은 집계를 바꾸지 않는다. 호출한 쪽의 트랜잭션 안에서 함께 커밋된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationRollupRecorder {
+
+    private final SpaceDailyRollupRepository spaceDailyRollupRepository;
+    private final ReservationRepository reservationRepository;
+
+    public void recordCreated(Reservation reservation) {
+        recordTransition(reservation, null);
+    }
+
+    // from: 전환 전 상태. 새 예약이면 null
+    public void recordTransition(Reservation reservation, ReservationStatus from) {
+        ReservationStatus to = reservation.getStatus();
+        int accepted = acceptedWeight(to) - acceptedWeight(from);
+        int pending = pendingWeight(to) - pendingWeight(from);
+        if (accepted == 0 && pending == 0) {
+            return;
+        }
+
+        Long spaceId = reservation.getSpace().getId();
+        ensureRow(spaceId, reservation.getHost().getId(), reservation.getDate());
+        spaceDailyRollupRepository.addDelta(spaceId, reservation.getDate(),
+            accepted * usageHours(reservation), accepted, pending,
+            (long) accepted * reservation.getPrice());
+    }
+
+    // 같은 상태에서 함께 전환된 예약들. (공간, 날짜)마다 차이를 합쳐 한 번씩 더한다
+    public void recordBulkTransition(List<Reservation> reservations, ReservationStatus from) {
+        Map<Long, Map<LocalDate, DayDelta>> deltas = new TreeMap<>();
+        for (Reservation reservation : reservations) {
+            int accepted = acceptedWeight(reservation.getStatus()) - acceptedWeight(from);
+            int pending = pendingWeight(reservation.getStatus()) - pendingWeight(from);
+            if (accepted == 0 && pending == 0) {
+                continue;
+            }
+
+            deltas.computeIfAbsent(reservation.getSpace().getId(), key -> new TreeMap<>())
+                .computeIfAbsent(reservation.getDate(),
+                    key -> new DayDelta(reservation.getHost().getId()))
+                .add(accepted * usageHours(reservation), accepted, pending,
+                    (long) accepted * reservation.getPrice());
+        }
+
+        deltas.forEach((spaceId, byDate) -> byDate.forEach((date, delta) -> {
+            ensureRow(spaceId, delta.hostId, date);
+            spaceDailyRollupRepository.addDelta(spaceId, date, delta.bookedHours,
+                delta.acceptedCount, delta.pendingCount, delta.revenue);
+        }));
+    }
+
+    // 시작 시각까지 승인되지 않아 거절된 대기 예약. 행이 없던 날은 예약 테이블에서 다시 센다
+    public void recordExpiredPending(List<TimeSlotRow> rows) {
+        Map<Long, Map<LocalDate, Integer>> counts = new TreeMap<>();
+        for (TimeSlotRow row : rows) {
+            counts.computeIfAbsent(row.getSpaceId(), key -> new TreeMap<>())
+                .merge(row.getDate(), 1, Integer::sum);
+        }
+
+        counts.forEach((spaceId, byDate) -> byDate.forEach((date, count) -> {
+            if (spaceDailyRollupRepository.addDelta(spaceId, date, 0, 0, -count, 0) == 0) {
+                rebuild(spaceId, date);
+            }
+        }));
+    }
+
+    // 예약 테이블에서 그날 집계를 다시 계산해 덮어쓴다
+    public void rebuild(Long spaceId, LocalDate date) {
+        List<Reservation> reservations = reservationRepository.findBySpaceIdAndDateAndDeletedAtIsNull(
+            spaceId, date);
+
+        int bookedHours = 0;
+        int acceptedCount = 0;
+        int pendingCount = 0;
+        long revenue = 0;
+        for (Reservation reservation : reservations) {
+            int accepted = acceptedWeight(reservation.getStatus());
+            bookedHours += accepted * usageHours(reservation);
+            acceptedCount += accepted;
+            pendingCount += pendingWeight(reservation.getStatus());
+            revenue += (long) accepted * reservation.getPrice();
+        }
+
+        if (!reservations.isEmpty()) {
+            ensureRow(spaceId, reservations.get(0).getHost().getId(), date);
+        }
+        spaceDailyRollupRepository.overwrite(spaceId, date, bookedHours, acceptedCount,
+            pendingCount, revenue);
+    }
+
+    // 호출한 쪽의 트랜잭션 안에서 행을 만든다. 동시에 만든 쪽이 있어도 유니크 키에서 예외 없이 넘어가고,
+    // 잠금 읽기로 최신 행을 보므로 바로 뒤의 addDelta 가 그 행에 더한다
+    private void ensureRow(Long spaceId, Long hostId, LocalDate date) {
+        spaceDailyRollupRepository.insertIfAbsent(spaceId, hostId, date);
+    }
+
+    private static int usageHours(Reservation reservation) {
+        return Integer.bitCount(HourSlots.of(reservation.getStartTime(), reservation.getEndTime()));
+    }
+
+    private static int acceptedWeight(ReservationStatus status) {
+        return status == ReservationStatus.ACCEPTED || status == ReservationStatus.COMPLETED ? 1 : 0;
+    }
+
+    private static int pendingWeight(ReservationStatus status) {
+        return status == ReservationStatus.PENDING ? 1 : 0;
+    }
+
+    private static final class DayDelta {
+
+        private final Long hostId;
+        private int bookedHours;
+        private int acceptedCount;
+        private int pendingCount;
+        private long revenue;
+
+        private DayDelta(Long hostId) {
+            this.hostId = hostId;
+        }
+
+        private void add(int bookedHours, int acceptedCount, int pendingCount, long revenue) {
+            this.bookedHours += bookedHours;
+            this.acceptedCount += acceptedCount;
+            this.pendingCount += pendingCount;
+            this.revenue += revenue;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.beour.reservation.commons.rollup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 공간별 하루 예약 집계. 승인·완료 예약의 이용 시간, 건수, 매출과 대기 건수를 예약 상태 전환 때마다 갱신한다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "space_daily_rollup",
+    uniqueConstraints = @UniqueConstraint(name = "uk_space_daily_rollup_space_date",
+        columnNames = {"space_id", "date"}),
+    indexes = @Index(name = "idx_space_daily_rollup_host_date", columnList = "host_id, date"))
+public class SpaceDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "space_id", nullable = false)
+    private Long spaceId;
+
+    @Column(name = "host_id", nullable = false)
+    private Long hostId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    private int bookedHours;
+    private int acceptedCount;
+    private int pendingCount;
+    private long revenue;
+
+    @Builder
+    private SpaceDailyRollup(Long spaceId, Long hostId, LocalDate date) {
+        this.spaceId = spaceId;
+        this.hostId = hostId;
+        this.date = date;
+    }
+}
@@ -0,0 +1,68 @@
+package com.beour.reservation.commons.rollup;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpaceDailyRollupRepository extends JpaRepository<SpaceDailyRollup, Long> {
+
+    // 행이 없을 때만 0 으로 만든다. 이미 있으면 (space_id, date) 유니크 키에 걸려 아무것도 바꾸지 않는다
+    @Modifying
+    @Query(value = """
+    INSERT INTO space_daily_rollup (space_id, host_id, date, booked_hours, accepted_count,
+        pending_count, revenue)
+    VALUES (:spaceId, :hostId, :date, 0, 0, 0, 0)
+    ON DUPLICATE KEY UPDATE space_id = space_id
+    """, nativeQuery = true)
+    void insertIfAbsent(@Param("spaceId") Long spaceId,
+            @Param("hostId") Long hostId,
+            @Param("date") LocalDate date);
+
+    // 행 잠금 안에서 더하므로 같은 날 동시 전환도 누락되지 않는다
+    @Modifying
+    @Query("""
+    UPDATE SpaceDailyRollup d
+    SET d.bookedHours = d.bookedHours + :bookedHours,
+        d.acceptedCount = d.acceptedCount + :acceptedCount,
+        d.pendingCount = d.pendingCount + :pendingCount,
+        d.revenue = d.revenue + :revenue
+    WHERE d.spaceId = :spaceId AND d.date = :date
+    """)
+    int addDelta(@Param("spaceId") Long spaceId,
+            @Param("date") LocalDate date,
+            @Param("bookedHours") int bookedHours,
+            @Param("acceptedCount") int acceptedCount,
+            @Param("pendingCount") int pendingCount,
+            @Param("revenue") long revenue);
+
+    @Modifying
+    @Query("""
+    UPDATE SpaceDailyRollup d
+    SET d.bookedHours = :bookedHours,
+        d.acceptedCount = :acceptedCount,
+        d.pendingCount = :pendingCount,
+        d.revenue = :revenue
+    WHERE d.spaceId = :spaceId AND d.date = :date
+    """)
+    int overwrite(@Param("spaceId") Long spaceId,
+            @Param("date") LocalDate date,
+            @Param("bookedHours") int bookedHours,
+            @Param("acceptedCount") int acceptedCount,
+            @Param("pendingCount") int pendingCount,
+            @Param("revenue") long revenue);
+
+    // spaceId 가 null 이면 호스트의 전체 공간
+    @Query("""
+    SELECT d FROM SpaceDailyRollup d
+    WHERE d.hostId = :hostId AND d.date BETWEEN :from AND :to
+    AND (:spaceId IS NULL OR d.spaceId = :spaceId)
+    ORDER BY d.date ASC
+    """)
+    List<SpaceDailyRollup> findHostRange(@Param("hostId") Long hostId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("spaceId") Long spaceId);
+}
@@ -0,0 +1,10 @@
+package com.beour.reservation.commons.rollup;
+
+import java.time.LocalDate;
+
+public interface SpaceDayRow {
+
+    Long getSpaceId();
+
+    LocalDate getDate();
+}
@@ -0,0 +1,48 @@
+package com.beour.reservation.commons.slot;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.ReservationSlot;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 칸 테이블 도입 이전에 생성된 대기/승인 예약의 점유 행을 채운다. 이미 겹쳐 있던 예약은 로그만 남긴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotBackfiller {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Reservation> reservations = reservationRepository.findUnclaimedReservationsFrom(
+            LocalDate.now(), List.of(ReservationStatus.PENDING, ReservationStatus.ACCEPTED));
+
+        int claimed = 0;
+        for (Reservation reservation : reservations) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    reservationSlotRepository.saveAllAndFlush(ReservationSlot.claimsOf(reservation)));
+                claimed++;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("예약 시간 칸 점유 실패 (기존 중복 예약): reservationId={}", reservation.getId());
+            }
+        }
+
+        if (!reservations.isEmpty()) {
+            log.info("예약 시간 칸 점유 행 생성 완료: {}/{}건", claimed, reservations.size());
+        }
+    }
+}
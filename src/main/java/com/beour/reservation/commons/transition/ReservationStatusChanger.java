@@ -0,0 +1,49 @@
+package com.beour.reservation.commons.transition;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationTransition;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 한 건의 상태를 조건부 UPDATE 로 바꾼다. 상태·소유자 조건이 맞아 한 행이 바뀐 경우에만 전환된 예약을 돌려주고,
+ * 아니면 빈 값을 돌려주어 실패 사유 확인은 호출한 쪽에 맡긴다. 호출한 쪽의 트랜잭션 안에서 실행된다.
+ * 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 색인과 달력 캐시 갱신도 호출한 쪽에서 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationStatusChanger {
+
+    private final ReservationRepository reservationRepository;
+    private final EntityManager entityManager;
+
+    public Optional<Reservation> changeByHost(Long reservationId, Long hostId, Long spaceId,
+        ReservationTransition transition) {
+        int updated = reservationRepository.transitionByHost(reservationId, hostId, spaceId,
+            transition.getFrom(), transition.getTo(), LocalDateTime.now());
+
+        return updated == 1 ? Optional.of(reload(reservationId, transition)) : Optional.empty();
+    }
+
+    public Optional<Reservation> cancelByGuest(Long reservationId, Long guestId) {
+        ReservationTransition transition = ReservationTransition.CANCEL;
+        int updated = reservationRepository.cancelByGuest(reservationId, guestId,
+            transition.getFrom(), transition.getTo(), LocalDateTime.now());
+
+        return updated == 1 ? Optional.of(reload(reservationId, transition)) : Optional.empty();
+    }
+
+    // 같은 영속성 컨텍스트에 UPDATE 이전 상태로 올라와 있던 예약만 다시 읽는다
+    private Reservation reload(Long reservationId, ReservationTransition transition) {
+        Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+        if (reservation.getStatus() != transition.getTo()) {
+            entityManager.refresh(reservation);
+        }
+
+        return reservation;
+    }
+}
@@ -0,0 +1,93 @@
+package com.beour.reservation.guest.booking;
+
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.exceptionType.ServiceUnavailableException;
+import com.beour.reservation.guest.dto.ReservationCreateRequest;
+import com.beour.reservation.guest.dto.ReservationResponseDto;
+import com.beour.user.entity.User;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+// 레인에 쌓이는 예약 요청 한 건. 요청 스레드는 처리 결과가 나올 때까지 기다린다.
+// 레인이 판정을 시작하며 요청을 차지(claim)하면 결과가 정해질 때까지 요청 스레드는 포기하지 않는다
+@Getter
+class BookingRequest {
+
+    private enum State { WAITING, CLAIMED, ABANDONED }
+
+    private final Long spaceId;
+    private final User guest;
+    private final ReservationCreateRequest request;
+    private final String holdId;
+    private final CompletableFuture<ReservationResponseDto> result = new CompletableFuture<>();
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<State> state = new AtomicReference<>(State.WAITING);
+
+    BookingRequest(Long spaceId, User guest, ReservationCreateRequest request, String holdId) {
+        this.spaceId = spaceId;
+        this.guest = guest;
+        this.request = request;
+        this.holdId = holdId;
+    }
+
+    // 레인이 판정과 커밋을 맡는다. 요청 스레드가 이미 포기했으면 false 이고 레인은 이 요청을 건너뛴다
+    boolean claim() {
+        return state.compareAndSet(State.WAITING, State.CLAIMED);
+    }
+
+    void complete(Long reservationId) {
+        result.complete(ReservationResponseDto.builder()
+            .id(reservationId)
+            .build());
+    }
+
+    void fail(RuntimeException exception) {
+        result.completeExceptionally(exception);
+    }
+
+    // 레인에서 던진 예외를 요청 스레드에서 그대로 다시 던진다.
+    // 제한 시간 안에 결과가 없을 때 레인이 아직 차지하지 않았으면 포기하고 503 으로 끝낸다.
+    // 이미 차지했다면 커밋 여부가 정해질 때까지 끝까지 기다린다
+    ReservationResponseDto await(long timeoutMillis) {
+        boolean interrupted = false;
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandonOrWait();
+        } catch (InterruptedException e) {
+            interrupted = true;
+            abandonOrWait();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private void abandonOrWait() {
+        if (state.compareAndSet(State.WAITING, State.ABANDONED)) {
+            fail(new ServiceUnavailableException(ReservationErrorCode.BOOKING_TIMEOUT));
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+}
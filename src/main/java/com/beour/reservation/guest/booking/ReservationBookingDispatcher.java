@@ -0,0 +1,95 @@
+package com.beour.reservation.guest.booking;
+
+import com.beour.reservation.guest.dto.ReservationCreateRequest;
+import com.beour.reservation.guest.dto.ReservationResponseDto;
+import com.beour.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 생성 요청을 공간 id 로 나눈 레인에 넣는다. 레인마다 스레드 하나가 도착 순서대로 처리하므로
+ * 같은 공간의 요청끼리는 DB 에서 경합하지 않고 메모리에서 판정되며, 다른 레인의 공간은 병렬로 처리된다.
+ */
+@Slf4j
+@Component
+public class ReservationBookingDispatcher {
+
+    private final ReservationBookingProcessor reservationBookingProcessor;
+    private final int batchSize;
+    private final long waitMillis;
+    private final List<Lane> lanes = new ArrayList<>();
+
+    public ReservationBookingDispatcher(ReservationBookingProcessor reservationBookingProcessor,
+        @Value("${reservation.booking.lanes:8}") int laneCount,
+        @Value("${reservation.booking.batch-size:16}") int batchSize,
+        @Value("${reservation.booking.wait-millis:10000}") long waitMillis) {
+        this.reservationBookingProcessor = reservationBookingProcessor;
+        this.batchSize = batchSize;
+        this.waitMillis = waitMillis;
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new Lane(i));
+        }
+    }
+
+    public ReservationResponseDto book(Long spaceId, User guest, ReservationCreateRequest request,
+        String holdId) {
+        BookingRequest booking = new BookingRequest(spaceId, guest, request, holdId);
+        lanes.get(Math.floorMod(spaceId.hashCode(), lanes.size())).queue.add(booking);
+
+        return booking.await(waitMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Lane lane : lanes) {
+            lane.thread.interrupt();
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<BookingRequest> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+
+        private Lane(int index) {
+            this.thread = new Thread(this, "booking-lane-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<BookingRequest> batch = new ArrayList<>(batchSize);
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                // 쌓여 있던 요청은 한 번에 판정하고 한 트랜잭션으로 커밋
+                queue.drainTo(batch, batchSize - 1);
+
+                // 어떤 오류든 레인 스레드는 살아 있어야 하고, 기다리는 요청은 모두 끝내야 한다
+                try {
+                    reservationBookingProcessor.process(batch);
+                } catch (Throwable e) {
+                    log.error("예약 배치 처리 실패", e);
+                    RuntimeException failure = e instanceof RuntimeException runtimeException
+                        ? runtimeException : new IllegalStateException("예약 처리 중 오류가 발생했습니다.", e);
+                    batch.forEach(booking -> booking.fail(failure));
+                }
+            }
+
+            for (BookingRequest booking : queue) {
+                booking.fail(new IllegalStateException("예약 처리기가 종료되었습니다."));
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.beour.reservation.guest.booking;
+
+import com.beour.global.exception.error.errorcode.AvailableTimeErrorCode;
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.error.errorcode.SpaceErrorCode;
+import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
+import com.beour.global.exception.exceptionType.MissMatch;
+import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.ReservationSlot;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.event.ReservationEventPublisher;
+import com.beour.reservation.commons.event.ReservationEventType;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.commons.rollup.ReservationRollupRecorder;
+import com.beour.reservation.guest.dto.ReservationCreateRequest;
+import com.beour.reservation.guest.hold.SlotHold;
+import com.beour.reservation.guest.hold.SlotHoldStore;
+import com.beour.reservation.guest.service.CheckAvailableTimeService;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 한 레인에 쌓인 예약 요청을 도착 순서대로 판정하고, 통과한 요청을 한 트랜잭션으로 커밋
+@Component
+@RequiredArgsConstructor
+public class ReservationBookingProcessor {
+
+    private final SpaceRepository spaceRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final CheckAvailableTimeService checkAvailableTimeService;
+    private final SlotHoldStore slotHoldStore;
+    private final ReservationRollupRecorder reservationRollupRecorder;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    void process(List<BookingRequest> batch) {
+        Map<Long, Space> spaces = new HashMap<>();
+        // (공간, 날짜) 별 점유된 시간. DB 의 예약에 이번 배치에서 먼저 통과한 요청을 더해 간다
+        Map<Long, Map<LocalDate, Integer>> reservedMasks = new HashMap<>();
+        List<Reservation> accepted = new ArrayList<>();
+        List<BookingRequest> acceptedRequests = new ArrayList<>();
+
+        for (BookingRequest booking : batch) {
+            // 차지한 요청은 이 메서드가 끝나기 전에 반드시 성공이나 실패로 끝낸다
+            if (!booking.claim()) {
+                continue;
+            }
+
+            try {
+                Space space = spaces.computeIfAbsent(booking.getSpaceId(), this::findSpace);
+                ReservationCreateRequest request = booking.getRequest();
+                checkPriceCorrect(request, space);
+                checkValidCapacity(request, space);
+
+                int window = HourSlots.of(request.getStartTime(), request.getEndTime());
+                Map<LocalDate, Integer> spaceMasks = reservedMasks.computeIfAbsent(space.getId(),
+                    key -> new HashMap<>());
+                if (booking.getHoldId() != null) {
+                    // 선점할 때 운영 시간과 겹침을 이미 확인했으므로 선점이 유효한지만 본다
+                    checkHold(booking);
+                    spaceMasks.computeIfPresent(request.getDate(), (date, reserved) -> reserved | window);
+                } else {
+                    checkReservationAvailableDate(request, space);
+                    int reserved = spaceMasks.computeIfAbsent(request.getDate(),
+                        date -> findReservedMask(space.getId(), date));
+                    int held = slotHoldStore.heldMask(space.getId(), request.getDate(),
+                        booking.getGuest().getId());
+                    if (HourSlots.overlaps(reserved | held, window)) {
+                        throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
+                    }
+                    spaceMasks.put(request.getDate(), reserved | window);
+                }
+
+                accepted.add(toReservation(booking, space));
+                acceptedRequests.add(booking);
+            } catch (RuntimeException e) {
+                booking.fail(e);
+            }
+        }
+
+        commit(accepted, acceptedRequests);
+    }
+
+    // 다른 인스턴스에서 같은 칸을 먼저 점유했다면 배치 전체가 실패하므로 한 건씩 다시 커밋한다
+    private void commit(List<Reservation> reservations, List<BookingRequest> bookings) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> reservations.forEach(this::save));
+            for (int i = 0; i < reservations.size(); i++) {
+                complete(bookings.get(i), reservations.get(i));
+            }
+            return;
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            if (reservations.size() == 1) {
+                bookings.get(0).fail(new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE));
+                return;
+            }
+        }
+
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = copyOf(reservations.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> save(reservation));
+                complete(bookings.get(i), reservation);
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                bookings.get(i).fail(new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE));
+            }
+        }
+    }
+
+    // 예약으로 바뀐 선점은 바로 해제
+    private void complete(BookingRequest booking, Reservation reservation) {
+        if (booking.getHoldId() != null) {
+            slotHoldStore.release(booking.getHoldId());
+        }
+        booking.complete(reservation.getId());
+    }
+
+    private void checkHold(BookingRequest booking) {
+        ReservationCreateRequest request = booking.getRequest();
+        SlotHold hold = slotHoldStore.find(booking.getHoldId()).orElseThrow(
+            () -> new AvailableTimeNotFound(AvailableTimeErrorCode.HOLD_NOT_FOUND)
+        );
+
+        if (!hold.matches(booking.getGuest().getId(), booking.getSpaceId(), request.getDate(),
+            request.getStartTime(), request.getEndTime())) {
+            throw new MissMatch(AvailableTimeErrorCode.HOLD_MISMATCH);
+        }
+    }
+
+    // 점유 칸의 유니크 키가 최종 판정
+    private void save(Reservation reservation) {
+        reservationRepository.save(reservation);
+        reservationSlotRepository.saveAllAndFlush(ReservationSlot.claimsOf(reservation));
+        reservationRollupRecorder.recordCreated(reservation);
+        reservationEventPublisher.publish(reservation, ReservationEventType.CREATED);
+    }
+
+    private Space findSpace(Long spaceId) {
+        return spaceRepository.findById(spaceId).orElseThrow(
+            () -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND)
+        );
+    }
+
+    private int findReservedMask(Long spaceId, LocalDate date) {
+        return HourSlots.union(reservationRepository.findActiveBySpaceIdAndDate(spaceId, date),
+            Reservation::getStartTime, Reservation::getEndTime);
+    }
+
+    private static void checkValidCapacity(ReservationCreateRequest requestDto, Space space) {
+        if (requestDto.getGuestCount() > space.getMaxCapacity()) {
+            throw new MissMatch(ReservationErrorCode.INVALID_CAPACITY);
+        }
+    }
+
+    private static void checkPriceCorrect(ReservationCreateRequest requestDto, Space space) {
+        int hour = requestDto.getEndTime().getHour() - requestDto.getStartTime().getHour();
+        if (requestDto.getPrice() != space.getPricePerHour() * hour) {
+            throw new MissMatch(ReservationErrorCode.INVALID_PRICE);
+        }
+    }
+
+    private void checkReservationAvailableDate(ReservationCreateRequest requestDto, Space space) {
+        int open = checkAvailableTimeService.checkReservationAvailableDateAndGetOpenMask(
+            space.getId(), requestDto.getDate());
+
+        if (requestDto.getDate().equals(LocalDate.now()) && requestDto.getStartTime()
+            .isBefore(LocalTime.now())) {
+            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
+        }
+
+        if (!HourSlots.covers(open,
+            HourSlots.of(requestDto.getStartTime(), requestDto.getEndTime()))) {
+            throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
+        }
+    }
+
+    private static Reservation toReservation(BookingRequest booking, Space space) {
+        ReservationCreateRequest requestDto = booking.getRequest();
+
+        return Reservation.builder()
+            .guest(booking.getGuest())
+            .host(space.getHost())
+            .space(space)
+            .status(ReservationStatus.PENDING)
+            .date(requestDto.getDate())
+            .startTime(requestDto.getStartTime())
+            .endTime(requestDto.getEndTime())
+            .price(requestDto.getPrice())
+            .guestCount(requestDto.getGuestCount())
+            .usagePurpose(requestDto.getUsagePurpose())
+            .requestMessage(requestDto.getRequestMessage())
+            .build();
+    }
+
+    // 롤백된 배치에서 id 가 채워진 엔티티는 다시 저장할 수 없으므로 새로 만든다
+    private static Reservation copyOf(Reservation reservation) {
+        return Reservation.builder()
+            .guest(reservation.getGuest())
+            .host(reservation.getHost())
+            .space(reservation.getSpace())
+            .status(reservation.getStatus())
+            .date(reservation.getDate())
+            .startTime(reservation.getStartTime())
+            .endTime(reservation.getEndTime())
+            .price(reservation.getPrice())
+            .guestCount(reservation.getGuestCount())
+            .usagePurpose(reservation.getUsagePurpose())
+            .requestMessage(reservation.getRequestMessage())
+            .build();
+    }
+}
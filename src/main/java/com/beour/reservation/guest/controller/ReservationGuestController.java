@@ -1,16 +1,23 @@
 package com.beour.reservation.guest.controller;
 
+import com.beour.global.idempotency.IdempotencyStore;
+import com.beour.global.pagination.CursorRequest;
 import com.beour.global.response.ApiResponse;
 import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.guest.dto.AvailabilityCalendarResponseDto;
 import com.beour.reservation.guest.dto.DetailReservationResponseDto;
 import com.beour.reservation.guest.dto.ReservationCreateRequest;
 import com.beour.reservation.guest.dto.ReservationListPageResponseDto;
 import com.beour.reservation.guest.dto.ReservationResponseDto;
+import com.beour.reservation.guest.dto.SlotHoldRequest;
+import com.beour.reservation.guest.dto.SlotHoldResponseDto;
 import com.beour.reservation.guest.dto.SpaceAvailableTimeResponseDto;
 import com.beour.reservation.guest.service.CheckAvailableTimeService;
 import com.beour.reservation.guest.service.ReservationGuestService;
+import com.beour.reservation.guest.service.SlotHoldService;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -19,6 +26,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,12 +36,32 @@ public class ReservationGuestController {
 
     private final ReservationGuestService reservationGuestService;
     private final CheckAvailableTimeService checkAvailableTimeService;
+    private final SlotHoldService slotHoldService;
+    private final IdempotencyStore idempotencyStore;
 
+    // 같은 Idempotency-Key 로 재시도하면 첫 응답을 그대로 돌려준다
     @PostMapping("/api/spaces/{spaceId}/reservations")
     public ApiResponse<ReservationResponseDto> createReservation(
         @PathVariable(value = "spaceId") Long spaceId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestParam(value = "holdId", required = false) String holdId,
         @Valid @RequestBody ReservationCreateRequest requestDto) {
-        return ApiResponse.ok(reservationGuestService.createReservation(spaceId, requestDto));
+        return ApiResponse.ok(idempotencyStore.execute("reservation:" + spaceId, idempotencyKey,
+            Arrays.asList(requestDto, holdId),
+            () -> reservationGuestService.createReservation(spaceId, requestDto, holdId)));
+    }
+
+    @PostMapping("/api/spaces/{spaceId}/holds")
+    public ApiResponse<SlotHoldResponseDto> holdSlots(
+        @PathVariable(value = "spaceId") Long spaceId,
+        @Valid @RequestBody SlotHoldRequest requestDto) {
+        return ApiResponse.ok(slotHoldService.holdSlots(spaceId, requestDto));
+    }
+
+    @DeleteMapping("/api/holds/{holdId}")
+    public ApiResponse<String> releaseHold(@PathVariable(value = "holdId") String holdId) {
+        slotHoldService.releaseHold(holdId);
+        return ApiResponse.ok("선점한 시간이 해제되었습니다.");
     }
 
     @GetMapping("/api/spaces/{spaceId}/available-times/date")
@@ -43,21 +71,48 @@ public class ReservationGuestController {
         return ApiResponse.ok(checkAvailableTimeService.findAvailableTime(spaceId, date));
     }
 
+    @GetMapping("/api/spaces/{spaceId}/available-times/calendar")
+    public ApiResponse<AvailabilityCalendarResponseDto> checkAvailabilityCalendar(
+        @PathVariable(value = "spaceId") Long spaceId,
+        @RequestParam(value = "from") LocalDate from,
+        @RequestParam(value = "to") LocalDate to) {
+        return ApiResponse.ok(checkAvailableTimeService.findAvailabilityCalendar(spaceId, from, to));
+    }
+
     @GetMapping("/api/reservations/current")
     public ApiResponse<ReservationListPageResponseDto> checkReservationList(
+        @RequestParam(value = "cursor", required = false) String cursor,
         @PageableDefault(size = 10) Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(reservationGuestService.findReservationList(cursorRequest));
+        }
+
         return ApiResponse.ok(reservationGuestService.findReservationList(pageable));
     }
 
     @GetMapping("/api/reservations/past")
     public ApiResponse<ReservationListPageResponseDto> checkPastReservationList(
+        @RequestParam(value = "cursor", required = false) String cursor,
         @PageableDefault(size = 10) Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(reservationGuestService.findPastReservationList(cursorRequest));
+        }
+
         return ApiResponse.ok(reservationGuestService.findPastReservationList(pageable));
     }
 
     @GetMapping("/api/reservations/status")
     public ApiResponse<ReservationListPageResponseDto> getCanceledReservations(
-        @RequestParam("status")ReservationStatus reservationStatus, @PageableDefault(size = 10) Pageable pageable) {
+        @RequestParam("status")ReservationStatus reservationStatus,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @PageableDefault(size = 10) Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(reservationGuestService.getCanceledReservations(cursorRequest, reservationStatus));
+        }
+
         return ApiResponse.ok(reservationGuestService.getCanceledReservations(pageable, reservationStatus));
     }
 
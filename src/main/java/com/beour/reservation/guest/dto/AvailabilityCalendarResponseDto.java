@@ -0,0 +1,38 @@
+package com.beour.reservation.guest.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class AvailabilityCalendarResponseDto {
+
+    private List<DayAvailability> days;
+
+    public AvailabilityCalendarResponseDto(List<DayAvailability> days) {
+        this.days = days;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class DayAvailability {
+
+        private LocalDate date;
+        private boolean open;
+        private int freeHourCount;
+        private LocalTime firstFreeTime;
+
+        @Builder
+        private DayAvailability(LocalDate date, boolean open, int freeHourCount,
+            LocalTime firstFreeTime) {
+            this.date = date;
+            this.open = open;
+            this.freeHourCount = freeHourCount;
+            this.firstFreeTime = firstFreeTime;
+        }
+    }
+}
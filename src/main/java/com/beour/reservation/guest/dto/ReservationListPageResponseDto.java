@@ -1,8 +1,10 @@
 package com.beour.reservation.guest.dto;
 
+import com.beour.global.pagination.CursorSlice;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -19,4 +21,15 @@ public class ReservationListPageResponseDto {
     private boolean last;
     private int totalPage;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ReservationListPageResponseDto(List<ReservationListResponseDto> reservations, boolean last, int totalPage) {
+        this(reservations, last, totalPage, null);
+    }
+
+    public static ReservationListPageResponseDto ofCursor(List<ReservationListResponseDto> reservations, CursorSlice<?> slice) {
+        return new ReservationListPageResponseDto(reservations, slice.isLast(), 0, slice.getNextCursor());
+    }
+
 }
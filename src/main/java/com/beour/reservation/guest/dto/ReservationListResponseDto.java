@@ -3,6 +3,7 @@ package com.beour.reservation.guest.dto;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.PastReservationRow;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import lombok.Builder;
@@ -65,20 +66,20 @@ public class ReservationListResponseDto {
             .build();
     }
 
-    public static ReservationListResponseDto of(Reservation reservation, Long reviewId) {
+    public static ReservationListResponseDto of(PastReservationRow row) {
         return ReservationListResponseDto.builder()
-            .reservationId(reservation.getId())
-            .spaceName(reservation.getSpace().getName())
-            .spaceThumbImageUrl(reservation.getSpace().getThumbnailUrl())
-            .date(reservation.getDate())
-            .startTime(reservation.getStartTime())
-            .endTime(reservation.getEndTime())
-            .price(reservation.getPrice())
-            .guestCount(reservation.getGuestCount())
-            .status(reservation.getStatus().getText())
-            .usagePurpose(reservation.getUsagePurpose().getText())
-            .requestMessage(reservation.getRequestMessage())
-            .reviewId(reviewId)
+            .reservationId(row.getReservationId())
+            .spaceName(row.getSpaceName())
+            .spaceThumbImageUrl(row.getSpaceThumbnailUrl())
+            .date(row.getDate())
+            .startTime(row.getStartTime())
+            .endTime(row.getEndTime())
+            .price(row.getPrice())
+            .guestCount(row.getGuestCount())
+            .status(row.getStatus().getText())
+            .usagePurpose(row.getUsagePurpose().getText())
+            .requestMessage(row.getRequestMessage())
+            .reviewId(row.getReviewId() == null ? 0L : row.getReviewId())
             .build();
     }
 
@@ -0,0 +1,25 @@
+package com.beour.reservation.guest.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotHoldRequest {
+
+    @NotNull(message = "예약일자 필수")
+    private LocalDate date;
+
+    @NotNull(message = "이용 시작 시간 필수")
+    private LocalTime startTime;
+
+    @NotNull(message = "이용 마감 시간 필수")
+    private LocalTime endTime;
+}
@@ -0,0 +1,40 @@
+package com.beour.reservation.guest.dto;
+
+import com.beour.reservation.guest.hold.SlotHold;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SlotHoldResponseDto {
+
+    private String holdId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private SlotHoldResponseDto(String holdId, LocalDate date, LocalTime startTime,
+        LocalTime endTime, LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.expiresAt = expiresAt;
+    }
+
+    public static SlotHoldResponseDto of(SlotHold hold) {
+        return SlotHoldResponseDto.builder()
+            .holdId(hold.getId())
+            .date(hold.getDate())
+            .startTime(hold.getStartTime())
+            .endTime(hold.getEndTime())
+            .expiresAt(hold.getExpiresAt())
+            .build();
+    }
+}
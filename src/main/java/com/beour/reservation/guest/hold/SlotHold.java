@@ -0,0 +1,49 @@
+package com.beour.reservation.guest.hold;
+
+import com.beour.reservation.guest.hold.TimingWheel.Timeout;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+// 결제 전 입력하는 동안 잡아 두는 예약 시간
+@Getter
+public class SlotHold {
+
+    private final String id;
+    private final Long guestId;
+    private final Long spaceId;
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final int mask;
+    private final LocalDateTime expiresAt;
+
+    @Getter(AccessLevel.NONE)
+    Timeout<SlotHold> timeout;
+
+    SlotHold(String id, Long guestId, Long spaceId, LocalDate date, LocalTime startTime,
+        LocalTime endTime, LocalDateTime expiresAt) {
+        this.id = id;
+        this.guestId = guestId;
+        this.spaceId = spaceId;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.mask = HourSlots.of(startTime, endTime);
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean matches(Long guestId, Long spaceId, LocalDate date, LocalTime startTime,
+        LocalTime endTime) {
+        return this.guestId.equals(guestId) && this.spaceId.equals(spaceId)
+            && this.date.equals(date) && this.startTime.equals(startTime)
+            && this.endTime.equals(endTime);
+    }
+}
@@ -0,0 +1,151 @@
+package com.beour.reservation.guest.hold;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 입력 중인 시간을 잠시 잡아 두는 메모리 저장소.
+ * 만료는 타이밍 휠이 tick 마다 처리하고, tick 사이에 만료된 선점은 조회 시점에 걸러낸다.
+ * 인스턴스마다 따로 두므로 최종 판정은 여전히 예약 점유 칸의 유니크 키가 맡는다.
+ */
+@Component
+public class SlotHoldStore {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final long ttlMillis;
+    private final TimingWheel<SlotHold> wheel;
+    private final Map<String, SlotHold> holds = new HashMap<>();
+    private final Map<Long, Map<LocalDate, List<SlotHold>>> holdsBySpace = new HashMap<>();
+
+    public SlotHoldStore(@Value("${reservation.hold.ttl-seconds:300}") long ttlSeconds,
+        @Value("${reservation.hold.tick-millis:1000}") long tickMillis) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    // 이미 점유된 칸이나 다른 게스트의 선점과 겹치면 null. 같은 게스트가 같은 공간에 잡아 둔 선점은 교체한다
+    public synchronized SlotHold hold(Long guestId, Long spaceId, LocalDate date,
+        LocalTime startTime, LocalTime endTime, int reservedMask) {
+        SlotHold hold = new SlotHold(UUID.randomUUID().toString(), guestId, spaceId, date,
+            startTime, endTime, LocalDateTime.now().plus(ttlMillis, ChronoUnit.MILLIS));
+        if ((hold.getMask() & (reservedMask | heldMask(spaceId, date, guestId))) != 0) {
+            return null;
+        }
+
+        for (SlotHold previous : findByGuestAndSpace(guestId, spaceId)) {
+            remove(previous);
+        }
+
+        holds.put(hold.getId(), hold);
+        holdsBySpace.computeIfAbsent(spaceId, key -> new HashMap<>())
+            .computeIfAbsent(date, key -> new ArrayList<>())
+            .add(hold);
+        hold.timeout = wheel.schedule(hold, System.currentTimeMillis() + ttlMillis);
+
+        return hold;
+    }
+
+    public synchronized Optional<SlotHold> find(String holdId) {
+        SlotHold hold = holds.get(holdId);
+        if (hold == null || hold.isExpired(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(hold);
+    }
+
+    public synchronized void release(String holdId) {
+        SlotHold hold = holds.get(holdId);
+        if (hold != null) {
+            remove(hold);
+        }
+    }
+
+    // 해당 날짜에 살아 있는 선점 칸. exceptGuestId 의 선점은 제외한다
+    public synchronized int heldMask(Long spaceId, LocalDate date, Long exceptGuestId) {
+        Map<LocalDate, List<SlotHold>> byDate = holdsBySpace.get(spaceId);
+        List<SlotHold> dayHolds = byDate == null ? null : byDate.get(date);
+        if (dayHolds == null) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int mask = 0;
+        for (SlotHold hold : dayHolds) {
+            if (!hold.getGuestId().equals(exceptGuestId) && !hold.isExpired(now)) {
+                mask |= hold.getMask();
+            }
+        }
+        return mask;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.hold.tick-millis:1000}")
+    public synchronized void expire() {
+        for (SlotHold hold : wheel.advance(System.currentTimeMillis())) {
+            hold.timeout = null;
+            remove(hold);
+        }
+    }
+
+    public synchronized int size() {
+        return holds.size();
+    }
+
+    public synchronized void clear() {
+        for (SlotHold hold : new ArrayList<>(holds.values())) {
+            remove(hold);
+        }
+    }
+
+    private List<SlotHold> findByGuestAndSpace(Long guestId, Long spaceId) {
+        List<SlotHold> found = new ArrayList<>();
+        Map<LocalDate, List<SlotHold>> byDate = holdsBySpace.get(spaceId);
+        if (byDate == null) {
+            return found;
+        }
+
+        for (List<SlotHold> dayHolds : byDate.values()) {
+            for (SlotHold hold : dayHolds) {
+                if (hold.getGuestId().equals(guestId)) {
+                    found.add(hold);
+                }
+            }
+        }
+        return found;
+    }
+
+    private void remove(SlotHold hold) {
+        holds.remove(hold.getId());
+        if (hold.timeout != null) {
+            wheel.cancel(hold.timeout);
+            hold.timeout = null;
+        }
+
+        Map<LocalDate, List<SlotHold>> byDate = holdsBySpace.get(hold.getSpaceId());
+        if (byDate == null) {
+            return;
+        }
+        List<SlotHold> dayHolds = byDate.get(hold.getDate());
+        if (dayHolds != null) {
+            dayHolds.remove(hold);
+            if (dayHolds.isEmpty()) {
+                byDate.remove(hold.getDate());
+            }
+        }
+        if (byDate.isEmpty()) {
+            holdsBySpace.remove(hold.getSpaceId());
+        }
+    }
+}
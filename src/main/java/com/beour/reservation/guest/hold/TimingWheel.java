@@ -0,0 +1,89 @@
+package com.beour.reservation.guest.hold;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 만료 시각을 tick 단위 버킷에 나눠 담는 해시 타이밍 휠.
+ * 등록과 취소는 O(1)이고, 한 번 돌 때마다 지나간 tick 의 버킷만 본다.
+ * 휠 한 바퀴보다 먼 만료는 같은 버킷에 남아 있다가 deadline 이 지난 뒤에 꺼내진다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final List<Set<Timeout<T>>> buckets;
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new HashSet<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // deadline 을 tick 으로 올림해서 일찍 만료되는 일이 없게 한다
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis),
+            currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick, bucket(deadlineTick));
+        timeout.bucket.add(timeout);
+
+        return timeout;
+    }
+
+    public void cancel(Timeout<T> timeout) {
+        timeout.bucket.remove(timeout);
+    }
+
+    // nowMillis 까지 만료된 항목. 오래 멈춰 있었더라도 각 버킷은 한 번만 본다
+    public List<T> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        long lastTick = Math.min(nowTick, currentTick + buckets.size());
+
+        for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+            Iterator<Timeout<T>> iterator = bucket(tick).iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.deadlineTick <= nowTick) {
+                    iterator.remove();
+                    expired.add(timeout.item);
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick);
+
+        return expired;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Set<Timeout<T>> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    private Set<Timeout<T>> bucket(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+    public static final class Timeout<T> {
+
+        private final T item;
+        private final long deadlineTick;
+        private final Set<Timeout<T>> bucket;
+
+        private Timeout(T item, long deadlineTick, Set<Timeout<T>> bucket) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+            this.bucket = bucket;
+        }
+    }
+}
@@ -2,35 +2,57 @@ package com.beour.reservation.guest.service;
 
 import com.beour.global.exception.error.errorcode.AvailableTimeErrorCode;
 import com.beour.reservation.commons.entity.Reservation;
-import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.guest.dto.AvailabilityCalendarResponseDto;
+import com.beour.reservation.guest.dto.AvailabilityCalendarResponseDto.DayAvailability;
 import com.beour.reservation.guest.dto.SpaceAvailableTimeResponseDto;
-import com.beour.space.domain.entity.AvailableTime;
-import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.reservation.guest.hold.SlotHoldStore;
+import com.beour.space.domain.index.AvailabilityCalendarCache;
+import com.beour.space.domain.index.AvailabilityCalendarCache.MonthSlots;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.schedule.OpenHoursResolver;
+import com.beour.space.domain.schedule.OpenSchedule;
+import com.beour.space.domain.slot.HourSlots;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class CheckAvailableTimeService {
 
-    private final AvailableTimeRepository availableTimeRepository;
+    private static final int MAX_CALENDAR_DAYS = 92;
+
+    private final OpenHoursResolver openHoursResolver;
     private final ReservationRepository reservationRepository;
+    private final SpaceRepository spaceRepository;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
+    private final SlotHoldStore slotHoldStore;
+    private final UserRepository userRepository;
 
     public SpaceAvailableTimeResponseDto findAvailableTime(Long spaceId, LocalDate date) {
-        AvailableTime availableTime = checkReservationAvailableDateAndGetAvailableTime(spaceId, date);
+        int open = checkReservationAvailableDateAndGetOpenMask(spaceId, date);
 
-        List<Reservation> reservationList = reservationRepository.findBySpaceIdAndDateAndStatusNot(
-            spaceId, date, ReservationStatus.REJECTED);
+        List<Reservation> reservationList = reservationRepository.findActiveBySpaceIdAndDate(
+            spaceId, date);
 
-        List<LocalTime> findTimeList = getAvailableTimeList(availableTime, reservationList,
-            date);
+        // 조회한 게스트 자신의 선점은 빈 칸으로 보여 준다
+        List<LocalTime> findTimeList = getAvailableTimeList(open, reservationList,
+            slotHoldStore.heldMask(spaceId, date, findUserIdFromToken()), date);
         if (findTimeList.isEmpty()) {
             throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
         }
@@ -38,69 +60,106 @@ public class CheckAvailableTimeService {
         return SpaceAvailableTimeResponseDto.of(findTimeList);
     }
 
-    public AvailableTime checkReservationAvailableDateAndGetAvailableTime(Long spaceId, LocalDate date) {
-        if (date.isBefore(LocalDate.now())) {
-            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
+    // 기간 안의 날짜별 예약 가능 요약. 월 단위로 두 번의 범위 조회 결과를 캐시해 둔다
+    public AvailabilityCalendarResponseDto findAvailabilityCalendar(Long spaceId, LocalDate from,
+        LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new InputInvalidFormatException(AvailableTimeErrorCode.INVALID_DATE_RANGE);
         }
-
-        return availableTimeRepository.findBySpaceIdAndDateAndDeletedAtIsNull(
-            spaceId, date).orElseThrow(
-            () -> new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND)
+        spaceRepository.findByIdAndDeletedAtIsNull(spaceId).orElseThrow(
+            () -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND)
         );
-    }
 
-    private static List<LocalTime> getAvailableTimeList(AvailableTime availableTime,
-        List<Reservation> reservationList, LocalDate date) {
-        LocalTime startTime = availableTime.getStartTime();
+        LocalDate today = LocalDate.now();
+        Long userId = findUserIdFromToken();
+        List<DayAvailability> days = new ArrayList<>();
+        MonthSlots monthSlots = null;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (monthSlots == null || date.getDayOfMonth() == 1) {
+                monthSlots = availabilityCalendarCache.get(spaceId, YearMonth.from(date),
+                    month -> loadMonthSlots(spaceId, month));
+            }
 
-        if (Objects.equals(date, LocalDate.now())) {
-            startTime = LocalTime.of(LocalTime.now().getHour() + 1, 0);
+            days.add(toDayAvailability(date, today, monthSlots,
+                slotHoldStore.heldMask(spaceId, date, userId)));
         }
 
-        LocalTime endTime = availableTime.getEndTime();
+        return new AvailabilityCalendarResponseDto(days);
+    }
+
+    private MonthSlots loadMonthSlots(Long spaceId, YearMonth month) {
+        MonthSlots monthSlots = new MonthSlots(month);
 
-        if (reservationList.isEmpty()) {
-            return getAvailableTimeWithoutReservation(startTime, endTime);
+        OpenSchedule schedule = openHoursResolver.load(spaceId, month.atDay(1),
+            month.atEndOfMonth());
+        for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth());
+            date = date.plusDays(1)) {
+            monthSlots.addOpen(date, schedule.openMask(date));
+        }
+        for (Reservation reservation : reservationRepository.findActiveBySpaceIdAndDateBetween(
+            spaceId, month.atDay(1), month.atEndOfMonth())) {
+            monthSlots.addReserved(reservation.getDate(),
+                HourSlots.of(reservation.getStartTime(), reservation.getEndTime()));
         }
 
-        return getAvailableTimeWithReservation(reservationList, startTime, endTime);
+        return monthSlots;
     }
 
-    private static List<LocalTime> getAvailableTimeWithReservation(
-        List<Reservation> reservationList, LocalTime startTime, LocalTime endTime) {
+    // 지난 날짜는 닫힘, 오늘은 다음 정시부터. 선점은 캐시하지 않고 매번 뺀다
+    private static DayAvailability toDayAvailability(LocalDate date, LocalDate today,
+        MonthSlots monthSlots, int held) {
+        boolean open = !date.isBefore(today) && monthSlots.openMask(date) != 0;
+        int free = open ? monthSlots.freeMask(date) & ~held : 0;
+        if (date.equals(today)) {
+            free &= HourSlots.from(LocalTime.now().getHour() + 1);
+        }
 
-        List<LocalTime> list = new ArrayList<>();
+        List<LocalTime> freeTimes = HourSlots.startTimes(free);
+        return DayAvailability.builder()
+            .date(date)
+            .open(open)
+            .freeHourCount(freeTimes.size())
+            .firstFreeTime(freeTimes.isEmpty() ? null : freeTimes.get(0))
+            .build();
+    }
 
-        while (startTime.isBefore(endTime)) {
-            LocalTime currentTime = startTime;
+    // 그날 운영 시간 마스크. 요일 규칙, 날짜 예외, 단건 날짜 등록을 합친 결과
+    public int checkReservationAvailableDateAndGetOpenMask(Long spaceId, LocalDate date) {
+        if (date.isBefore(LocalDate.now())) {
+            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
+        }
 
-            boolean isReserved = reservationList.stream().anyMatch(reservation ->
-                reservation.getStartTime().isBefore(currentTime.plusHours(1)) &&
-                    reservation.getEndTime().isAfter(currentTime)
-            );
+        int open = openHoursResolver.openMask(spaceId, date);
+        if (open == 0) {
+            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
+        }
 
-            if (!isReserved) {
-                list.add(startTime);
-            }
+        return open;
+    }
 
-            startTime = startTime.plusHours(1);
+    // 운영 시간에서 예약·선점된 칸을 뺀 빈 칸. 오늘이면 다음 정시부터
+    private static List<LocalTime> getAvailableTimeList(int open,
+        List<Reservation> reservationList, int held, LocalDate date) {
+        if (Objects.equals(date, LocalDate.now())) {
+            open &= HourSlots.from(LocalTime.now().getHour() + 1);
         }
 
-        return list;
-    }
+        int reserved = HourSlots.union(reservationList, Reservation::getStartTime,
+            Reservation::getEndTime);
 
-    private static List<LocalTime> getAvailableTimeWithoutReservation(LocalTime startTime,
-        LocalTime endTime) {
+        return HourSlots.startTimes(open & ~(reserved | held));
+    }
 
-        List<LocalTime> list = new ArrayList<>();
+    // 로그인하지 않고 조회하면 null
+    private Long findUserIdFromToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        while (startTime.isBefore(endTime)) {
-            list.add(startTime);
-            startTime = startTime.plusHours(1);
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
         }
 
-        return list;
+        return userRepository.findByLoginIdAndDeletedAtIsNull(authentication.getName())
+            .map(User::getId)
+            .orElse(null);
     }
-
-
 }
@@ -1,35 +1,45 @@
 package com.beour.reservation.guest.service;
 
-import com.beour.global.exception.error.errorcode.AvailableTimeErrorCode;
 import com.beour.global.exception.error.errorcode.ReservationErrorCode;
-import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
-import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.global.pagination.Cursor;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.global.pagination.CursorSlice;
+import com.beour.reservation.commons.archive.ArchivedReservationRepository;
+import com.beour.reservation.commons.archive.ReservationArchivePolicy;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
-import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
+import com.beour.reservation.commons.enums.ReservationTransition;
+import com.beour.reservation.commons.event.ReservationEventPublisher;
+import com.beour.reservation.commons.event.ReservationEventType;
 import com.beour.global.exception.exceptionType.MissMatch;
 import com.beour.global.exception.exceptionType.ReservationNotFound;
+import com.beour.global.exception.exceptionType.UnauthorityException;
+import com.beour.global.transaction.AfterCommit;
+import com.beour.reservation.commons.repository.PastReservationRow;
 import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.commons.rollup.ReservationRollupRecorder;
+import com.beour.reservation.commons.transition.ReservationStatusChanger;
+import com.beour.reservation.guest.booking.ReservationBookingDispatcher;
 import com.beour.reservation.guest.dto.DetailReservationResponseDto;
 import com.beour.reservation.guest.dto.ReservationCreateRequest;
 import com.beour.reservation.guest.dto.ReservationListPageResponseDto;
 import com.beour.reservation.guest.dto.ReservationListResponseDto;
 import com.beour.reservation.guest.dto.ReservationResponseDto;
-import com.beour.review.domain.entity.Review;
-import com.beour.review.domain.repository.ReviewRepository;
-import com.beour.space.domain.entity.AvailableTime;
-import com.beour.space.domain.entity.Space;
-import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.index.AvailabilityCalendarCache;
+import com.beour.space.domain.index.SpaceAvailabilityIndex;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -39,98 +49,35 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ReservationGuestService {
 
+    // 지난 예약 목록의 커서 순서: (시작 시각, id) 내림차순
+    private static final Comparator<PastReservationRow> LATEST_FIRST = Comparator
+        .comparing(ReservationGuestService::startAtOf)
+        .thenComparing(PastReservationRow::getReservationId)
+        .reversed();
+
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
-    private final SpaceRepository spaceRepository;
-    private final CheckAvailableTimeService checkAvailableTimeService;
-    private final ReviewRepository reviewRepository;
+    private final ReservationBookingDispatcher reservationBookingDispatcher;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ReservationRollupRecorder reservationRollupRecorder;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final ReservationArchivePolicy reservationArchivePolicy;
+    private final ReservationStatusChanger reservationStatusChanger;
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
 
     public ReservationResponseDto createReservation(Long spaceId,
         ReservationCreateRequest requestDto) {
-        User guest = findUserFromToken();
-        Space space = spaceRepository.findById(spaceId).orElseThrow(
-            () -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND)
-        );
-        User host = userRepository.findById(space.getHost().getId()).orElseThrow(
-            () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-        );
-
-        checkReservationAvailable(requestDto, space);
-
-        Reservation reservation = Reservation.builder()
-            .guest(guest)
-            .host(host)
-            .space(space)
-            .status(ReservationStatus.PENDING)
-            .date(requestDto.getDate())
-            .startTime(requestDto.getStartTime())
-            .endTime(requestDto.getEndTime())
-            .price(requestDto.getPrice())
-            .guestCount(requestDto.getGuestCount())
-            .usagePurpose(requestDto.getUsagePurpose())
-            .requestMessage(requestDto.getRequestMessage())
-            .build();
-
-        return ReservationResponseDto.builder()
-            .id(reservationRepository.save(reservation).getId())
-            .build();
-    }
-
-    private void checkReservationAvailable(ReservationCreateRequest requestDto, Space space) {
-        checkPriceCorrect(requestDto, space);
-        checkValidCapacity(requestDto, space);
-        checkReservationAvailableDate(requestDto, space);
-        checkReservationAvailableTime(requestDto, space);
-    }
-
-    private static void checkValidCapacity(ReservationCreateRequest requestDto, Space space) {
-        if (requestDto.getGuestCount() > space.getMaxCapacity()) {
-            throw new MissMatch(ReservationErrorCode.INVALID_CAPACITY);
-        }
-    }
-
-    private static void checkPriceCorrect(ReservationCreateRequest requestDto, Space space) {
-        int hour = requestDto.getEndTime().getHour() - requestDto.getStartTime().getHour();
-        if (requestDto.getPrice() != space.getPricePerHour() * hour) {
-            throw new MissMatch(ReservationErrorCode.INVALID_PRICE);
-        }
+        return createReservation(spaceId, requestDto, null);
     }
 
-    private void checkReservationAvailableDate(ReservationCreateRequest requestDto, Space space) {
-        AvailableTime availableTime = checkAvailableTimeService.checkReservationAvailableDateAndGetAvailableTime(
-            space.getId(), requestDto.getDate());
-
-        if (requestDto.getDate().equals(LocalDate.now()) && requestDto.getStartTime()
-            .isBefore(LocalTime.now())) {
-            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
-        }
-
-        if (availableTime.getStartTime().isAfter(requestDto.getStartTime())
-            || availableTime.getEndTime().isBefore(
-            requestDto.getEndTime())) {
-            throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
-        }
-    }
-
-    private void checkReservationAvailableTime(ReservationCreateRequest requestDto, Space space) {
-        List<Reservation> reservationList = reservationRepository.findBySpaceIdAndDateAndDeletedAtIsNull(
-            space.getId(), requestDto.getDate());
-
-        LocalTime startTime = requestDto.getStartTime();
-        while (startTime.isBefore(requestDto.getEndTime())) {
-            LocalTime currentTime = requestDto.getStartTime();
-
-            boolean isReserved = reservationList.stream().anyMatch(reservation ->
-                reservation.getStartTime().isBefore(currentTime.plusHours(1)) &&
-                    reservation.getEndTime().isAfter(currentTime)
-            );
-
-            if (isReserved) {
-                throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
-            }
+    // 같은 공간의 예약 요청은 예약 레인에서 도착 순서대로 처리된다. 선점이 있으면 겹침 검사 없이 선점을 예약으로 바꾼다
+    public ReservationResponseDto createReservation(Long spaceId,
+        ReservationCreateRequest requestDto, String holdId) {
+        User guest = findUserFromToken();
 
-            startTime = startTime.plusHours(1);
-        }
+        return reservationBookingDispatcher.book(spaceId, guest, requestDto, holdId);
     }
 
     public DetailReservationResponseDto getReservationDetailInformation(Long reservationId) {
@@ -144,17 +91,26 @@ public class ReservationGuestService {
     public ReservationListPageResponseDto findReservationList(Pageable pageable) {
         User guest = findUserFromToken();
         Page<Reservation> reservationList = reservationRepository.findUpcomingReservationsByGuest(
-            guest.getId(), LocalDate.now(), LocalTime.now(), pageable);
+            guest.getId(), LocalDateTime.now(), pageable);
 
-        checkEmptyReservation(reservationList);
+        checkEmptyReservation(reservationList.getContent());
 
-        List<ReservationListResponseDto> responseDtoList = new ArrayList<>();
-        for (Reservation reservation : reservationList) {
-            responseDtoList.add(ReservationListResponseDto.of(reservation));
-        }
+        return new ReservationListPageResponseDto(toResponseDtos(reservationList.getContent()),
+            reservationList.isLast(), reservationList.getTotalPages());
+    }
+
+    public ReservationListPageResponseDto findReservationList(CursorRequest cursorRequest) {
+        User guest = findUserFromToken();
+        LocalDateTime cursorAt = cursorStartAt(cursorRequest);
+        List<Reservation> fetched = reservationRepository.findUpcomingReservationsByGuestAfter(
+            guest.getId(), LocalDateTime.now(), cursorAt, cursorRequest.cursorId(),
+            cursorRequest.fetchPageable());
+        CursorSlice<Reservation> slice = CursorSlice.of(fetched, cursorRequest,
+            ReservationGuestService::startAtCursor);
 
-        return new ReservationListPageResponseDto(responseDtoList, reservationList.isLast(),
-            reservationList.getTotalPages());
+        checkEmptyReservation(slice.getContent());
+
+        return ReservationListPageResponseDto.ofCursor(toResponseDtos(slice.getContent()), slice);
     }
 
     public ReservationListPageResponseDto getCanceledReservations(Pageable pageable,
@@ -163,60 +119,179 @@ public class ReservationGuestService {
         Page<Reservation> reservationList = reservationRepository.findByGuestIdAndStatus(
             guest.getId(), status, pageable);
 
-        checkEmptyReservation(reservationList);
+        checkEmptyReservation(reservationList.getContent());
 
-        List<ReservationListResponseDto> responseDtoList = new ArrayList<>();
-        for (Reservation reservation : reservationList) {
-            responseDtoList.add(ReservationListResponseDto.of(reservation));
-        }
+        return new ReservationListPageResponseDto(toResponseDtos(reservationList.getContent()),
+            reservationList.isLast(), reservationList.getTotalPages());
+    }
 
-        return new ReservationListPageResponseDto(responseDtoList, reservationList.isLast(),
-            reservationList.getTotalPages());
+    public ReservationListPageResponseDto getCanceledReservations(CursorRequest cursorRequest,
+        ReservationStatus status) {
+        User guest = findUserFromToken();
+        List<Reservation> fetched = reservationRepository.findByGuestIdAndStatusAfter(
+            guest.getId(), status, cursorRequest.cursorId(), cursorRequest.fetchPageable());
+        CursorSlice<Reservation> slice = CursorSlice.of(fetched, cursorRequest,
+            reservation -> Cursor.ofId(reservation.getId()));
+
+        checkEmptyReservation(slice.getContent());
+
+        return ReservationListPageResponseDto.ofCursor(toResponseDtos(slice.getContent()), slice);
     }
 
-    @Transactional
+    // 공간 정보와 리뷰 id 를 목록 조회 한 번으로 가져온다. 보관된 예약은 예약 테이블의 목록 뒤에 이어 붙인다
+    @Transactional(readOnly = true)
     public ReservationListPageResponseDto findPastReservationList(Pageable pageable) {
         User user = findUserFromToken();
-        Page<Reservation> reservationList = reservationRepository.findPastReservationsByGuest(
-            user.getId(), LocalDate.now(), LocalTime.now(), pageable);
+        Page<PastReservationRow> reservationList = reservationRepository.findPastReservationsByGuest(
+            user.getId(), LocalDateTime.now(), pageable);
 
-        checkEmptyReservation(reservationList);
+        // 전체 페이지 수에 보관된 예약도 들어가므로 개수는 요청마다 한 번 센다
+        long archivedCount = archivedReservationRepository.countByGuestId(user.getId());
+        if (archivedCount > 0) {
+            reservationList = appendArchived(user.getId(), reservationList, archivedCount);
+        }
 
+        checkEmptyReservation(reservationList.getContent());
+
+        return new ReservationListPageResponseDto(
+            toPastResponseDtos(reservationList.getContent()),
+            reservationList.isLast(), reservationList.getTotalPages());
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationListPageResponseDto findPastReservationList(CursorRequest cursorRequest) {
+        User user = findUserFromToken();
+        LocalDateTime cursorAt = cursorStartAt(cursorRequest);
+        LocalDateTime now = LocalDateTime.now();
+        List<PastReservationRow> fetched = reservationRepository.findPastReservationsByGuestAfter(
+            user.getId(), now, cursorAt, cursorRequest.cursorId(),
+            cursorRequest.fetchPageable());
+
+        // 보관된 예약은 모두 cutoff 이전에 끝났으므로, 페이지가 그보다 최근에서 끝나면 보관 테이블은 볼 필요가 없다
+        if (reachesArchive(fetched, cursorRequest.fetchSize(), reservationArchivePolicy.cutoff(now))
+            && archivedReservationRepository.existsByGuestId(user.getId())) {
+            List<PastReservationRow> archived = archivedReservationRepository.findPastByGuestAfter(
+                user.getId(), cursorAt, cursorRequest.cursorId(), cursorRequest.fetchPageable());
+            fetched = mergeLatestFirst(fetched, archived, cursorRequest.fetchSize());
+        }
+
+        CursorSlice<PastReservationRow> slice = CursorSlice.of(fetched, cursorRequest,
+            row -> Cursor.of(startAtOf(row), row.getReservationId()));
+
+        checkEmptyReservation(slice.getContent());
+
+        return ReservationListPageResponseDto.ofCursor(toPastResponseDtos(slice.getContent()), slice);
+    }
+
+    // 예약 테이블의 목록이 이 페이지에서 끝나면 남은 칸을 보관된 예약으로 채운다
+    private Page<PastReservationRow> appendArchived(Long guestId, Page<PastReservationRow> live,
+        long archivedCount) {
+        Pageable pageable = live.getPageable();
+        List<PastReservationRow> rows = new ArrayList<>(live.getContent());
+        int missing = pageable.getPageSize() - rows.size();
+        if (missing > 0) {
+            long archiveOffset = Math.max(0, pageable.getOffset() - live.getTotalElements());
+            rows.addAll(findArchivedRows(guestId, archiveOffset, missing));
+        }
+
+        return new PageImpl<>(rows, pageable, live.getTotalElements() + archivedCount);
+    }
+
+    // offset 이 limit 의 배수가 아니면 이웃한 두 페이지를 읽어 잘라낸다
+    private List<PastReservationRow> findArchivedRows(Long guestId, long offset, int limit) {
+        int page = (int) (offset / limit);
+        int skip = (int) (offset % limit);
+        List<PastReservationRow> rows = new ArrayList<>(
+            archivedReservationRepository.findPastByGuest(guestId, PageRequest.of(page, limit)));
+        if (skip > 0) {
+            rows.addAll(archivedReservationRepository.findPastByGuest(guestId,
+                PageRequest.of(page + 1, limit)));
+        }
+
+        return rows.subList(Math.min(skip, rows.size()), Math.min(skip + limit, rows.size()));
+    }
+
+    private static boolean reachesArchive(List<PastReservationRow> fetched, int fetchSize,
+        LocalDateTime cutoff) {
+        return fetched.size() < fetchSize
+            || startAtOf(fetched.get(fetched.size() - 1)).isBefore(cutoff);
+    }
+
+    private static List<PastReservationRow> mergeLatestFirst(List<PastReservationRow> live,
+        List<PastReservationRow> archived, int limit) {
+        List<PastReservationRow> merged = new ArrayList<>(live);
+        merged.addAll(archived);
+        merged.sort(LATEST_FIRST);
+
+        return merged.subList(0, Math.min(limit, merged.size()));
+    }
+
+    private static LocalDateTime startAtOf(PastReservationRow row) {
+        return LocalDateTime.of(row.getDate(), row.getStartTime());
+    }
+
+    private List<ReservationListResponseDto> toResponseDtos(List<Reservation> reservations) {
         List<ReservationListResponseDto> responseDtoList = new ArrayList<>();
-        for (Reservation reservation : reservationList) {
-            if (reservation.getStatus() == ReservationStatus.ACCEPTED) {
-                reservation.updateStatus(ReservationStatus.COMPLETED);
-            }
-            Review review = reviewRepository.findByGuestIdAndSpaceIdAndReservedDateAndDeletedAtIsNull(
-                user.getId(), reservation.getSpace().getId(), reservation.getDate()).orElse(null);
-            Long reviewId = 0L;
-            if (review != null) {
-                reviewId = review.getId();
-            }
-            responseDtoList.add(ReservationListResponseDto.of(reservation, reviewId));
+        for (Reservation reservation : reservations) {
+            responseDtoList.add(ReservationListResponseDto.of(reservation));
         }
 
-        return new ReservationListPageResponseDto(responseDtoList, reservationList.isLast(),
-            reservationList.getTotalPages());
+        return responseDtoList;
     }
 
-    private static void checkEmptyReservation(Page<Reservation> reservationList) {
-        if (reservationList.getContent().isEmpty()) {
+    private List<ReservationListResponseDto> toPastResponseDtos(List<PastReservationRow> rows) {
+        List<ReservationListResponseDto> responseDtoList = new ArrayList<>();
+        for (PastReservationRow row : rows) {
+            responseDtoList.add(ReservationListResponseDto.of(row));
+        }
+
+        return responseDtoList;
+    }
+
+    // 예약 목록 커서는 (시작 시각, id)
+    private static Cursor startAtCursor(Reservation reservation) {
+        return Cursor.of(reservation.getStartAt(), reservation.getId());
+    }
+
+    private static LocalDateTime cursorStartAt(CursorRequest cursorRequest) {
+        return cursorRequest.isFirstPage() ? null : cursorRequest.getCursor().keyAsDateTime();
+    }
+
+    private static void checkEmptyReservation(List<?> reservationList) {
+        if (reservationList.isEmpty()) {
             throw new ReservationNotFound(ReservationErrorCode.RESERVATION_NOT_FOUND);
         }
     }
 
+    // 승인 대기 중인 본인 예약만 조건부 UPDATE 로 취소한다. 호스트 승인과 겹치면 먼저 반영된 쪽만 성공한다
     @Transactional
     public void cancelReservation(Long reservationId) {
+        User guest = findUserFromToken();
+        Reservation reservation = reservationStatusChanger.cancelByGuest(reservationId, guest.getId())
+            .orElseThrow(() -> cancelFailure(reservationId, guest));
+
+        reservationSlotRepository.deleteByReservationId(reservation.getId());
+        reservationRollupRecorder.recordTransition(reservation, ReservationTransition.CANCEL.getFrom());
+        reservationEventPublisher.publish(reservation, ReservationEventType.CANCELLED);
+
+        Long spaceId = reservation.getSpace().getId();
+        AfterCommit.execute(() -> {
+            spaceAvailabilityIndex.removeReservation(reservationId, spaceId, reservation.getDate());
+            availabilityCalendarCache.evict(spaceId, reservation.getDate());
+        });
+    }
+
+    // 바뀐 행이 없을 때만 예약을 읽어 사유를 가린다
+    private RuntimeException cancelFailure(Long reservationId, User guest) {
         Reservation reservation = reservationRepository.findById(reservationId).orElseThrow(
             () -> new ReservationNotFound(ReservationErrorCode.RESERVATION_NOT_FOUND)
         );
 
-        if (reservation.getStatus() != ReservationStatus.PENDING) {
-            throw new MissMatch(ReservationErrorCode.CANNOT_CANCEL_RESERVATION);
+        if (!reservation.getGuest().getId().equals(guest.getId())) {
+            return new UnauthorityException(ReservationErrorCode.NO_PERMISSION);
         }
 
-        reservation.cancel();
+        return new MissMatch(ReservationErrorCode.CANNOT_CANCEL_RESERVATION);
     }
 
     private User findUserFromToken() {
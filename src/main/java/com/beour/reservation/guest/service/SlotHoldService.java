@@ -0,0 +1,88 @@
+package com.beour.reservation.guest.service;
+
+import com.beour.global.exception.error.errorcode.AvailableTimeErrorCode;
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.error.errorcode.SpaceErrorCode;
+import com.beour.global.exception.error.errorcode.UserErrorCode;
+import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
+import com.beour.global.exception.exceptionType.MissMatch;
+import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.global.exception.exceptionType.UnauthorityException;
+import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.guest.dto.SlotHoldRequest;
+import com.beour.reservation.guest.dto.SlotHoldResponseDto;
+import com.beour.reservation.guest.hold.SlotHold;
+import com.beour.reservation.guest.hold.SlotHoldStore;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.slot.HourSlots;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class SlotHoldService {
+
+    private final SlotHoldStore slotHoldStore;
+    private final SpaceRepository spaceRepository;
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final CheckAvailableTimeService checkAvailableTimeService;
+
+    // 운영 시간 안이고 예약·다른 게스트의 선점과 겹치지 않을 때만 잡아 둔다
+    public SlotHoldResponseDto holdSlots(Long spaceId, SlotHoldRequest requestDto) {
+        User guest = findUserFromToken();
+        spaceRepository.findByIdAndDeletedAtIsNull(spaceId).orElseThrow(
+            () -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND)
+        );
+
+        int open = checkAvailableTimeService.checkReservationAvailableDateAndGetOpenMask(
+            spaceId, requestDto.getDate());
+        if (requestDto.getDate().equals(LocalDate.now()) && requestDto.getStartTime()
+            .isBefore(LocalTime.now())) {
+            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
+        }
+
+        int window = HourSlots.of(requestDto.getStartTime(), requestDto.getEndTime());
+        if (!HourSlots.covers(open, window)) {
+            throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
+        }
+
+        int reserved = HourSlots.union(
+            reservationRepository.findActiveBySpaceIdAndDate(spaceId, requestDto.getDate()),
+            Reservation::getStartTime, Reservation::getEndTime);
+        SlotHold hold = slotHoldStore.hold(guest.getId(), spaceId, requestDto.getDate(),
+            requestDto.getStartTime(), requestDto.getEndTime(), reserved);
+        if (hold == null) {
+            throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
+        }
+
+        return SlotHoldResponseDto.of(hold);
+    }
+
+    public void releaseHold(String holdId) {
+        User guest = findUserFromToken();
+        SlotHold hold = slotHoldStore.find(holdId).orElseThrow(
+            () -> new AvailableTimeNotFound(AvailableTimeErrorCode.HOLD_NOT_FOUND)
+        );
+        if (!hold.getGuestId().equals(guest.getId())) {
+            throw new UnauthorityException(ReservationErrorCode.NO_PERMISSION);
+        }
+
+        slotHoldStore.release(holdId);
+    }
+
+    private User findUserFromToken() {
+        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
+            () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
+        );
+    }
+}
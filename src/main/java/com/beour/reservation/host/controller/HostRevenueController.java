@@ -0,0 +1,29 @@
+package com.beour.reservation.host.controller;
+
+import com.beour.global.response.ApiResponse;
+import com.beour.reservation.host.dto.HostRevenueResponseDto;
+import com.beour.reservation.host.service.HostRevenueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@RestController
+public class HostRevenueController {
+
+    private final HostRevenueService hostRevenueService;
+
+    // period: daily, weekly, monthly
+    @GetMapping("/api/reservations/revenue")
+    public ApiResponse<HostRevenueResponseDto> getRevenueSeries(
+            @RequestParam(value = "period", defaultValue = "daily") String period,
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "spaceId", required = false) Long spaceId) {
+        return ApiResponse.ok(hostRevenueService.getRevenueSeries(period, from, to, spaceId));
+    }
+}
@@ -1,8 +1,13 @@
 package com.beour.reservation.host.controller;
 
+import com.beour.global.pagination.CursorRequest;
 import com.beour.global.response.ApiResponse;
+import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.host.dto.CalendarReservationPageResponseDto;
+import com.beour.reservation.host.dto.ReservationStatusBulkRequestDto;
+import com.beour.reservation.host.dto.ReservationStatusBulkResponseDto;
 import com.beour.reservation.host.service.ReservationCalendarService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -11,6 +16,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 @RequiredArgsConstructor
 @RestController
@@ -23,10 +29,17 @@ public class ReservationCalendarController {
             @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(value = "spaceId", required = false) Long spaceId,
             @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @PageableDefault(size = 10, sort = "startTime", direction = Sort.Direction.ASC) Pageable pageable) {
 
         LocalDate targetDate = (date != null) ? date : LocalDate.now();
 
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(reservationCalendarService.getHostCalendarReservations(
+                    targetDate, spaceId, toStatusFilter(status), cursorRequest));
+        }
+
         if ("pending".equals(status)) {
             return ApiResponse.ok(reservationCalendarService.getHostPendingReservations(targetDate, spaceId, pageable));
         } else if ("accepted".equals(status)) {
@@ -36,6 +49,15 @@ public class ReservationCalendarController {
         }
     }
 
+    // 한 달치 달력 (month=yyyy-MM)
+    @GetMapping("/api/reservations/calendar")
+    public ApiResponse<CalendarReservationPageResponseDto> getHostMonthlyCalendar(
+            @RequestParam(value = "month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(value = "spaceId", required = false) Long spaceId,
+            @RequestParam(value = "status", required = false) String status) {
+        return ApiResponse.ok(reservationCalendarService.getHostMonthlyCalendar(month, spaceId, toStatusFilter(status)));
+    }
+
     @PatchMapping("/api/reservations/{reservationId}/accept")
     public ApiResponse<String> acceptReservation(
             @PathVariable("reservationId") Long reservationId,
@@ -51,4 +73,21 @@ public class ReservationCalendarController {
         reservationCalendarService.rejectReservation(reservationId, spaceId);
         return ApiResponse.ok("예약이 거부되었습니다.");
     }
+
+    // 승인 대기 예약 일괄 승인·거절. 예약마다 결과를 돌려준다
+    @PatchMapping("/api/reservations/statuses")
+    public ApiResponse<ReservationStatusBulkResponseDto> changeReservationStatuses(
+            @Valid @RequestBody ReservationStatusBulkRequestDto requestDto) {
+        return ApiResponse.ok(reservationCalendarService.changeReservationStatuses(requestDto));
+    }
+
+    private ReservationStatus toStatusFilter(String status) {
+        if ("pending".equals(status)) {
+            return ReservationStatus.PENDING;
+        }
+        if ("accepted".equals(status)) {
+            return ReservationStatus.ACCEPTED;
+        }
+        return null;
+    }
 }
@@ -3,6 +3,8 @@ package com.beour.reservation.host.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import com.beour.global.pagination.CursorSlice;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
 @Getter
@@ -11,4 +13,15 @@ public class CalendarReservationPageResponseDto {
     private List<CalendarReservationResponseDto> reservations;
     private boolean last;
     private int totalPage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public CalendarReservationPageResponseDto(List<CalendarReservationResponseDto> reservations, boolean last, int totalPage) {
+        this(reservations, last, totalPage, null);
+    }
+
+    public static CalendarReservationPageResponseDto ofCursor(List<CalendarReservationResponseDto> reservations, CursorSlice<?> slice) {
+        return new CalendarReservationPageResponseDto(reservations, slice.isLast(), 0, slice.getNextCursor());
+    }
 }
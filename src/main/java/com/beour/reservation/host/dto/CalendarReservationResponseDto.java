@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Getter
@@ -16,17 +17,20 @@ public class CalendarReservationResponseDto {
     private String guestName;
     private String status;
     private String spaceName;
+    private LocalDate date;
     private LocalTime startTime;
     private LocalTime endTime;
     private int guestCount;
 
     @Builder
     private CalendarReservationResponseDto(Long reservationId, String guestName, String status,
-                                           String spaceName, LocalTime startTime, LocalTime endTime, int guestCount) {
+                                           String spaceName, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                           int guestCount) {
         this.reservationId = reservationId;
         this.guestName = guestName;
         this.status = status;
         this.spaceName = spaceName;
+        this.date = date;
         this.startTime = startTime;
         this.endTime = endTime;
         this.guestCount = guestCount;
@@ -38,6 +42,7 @@ public class CalendarReservationResponseDto {
                 .guestName(reservation.getGuest().getName())
                 .status(reservation.getStatus().getText())
                 .spaceName(reservation.getSpace().getName())
+                .date(reservation.getDate())
                 .startTime(reservation.getStartTime())
                 .endTime(reservation.getEndTime())
                 .guestCount(reservation.getGuestCount())
@@ -0,0 +1,27 @@
+package com.beour.reservation.host.dto;
+
+import com.beour.reservation.commons.rollup.SpaceDailyRollup;
+import java.time.LocalDate;
+import lombok.Getter;
+
+// 한 집계 구간의 매출과 이용 시간. periodStart 는 구간 첫날
+@Getter
+public class HostRevenuePointDto {
+
+    private final LocalDate periodStart;
+    private long revenue;
+    private int bookedHours;
+    private int acceptedCount;
+    private int pendingCount;
+
+    public HostRevenuePointDto(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public void add(SpaceDailyRollup rollup) {
+        this.revenue += rollup.getRevenue();
+        this.bookedHours += rollup.getBookedHours();
+        this.acceptedCount += rollup.getAcceptedCount();
+        this.pendingCount += rollup.getPendingCount();
+    }
+}
@@ -0,0 +1,18 @@
+package com.beour.reservation.host.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HostRevenueResponseDto {
+
+    private String period;
+    private LocalDate from;
+    private LocalDate to;
+    private long totalRevenue;
+    private int totalBookedHours;
+    private List<HostRevenuePointDto> series;
+}
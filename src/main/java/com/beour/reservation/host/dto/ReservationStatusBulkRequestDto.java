@@ -0,0 +1,25 @@
+package com.beour.reservation.host.dto;
+
+import com.beour.reservation.commons.enums.ReservationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationStatusBulkRequestDto {
+
+    @NotEmpty(message = "예약 id 목록 필수")
+    @Size(max = 500, message = "한 번에 500건까지 변경할 수 있습니다.")
+    private List<@NotNull Long> reservationIds;
+
+    @NotNull(message = "변경할 상태 필수")
+    private ReservationStatus status;
+}
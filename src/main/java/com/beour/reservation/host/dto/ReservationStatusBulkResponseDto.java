@@ -0,0 +1,15 @@
+package com.beour.reservation.host.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 요청한 예약 id 마다 결과 한 건. 변경된 건수는 changedCount
+@Getter
+@AllArgsConstructor
+public class ReservationStatusBulkResponseDto {
+
+    private String status;
+    private int changedCount;
+    private List<ReservationStatusResultDto> results;
+}
@@ -0,0 +1,30 @@
+package com.beour.reservation.host.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+public class ReservationStatusResultDto {
+
+    private Long reservationId;
+    private Result result;
+    private String message;
+
+    public static ReservationStatusResultDto of(Long reservationId, Result result) {
+        return new ReservationStatusResultDto(reservationId, result, result.getText());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Result {
+
+        CHANGED("변경되었습니다."),
+        NOT_FOUND("예약이 존재하지 않습니다."),
+        NO_PERMISSION("해당 예약에 대한 권한이 없습니다."),
+        NOT_PENDING("승인 대기 중인 예약만 변경할 수 있습니다.");
+
+        private final String text;
+    }
+}
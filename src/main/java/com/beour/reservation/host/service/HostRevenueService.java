@@ -0,0 +1,86 @@
+package com.beour.reservation.host.service;
+
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.error.errorcode.SpaceErrorCode;
+import com.beour.global.exception.error.errorcode.UserErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.global.exception.exceptionType.UnauthorityException;
+import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.reservation.commons.enums.RevenuePeriod;
+import com.beour.reservation.commons.rollup.SpaceDailyRollup;
+import com.beour.reservation.commons.rollup.SpaceDailyRollupRepository;
+import com.beour.reservation.host.dto.HostRevenuePointDto;
+import com.beour.reservation.host.dto.HostRevenueResponseDto;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class HostRevenueService {
+
+    private final SpaceDailyRollupRepository spaceDailyRollupRepository;
+    private final SpaceRepository spaceRepository;
+    private final UserRepository userRepository;
+
+    // 공간별 하루 집계를 기간만큼 한 번에 읽어 구간별로 더한다. 예약이 없는 구간도 0 으로 채운다
+    @Transactional(readOnly = true)
+    public HostRevenueResponseDto getRevenueSeries(String periodText, LocalDate from, LocalDate to, Long spaceId) {
+        RevenuePeriod period = RevenuePeriod.from(periodText);
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= period.getMaxDays()) {
+            throw new InputInvalidFormatException(ReservationErrorCode.INVALID_REVENUE_RANGE);
+        }
+
+        User host = findUserFromToken();
+        if (spaceId != null) {
+            validateSpaceOwnership(host, spaceId);
+        }
+
+        Map<LocalDate, HostRevenuePointDto> series = new LinkedHashMap<>();
+        for (LocalDate bucket = period.bucketOf(from); !bucket.isAfter(to); bucket = period.next(bucket)) {
+            series.put(bucket, new HostRevenuePointDto(bucket));
+        }
+
+        long totalRevenue = 0;
+        int totalBookedHours = 0;
+        List<SpaceDailyRollup> rollups = spaceDailyRollupRepository.findHostRange(host.getId(), from, to, spaceId);
+        for (SpaceDailyRollup rollup : rollups) {
+            series.get(period.bucketOf(rollup.getDate())).add(rollup);
+            totalRevenue += rollup.getRevenue();
+            totalBookedHours += rollup.getBookedHours();
+        }
+
+        return new HostRevenueResponseDto(period.getText(), from, to, totalRevenue, totalBookedHours,
+                new ArrayList<>(series.values()));
+    }
+
+    private void validateSpaceOwnership(User host, Long spaceId) {
+        Space space = spaceRepository.findById(spaceId).orElseThrow(
+                () -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND)
+        );
+
+        if (!space.getHost().getId().equals(host.getId())) {
+            throw new UnauthorityException(SpaceErrorCode.NO_PERMISSION);
+        }
+    }
+
+    private User findUserFromToken() {
+        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
+                () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
+        );
+    }
+}
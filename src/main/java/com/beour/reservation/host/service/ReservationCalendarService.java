@@ -3,30 +3,58 @@ package com.beour.reservation.host.service;
 import com.beour.global.exception.error.errorcode.ReservationErrorCode;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.global.exception.exceptionType.MissMatch;
+import com.beour.global.pagination.Cursor;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.global.pagination.CursorSlice;
 import com.beour.reservation.host.dto.CalendarReservationPageResponseDto;
 import com.beour.reservation.host.dto.CalendarReservationResponseDto;
+import com.beour.reservation.host.dto.ReservationStatusBulkRequestDto;
+import com.beour.reservation.host.dto.ReservationStatusBulkResponseDto;
+import com.beour.reservation.host.dto.ReservationStatusResultDto;
+import com.beour.reservation.host.dto.ReservationStatusResultDto.Result;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.ReservationTransition;
+import com.beour.reservation.commons.event.ReservationEventPublisher;
+import com.beour.reservation.commons.event.ReservationEventType;
 import com.beour.global.exception.exceptionType.ReservationNotFound;
 import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.commons.rollup.ReservationRollupRecorder;
+import com.beour.reservation.commons.transition.ReservationStatusChanger;
+import com.beour.global.transaction.AfterCommit;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.index.AvailabilityCalendarCache;
+import com.beour.space.domain.index.SpaceAvailabilityIndex;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -35,40 +63,200 @@ public class ReservationCalendarService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final SpaceRepository spaceRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ReservationRollupRecorder reservationRollupRecorder;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final ReservationStatusChanger reservationStatusChanger;
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
+
+    private static final Set<ReservationStatus> ALL_STATUSES = EnumSet.allOf(ReservationStatus.class);
 
     @Transactional(readOnly = true)
     public CalendarReservationPageResponseDto getHostCalendarReservations(LocalDate date, Long spaceId, Pageable pageable) {
-        User host = findUserFromToken();
-        Page<Reservation> reservationPage = getReservationPageDependingOnSpaceId(host, date, spaceId, null, pageable);
-        return convertToCalendarPageResponseDto(reservationPage);
+        return findCalendarPage(date, spaceId, ALL_STATUSES, pageable);
     }
 
     @Transactional(readOnly = true)
     public CalendarReservationPageResponseDto getHostPendingReservations(LocalDate date, Long spaceId, Pageable pageable) {
-        User host = findUserFromToken();
-        Page<Reservation> reservationPage = getReservationPageDependingOnSpaceId(host, date, spaceId, ReservationStatus.PENDING, pageable);
-        return convertToCalendarPageResponseDto(reservationPage);
+        return findCalendarPage(date, spaceId, EnumSet.of(ReservationStatus.PENDING), pageable);
     }
 
     @Transactional(readOnly = true)
     public CalendarReservationPageResponseDto getHostAcceptedReservations(LocalDate date, Long spaceId, Pageable pageable) {
+        return findCalendarPage(date, spaceId, EnumSet.of(ReservationStatus.ACCEPTED), pageable);
+    }
+
+    // 한 달치 달력을 페이지 없이 한 번에 조회. status 가 null 이면 전체 상태
+    @Transactional(readOnly = true)
+    public CalendarReservationPageResponseDto getHostMonthlyCalendar(YearMonth month, Long spaceId,
+            ReservationStatus status) {
         User host = findUserFromToken();
-        Page<Reservation> reservationPage = getReservationPageDependingOnSpaceId(host, date, spaceId, ReservationStatus.ACCEPTED, pageable);
-        return convertToCalendarPageResponseDto(reservationPage);
+        if (spaceId != null) {
+            validateSpaceOwnership(host, spaceId);
+        }
+
+        List<Reservation> reservations = reservationRepository.findHostCalendarReservations(
+                host.getId(), month.atDay(1), month.atEndOfMonth(), spaceId, statusesOf(status),
+                Pageable.unpaged()).getContent();
+
+        return new CalendarReservationPageResponseDto(toCalendarResponseDtos(reservations), true, 1);
+    }
+
+    // 커서 모드: status 가 null 이면 전체 상태
+    @Transactional(readOnly = true)
+    public CalendarReservationPageResponseDto getHostCalendarReservations(LocalDate date, Long spaceId,
+            ReservationStatus status, CursorRequest cursorRequest) {
+        User host = findUserFromToken();
+        if (spaceId != null) {
+            validateSpaceOwnership(host, spaceId);
+        }
+
+        LocalDateTime cursorAt = cursorRequest.isFirstPage() ? null
+                : cursorStartAt(date, cursorRequest.getCursor());
+        List<Reservation> fetched = reservationRepository.findHostCalendarReservationsAfter(
+                host.getId(), date.atStartOfDay(), date.plusDays(1).atStartOfDay(), spaceId,
+                statusesOf(status), cursorAt, cursorRequest.cursorId(), cursorRequest.fetchPageable());
+        CursorSlice<Reservation> slice = CursorSlice.of(fetched, cursorRequest,
+                reservation -> Cursor.of(reservation.getStartAt(), reservation.getId()));
+
+        return CalendarReservationPageResponseDto.ofCursor(toCalendarResponseDtos(slice.getContent()), slice);
     }
 
     @Transactional
     public void acceptReservation(Long reservationId, Long spaceId) {
-        User host = findUserFromToken();
-        Reservation reservation = validateReservationAndSpaceOwnership(reservationId, spaceId, host);
-        reservation.updateStatus(ReservationStatus.ACCEPTED);
+        ReservationTransition transition = ReservationTransition.ACCEPT;
+        Reservation reservation = changeStatus(reservationId, spaceId, transition);
+        reservationRollupRecorder.recordTransition(reservation, transition.getFrom());
+        reservationEventPublisher.publish(reservation, ReservationEventType.ACCEPTED);
+        syncIndex(List.of(reservation), transition);
     }
 
+    // 승인 대기 예약뿐 아니라 이미 승인한 예약도 거절할 수 있다. 이때 점유 시간을 풀고 매출 집계에서 뺀다
     @Transactional
     public void rejectReservation(Long reservationId, Long spaceId) {
         User host = findUserFromToken();
-        Reservation reservation = validateReservationAndSpaceOwnership(reservationId, spaceId, host);
-        reservation.updateStatus(ReservationStatus.REJECTED);
+        ReservationTransition transition = ReservationTransition.REJECT;
+        Optional<Reservation> rejected = reservationStatusChanger.changeByHost(reservationId, host.getId(), spaceId,
+                transition);
+        if (rejected.isEmpty()) {
+            transition = ReservationTransition.REVOKE;
+            rejected = reservationStatusChanger.changeByHost(reservationId, host.getId(), spaceId, transition);
+        }
+        Reservation reservation = rejected.orElseThrow(() -> statusChangeFailure(reservationId, spaceId, host));
+
+        reservationSlotRepository.deleteByReservationId(reservation.getId());
+        reservationRollupRecorder.recordTransition(reservation, transition.getFrom());
+        reservationEventPublisher.publish(reservation, ReservationEventType.REJECTED);
+        syncIndex(List.of(reservation), transition);
+    }
+
+    // 조건부 UPDATE 로 전환하고, 바뀐 행이 없을 때만 예약을 읽어 실패 사유를 가린다
+    private Reservation changeStatus(Long reservationId, Long spaceId, ReservationTransition transition) {
+        User host = findUserFromToken();
+
+        return reservationStatusChanger.changeByHost(reservationId, host.getId(), spaceId, transition)
+                .orElseThrow(() -> statusChangeFailure(reservationId, spaceId, host));
+    }
+
+    private MissMatch statusChangeFailure(Long reservationId, Long spaceId, User host) {
+        validateReservationAndSpaceOwnership(reservationId, spaceId, host);
+        return new MissMatch(ReservationErrorCode.INVALID_STATUS_TRANSITION);
+    }
+
+    // 승인 대기 예약을 한꺼번에 승인·거절한다. 소유 확인은 조회 한 번, 변경은 조건부 UPDATE 한 번으로 끝내고 결과는 id 마다 돌려준다
+    @Transactional
+    public ReservationStatusBulkResponseDto changeReservationStatuses(ReservationStatusBulkRequestDto requestDto) {
+        ReservationStatus target = requestDto.getStatus();
+        if (target != ReservationStatus.ACCEPTED && target != ReservationStatus.REJECTED) {
+            throw new InputInvalidFormatException(ReservationErrorCode.INVALID_BULK_STATUS);
+        }
+
+        User host = findUserFromToken();
+        Set<Long> requestedIds = new LinkedHashSet<>(requestDto.getReservationIds());
+        Map<Long, Reservation> found = reservationRepository.findAllByIdInForUpdate(requestedIds, host.getId())
+                .stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+        Set<Long> othersIds = findOthersReservationIds(requestedIds, found.keySet());
+
+        List<ReservationStatusResultDto> results = new ArrayList<>();
+        List<Reservation> changed = new ArrayList<>();
+        for (Long reservationId : requestedIds) {
+            Reservation reservation = found.get(reservationId);
+            Result result = othersIds.contains(reservationId) ? Result.NO_PERMISSION : checkBulkTarget(reservation);
+            if (result == Result.CHANGED) {
+                changed.add(reservation);
+            }
+            results.add(ReservationStatusResultDto.of(reservationId, result));
+        }
+
+        if (!changed.isEmpty()) {
+            applyBulkTransition(changed, target == ReservationStatus.ACCEPTED
+                    ? ReservationTransition.ACCEPT : ReservationTransition.REJECT);
+        }
+
+        return new ReservationStatusBulkResponseDto(target.name(), changed.size(), results);
+    }
+
+    // 잠근 결과에 없는 id 중 실제로 있는 예약은 다른 호스트의 예약이다
+    private Set<Long> findOthersReservationIds(Set<Long> requestedIds, Set<Long> ownedIds) {
+        if (ownedIds.size() == requestedIds.size()) {
+            return Set.of();
+        }
+
+        List<Long> missingIds = requestedIds.stream()
+                .filter(id -> !ownedIds.contains(id))
+                .toList();
+        return new HashSet<>(reservationRepository.findExistingIds(missingIds));
+    }
+
+    private Result checkBulkTarget(Reservation reservation) {
+        if (reservation == null || reservation.isDeleted()) {
+            return Result.NOT_FOUND;
+        }
+        // 일괄 변경은 승인·거절뿐이고 둘 다 승인 대기에서 출발한다
+        if (reservation.getStatus() != ReservationStatus.PENDING) {
+            return Result.NOT_PENDING;
+        }
+
+        return Result.CHANGED;
+    }
+
+    // 대상 행은 잠겨 있으므로 UPDATE 는 모두 적용된다
+    // 조회한 엔티티는 읽기 전용이라 메모리에서 상태를 바꿔도 다시 UPDATE 되지 않는다
+    private void applyBulkTransition(List<Reservation> reservations, ReservationTransition transition) {
+        List<Long> ids = reservations.stream()
+                .map(Reservation::getId)
+                .toList();
+        reservationRepository.transitionStatus(ids, transition.getFrom(), transition.getTo(), LocalDateTime.now());
+        if (transition == ReservationTransition.REJECT) {
+            reservationSlotRepository.deleteByReservationIdInAndStatus(ids, ReservationStatus.REJECTED);
+        }
+
+        ReservationEventType eventType = transition == ReservationTransition.ACCEPT
+                ? ReservationEventType.ACCEPTED : ReservationEventType.REJECTED;
+        for (Reservation reservation : reservations) {
+            reservation.updateStatus(transition.getTo());
+            reservationEventPublisher.publish(reservation, eventType);
+        }
+        reservationRollupRecorder.recordBulkTransition(reservations, transition.getFrom());
+        syncIndex(reservations, transition);
+    }
+
+    // 조건부 UPDATE 는 엔티티 리스너를 거치지 않으므로 커밋 이후 날짜별 색인과 달력 캐시를 직접 갱신한다
+    private void syncIndex(List<Reservation> reservations, ReservationTransition transition) {
+        AfterCommit.execute(() -> {
+            for (Reservation reservation : reservations) {
+                Long spaceId = reservation.getSpace().getId();
+                if (transition.getTo() == ReservationStatus.REJECTED) {
+                    spaceAvailabilityIndex.removeReservation(reservation.getId(), spaceId, reservation.getDate());
+                } else {
+                    spaceAvailabilityIndex.putReservation(reservation.getId(), spaceId, reservation.getDate(),
+                            reservation.getStartTime(), reservation.getEndTime());
+                }
+                availabilityCalendarCache.evict(spaceId, reservation.getDate());
+            }
+        });
     }
 
     private Reservation validateReservationAndSpaceOwnership(Long reservationId, Long spaceId, User host) {
@@ -76,11 +264,7 @@ public class ReservationCalendarService {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ReservationNotFound(ReservationErrorCode.RESERVATION_NOT_FOUND));
 
-        // 공간 존재 확인
-        Space space = spaceRepository.findById(spaceId)
-                .orElseThrow(() -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND));
-
-        // 공간 소유자 확인
+        // 공간 존재 및 소유자 확인
         validateSpaceOwnership(host, spaceId);
 
         // 예약의 공간과 입력받은 공간이 일치하는지 확인
@@ -96,29 +280,32 @@ public class ReservationCalendarService {
         return reservation;
     }
 
-    private Page<Reservation> getReservationPageDependingOnSpaceId(User host, LocalDate date, Long spaceId, ReservationStatus status, Pageable pageable) {
+    private CalendarReservationPageResponseDto findCalendarPage(LocalDate date, Long spaceId,
+            Set<ReservationStatus> statuses, Pageable pageable) {
+        User host = findUserFromToken();
         if (spaceId != null) {
             validateSpaceOwnership(host, spaceId);
-            if (status != null) {
-                return reservationRepository.findByHostIdAndDateAndSpaceIdAndStatusAndDeletedAtIsNullOrderByStartTime(
-                        host.getId(), date, spaceId, status, pageable
-                );
-            } else {
-                return reservationRepository.findByHostIdAndDateAndSpaceIdAndDeletedAtIsNullOrderByStartTime(
-                        host.getId(), date, spaceId, pageable
-                );
-            }
-        } else {
-            if (status != null) {
-                return reservationRepository.findByHostIdAndDateAndStatusAndDeletedAtIsNullOrderByStartTime(
-                        host.getId(), date, status, pageable
-                );
-            } else {
-                return reservationRepository.findByHostIdAndDateAndDeletedAtIsNullOrderByStartTime(
-                        host.getId(), date, pageable
-                );
-            }
         }
+
+        // 정렬은 쿼리의 (date, startTime, id) 순서를 따른다
+        Page<Reservation> reservationPage = reservationRepository.findHostCalendarReservations(
+                host.getId(), date, date, spaceId, statuses,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        return convertToCalendarPageResponseDto(reservationPage);
+    }
+
+    private Set<ReservationStatus> statusesOf(ReservationStatus status) {
+        return status == null ? ALL_STATUSES : EnumSet.of(status);
+    }
+
+    // 이전 버전이 내보낸 커서는 키가 시작 시간(HH:mm)뿐이다. 같은 날짜 안의 순서는 같으므로 날짜를 붙여 이어서 읽는다
+    private LocalDateTime cursorStartAt(LocalDate date, Cursor cursor) {
+        if (cursor.getKey().indexOf('T') < 0) {
+            return date.atTime(cursor.keyAsTime());
+        }
+
+        return cursor.keyAsDateTime();
     }
 
     private void validateSpaceOwnership(User host, Long spaceId) {
@@ -132,18 +319,22 @@ public class ReservationCalendarService {
     }
 
     private CalendarReservationPageResponseDto convertToCalendarPageResponseDto(Page<Reservation> reservationPage) {
-        List<CalendarReservationResponseDto> responseDtoList = new ArrayList<>();
-        for (Reservation reservation : reservationPage.getContent()) {
-            responseDtoList.add(CalendarReservationResponseDto.of(reservation));
-        }
-
         return new CalendarReservationPageResponseDto(
-                responseDtoList,
+                toCalendarResponseDtos(reservationPage.getContent()),
                 reservationPage.isLast(),
                 reservationPage.getTotalPages()
         );
     }
 
+    private List<CalendarReservationResponseDto> toCalendarResponseDtos(List<Reservation> reservations) {
+        List<CalendarReservationResponseDto> responseDtoList = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            responseDtoList.add(CalendarReservationResponseDto.of(reservation));
+        }
+
+        return responseDtoList;
+    }
+
     private User findUserFromToken() {
         String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
 
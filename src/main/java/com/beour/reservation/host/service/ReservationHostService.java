@@ -19,6 +19,7 @@ import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -58,12 +60,10 @@ public class ReservationHostService {
     public HostReservationListPageResponseDto getHostReservationsByDate(LocalDate date, Pageable pageable) {
         User host = findUserFromToken();
 
-        Page<Reservation> reservationPage = reservationRepository.findByHostIdAndDateAndDeletedAtIsNullOrderByStartTime(
-                host.getId(), date, pageable);
-
-        return filterAcceptedReservationsAndConvert(reservationPage);
+        return findAcceptedReservations(host, date, null, pageable);
     }
 
+    @Transactional(readOnly = true)
     public HostReservationListPageResponseDto getHostReservationsByDateAndSpace(LocalDate date, Long spaceId, Pageable pageable) {
         User host = findUserFromToken();
 
@@ -76,22 +76,21 @@ public class ReservationHostService {
             throw new UnauthorityException(SpaceErrorCode.NO_PERMISSION);
         }
 
-        Page<Reservation> reservationPage = reservationRepository.findByHostIdAndDateAndSpaceIdAndDeletedAtIsNullOrderByStartTime(
-                host.getId(), date, spaceId, pageable);
-
-        return filterAcceptedReservationsAndConvert(reservationPage);
+        return findAcceptedReservations(host, date, spaceId, pageable);
     }
 
-    private HostReservationListPageResponseDto filterAcceptedReservationsAndConvert(Page<Reservation> reservationPage) {
-        List<Reservation> acceptedReservations = reservationPage.getContent().stream()
-                .filter(reservation -> reservation.getStatus() == ReservationStatus.ACCEPTED)
-                .collect(Collectors.toList());
+    // 승인 상태 필터를 쿼리에 넣어 페이지 크기와 전체 페이지 수가 승인된 예약 기준이 되도록 한다
+    private HostReservationListPageResponseDto findAcceptedReservations(User host, LocalDate date, Long spaceId,
+            Pageable pageable) {
+        Page<Reservation> reservationPage = reservationRepository.findHostCalendarReservations(
+                host.getId(), date, date, spaceId, EnumSet.of(ReservationStatus.ACCEPTED),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-        if (acceptedReservations.isEmpty()) {
+        if (reservationPage.isEmpty()) {
             throw new ReservationNotFound(ReservationErrorCode.RESERVATION_NOT_FOUND);
         }
 
-        List<HostReservationListResponseDto> responseDtoList = acceptedReservations.stream()
+        List<HostReservationListResponseDto> responseDtoList = reservationPage.getContent().stream()
                 .map(HostReservationListResponseDto::of)
                 .collect(Collectors.toList());
 
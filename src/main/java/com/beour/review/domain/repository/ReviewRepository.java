@@ -1,6 +1,7 @@
 package com.beour.review.domain.repository;
 
 import com.beour.review.domain.entity.Review;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -40,9 +41,54 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     """)
     Page<Review> findCommentableReviewsByHostId(@Param("hostId") Long hostId, Pageable pageable);
 
+    // 커서 모드: 컬렉션 fetch join 과 페이징을 함께 쓰지 않도록 id 만 먼저 자른다
+    @Query("""
+    SELECT r.id FROM Review r
+    WHERE r.guest.id = :guestId AND r.deletedAt IS NULL
+    AND (:cursorId IS NULL OR r.id > :cursorId)
+    ORDER BY r.id ASC
+    """)
+    List<Long> findWrittenReviewIdsByGuestIdAfter(@Param("guestId") Long guestId,
+        @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("""
+    SELECT r.id FROM Review r
+    WHERE r.space.host.id = :hostId
+    AND r.deletedAt IS NULL
+    AND r.comment IS NULL
+    AND (:cursorId IS NULL OR r.id < :cursorId)
+    ORDER BY r.id DESC
+    """)
+    List<Long> findCommentableReviewIdsByHostIdAfter(@Param("hostId") Long hostId,
+        @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("""
+    SELECT DISTINCT r FROM Review r
+    LEFT JOIN FETCH r.comment
+    LEFT JOIN FETCH r.images
+    WHERE r.id IN :ids
+    """)
+    List<Review> findAllWithCommentAndImagesByIdIn(@Param("ids") Collection<Long> ids);
+
     Optional<Review> findByGuestIdAndSpaceIdAndReservedDateAndDeletedAtIsNull(Long guestId, Long spaceId, LocalDate reservedDate);
 
     long countBySpaceIdAndDeletedAtIsNull(Long spaceId);
+
+    @Query("""
+    SELECT r.space.id AS spaceId,
+           COUNT(r) AS reviewCount,
+           SUM(r.rating) AS ratingSum,
+           SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END) AS oneStarCount,
+           SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END) AS twoStarCount,
+           SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END) AS threeStarCount,
+           SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END) AS fourStarCount,
+           SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END) AS fiveStarCount
+    FROM Review r
+    WHERE r.space.id IN :spaceIds AND r.deletedAt IS NULL
+    GROUP BY r.space.id
+    """)
+    List<SpaceRatingAggregate> aggregateRatingsBySpaceIdIn(@Param("spaceIds") Collection<Long> spaceIds);
+
     List<Review> findTop5ByDeletedAtIsNullOrderByCreatedAtDesc();
 
 }
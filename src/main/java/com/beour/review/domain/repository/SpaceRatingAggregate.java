@@ -0,0 +1,20 @@
+package com.beour.review.domain.repository;
+
+public interface SpaceRatingAggregate {
+
+    Long getSpaceId();
+
+    Long getReviewCount();
+
+    Long getRatingSum();
+
+    Long getOneStarCount();
+
+    Long getTwoStarCount();
+
+    Long getThreeStarCount();
+
+    Long getFourStarCount();
+
+    Long getFiveStarCount();
+}
@@ -1,5 +1,7 @@
 package com.beour.review.guest.controller;
 
+import com.beour.global.idempotency.IdempotencyStore;
+import com.beour.global.pagination.CursorRequest;
 import com.beour.global.response.ApiResponse;
 import com.beour.review.guest.dto.RecentWrittenReviewResponseDto;
 import com.beour.review.guest.dto.ReviewDetailResponseDto;
@@ -24,6 +26,7 @@ import java.util.List;
 public class ReviewGuestController {
 
     private final ReviewGuestService reviewGuestService;
+    private final IdempotencyStore idempotencyStore;
 
     @GetMapping("/api/users/me/reviewable-reservations")
     public ApiResponse<ReviewableReservationPageResponseDto> getReviewableReservations(
@@ -33,7 +36,13 @@ public class ReviewGuestController {
 
     @GetMapping("/api/users/me/reviews")
     public ApiResponse<WrittenReviewPageResponseDto> getWrittenReviews(
+        @RequestParam(value = "cursor", required = false) String cursor,
         @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(reviewGuestService.getWrittenReviews(cursorRequest));
+        }
+
         return ApiResponse.ok(reviewGuestService.getWrittenReviews(pageable));
     }
 
@@ -44,13 +53,21 @@ public class ReviewGuestController {
         return ApiResponse.ok(reviewGuestService.getReservationForReview(reservationId));
     }
 
+    // 같은 Idempotency-Key 로 재시도하면 리뷰를 다시 만들지 않고 첫 응답을 돌려준다
     @PostMapping("/api/users/me/reviews")
     public ApiResponse<String> createReview(
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestPart("requestDto") @Valid ReviewRequestDto requestDto,
         @RequestPart(name = "images", required = false) List<MultipartFile> images)
         throws IOException {
-        reviewGuestService.createReview(requestDto, images);
-        return ApiResponse.ok("Review가 저장되었습니다.");
+        List<String> imageNames = images == null ? List.of() : images.stream()
+            .map(image -> image.getOriginalFilename() + ":" + image.getSize())
+            .toList();
+        return idempotencyStore.execute("review:" + requestDto.getReservationId(), idempotencyKey,
+            List.of(requestDto, imageNames), () -> {
+            reviewGuestService.createReview(requestDto, images);
+            return ApiResponse.ok("Review가 저장되었습니다.");
+        });
     }
 
     // 리뷰 상세 조회
@@ -3,6 +3,8 @@ package com.beour.review.guest.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import com.beour.global.pagination.CursorSlice;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
 @Getter
@@ -11,4 +13,15 @@ public class WrittenReviewPageResponseDto {
     private List<WrittenReviewResponseDto> reviews;
     private boolean last;
     private int totalPage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public WrittenReviewPageResponseDto(List<WrittenReviewResponseDto> reviews, boolean last, int totalPage) {
+        this(reviews, last, totalPage, null);
+    }
+
+    public static WrittenReviewPageResponseDto ofCursor(List<WrittenReviewResponseDto> reviews, CursorSlice<?> slice) {
+        return new WrittenReviewPageResponseDto(reviews, slice.isLast(), 0, slice.getNextCursor());
+    }
 }
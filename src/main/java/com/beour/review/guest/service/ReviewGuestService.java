@@ -8,6 +8,9 @@ import com.beour.global.exception.exceptionType.ReviewNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.global.file.ImageUploader;
+import com.beour.global.pagination.Cursor;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.global.pagination.CursorSlice;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.global.exception.exceptionType.MissMatch;
@@ -26,6 +29,7 @@ import com.beour.review.guest.dto.ReviewableReservationPageResponseDto;
 import com.beour.review.guest.dto.ReviewableReservationResponseDto;
 import com.beour.review.guest.dto.WrittenReviewPageResponseDto;
 import com.beour.review.guest.dto.WrittenReviewResponseDto;
+import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -40,7 +44,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -50,6 +57,7 @@ public class ReviewGuestService {
     private final ReservationRepository reservationRepository;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final SpaceRepository spaceRepository;
     private final ImageUploader imageUploader;
 
     public ReviewableReservationPageResponseDto getReviewableReservations(Pageable pageable) {
@@ -91,6 +99,30 @@ public class ReviewGuestService {
         );
     }
 
+    public WrittenReviewPageResponseDto getWrittenReviews(CursorRequest cursorRequest) {
+        User guest = findUserFromToken();
+
+        List<Long> fetchedIds = reviewRepository.findWrittenReviewIdsByGuestIdAfter(guest.getId(),
+                cursorRequest.cursorId(), cursorRequest.fetchPageable());
+        CursorSlice<Long> slice = CursorSlice.of(fetchedIds, cursorRequest, Cursor::ofId);
+
+        if (slice.isEmpty()) {
+            throw new ReviewNotFoundException(ReviewErrorCode.REVIEW_NOT_FOUND);
+        }
+
+        Map<Long, Review> reviewMap = reviewRepository.findAllWithCommentAndImagesByIdIn(slice.getContent())
+                .stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        List<WrittenReviewResponseDto> reviews = slice.getContent().stream()
+                .map(reviewMap::get)
+                .filter(Objects::nonNull)
+                .map(review -> WrittenReviewResponseDto.of(review, review.getComment()))
+                .toList();
+
+        return WrittenReviewPageResponseDto.ofCursor(reviews, slice);
+    }
+
     // 예약 정보 조회 (리뷰 작성을 위한)
     public ReviewForReservationResponseDto getReservationForReview(Long reservationId) {
         User guest = findUserFromToken();
@@ -112,6 +144,7 @@ public class ReviewGuestService {
 
         Review review = buildReview(guest, reservation, requestDto.getRating(), requestDto.getContent());
         Review savedReview = reviewRepository.save(review);
+        spaceRepository.applyRating(reservation.getSpace().getId(), savedReview.getRating(), 1);
 
         saveReviewImages(savedReview, images);
     }
@@ -132,6 +165,7 @@ public class ReviewGuestService {
 
         validateReviewOwner(review, guest);
 
+        updateSpaceRating(review, requestDto.getRating());
         review.updateRating(requestDto.getRating());
         review.updateContent(requestDto.getContent());
 
@@ -144,7 +178,9 @@ public class ReviewGuestService {
         Review review = findReviewById(reviewId);
 
         validateReviewOwner(review, guest);
+        checkAlreadyDeleted(review);
 
+        spaceRepository.applyRating(review.getSpace().getId(), review.getRating(), -1);
         review.softDelete();
     }
 
@@ -218,6 +254,22 @@ public class ReviewGuestService {
         }
     }
 
+    private void checkAlreadyDeleted(Review review) {
+        if (review.getDeletedAt() != null) {
+            throw new ReviewNotFoundException(ReviewErrorCode.REVIEW_NOT_FOUND);
+        }
+    }
+
+    private void updateSpaceRating(Review review, int newRating) {
+        if (review.getDeletedAt() != null || review.getRating() == newRating) {
+            return;
+        }
+
+        Long spaceId = review.getSpace().getId();
+        spaceRepository.applyRating(spaceId, review.getRating(), -1);
+        spaceRepository.applyRating(spaceId, newRating, 1);
+    }
+
     private Review buildReview(User guest, Reservation reservation, int rating, String content) {
         return Review.builder()
                 .guest(guest)
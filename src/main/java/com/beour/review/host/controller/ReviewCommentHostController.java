@@ -1,5 +1,6 @@
 package com.beour.review.host.controller;
 
+import com.beour.global.pagination.CursorRequest;
 import com.beour.global.response.ApiResponse;
 import com.beour.review.host.dto.ReviewCommentCreateRequestDto;
 import com.beour.review.host.dto.ReviewCommentPageResponseDto;
@@ -22,7 +23,13 @@ public class ReviewCommentHostController {
     private final ReviewCommentHostService reviewCommentHostService;
 
     @GetMapping("/api/users/me/commentable-reviews")
-    public ApiResponse<ReviewCommentablePageResponseDto> getCommentableReviews(Pageable pageable) {
+    public ApiResponse<ReviewCommentablePageResponseDto> getCommentableReviews(
+            @RequestParam(value = "cursor", required = false) String cursor, Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(reviewCommentHostService.getCommentableReviews(cursorRequest));
+        }
+
         return ApiResponse.ok(reviewCommentHostService.getCommentableReviews(pageable));
     }
 
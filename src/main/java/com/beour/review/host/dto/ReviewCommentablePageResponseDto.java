@@ -3,6 +3,8 @@ package com.beour.review.host.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import com.beour.global.pagination.CursorSlice;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
 @Getter
@@ -11,4 +13,15 @@ public class ReviewCommentablePageResponseDto {
     private List<ReviewCommentableResponseDto> reviews;
     private boolean last;
     private int totalPage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ReviewCommentablePageResponseDto(List<ReviewCommentableResponseDto> reviews, boolean last, int totalPage) {
+        this(reviews, last, totalPage, null);
+    }
+
+    public static ReviewCommentablePageResponseDto ofCursor(List<ReviewCommentableResponseDto> reviews, CursorSlice<?> slice) {
+        return new ReviewCommentablePageResponseDto(reviews, slice.isLast(), 0, slice.getNextCursor());
+    }
 }
@@ -9,6 +9,9 @@ import com.beour.global.exception.exceptionType.ReviewCommentNotFoundException;
 import com.beour.global.exception.exceptionType.ReviewNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.global.pagination.Cursor;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.global.pagination.CursorSlice;
 import com.beour.review.domain.entity.Review;
 import com.beour.review.domain.entity.ReviewComment;
 import com.beour.review.domain.repository.ReviewCommentRepository;
@@ -28,7 +31,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -57,6 +64,30 @@ public class ReviewCommentHostService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public ReviewCommentablePageResponseDto getCommentableReviews(CursorRequest cursorRequest) {
+        User host = findUserFromToken();
+
+        List<Long> fetchedIds = reviewRepository.findCommentableReviewIdsByHostIdAfter(host.getId(),
+                cursorRequest.cursorId(), cursorRequest.fetchPageable());
+        CursorSlice<Long> slice = CursorSlice.of(fetchedIds, cursorRequest, Cursor::ofId);
+        if (slice.isEmpty()) {
+            return ReviewCommentablePageResponseDto.ofCursor(Collections.emptyList(), slice);
+        }
+
+        Map<Long, Review> reviewMap = reviewRepository.findAllWithCommentAndImagesByIdIn(slice.getContent())
+                .stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        List<ReviewCommentableResponseDto> reviews = slice.getContent().stream()
+                .map(reviewMap::get)
+                .filter(Objects::nonNull)
+                .map(ReviewCommentableResponseDto::of)
+                .collect(Collectors.toList());
+
+        return ReviewCommentablePageResponseDto.ofCursor(reviews, slice);
+    }
+
     @Transactional(readOnly = true)
     public ReviewCommentPageResponseDto getWrittenReviewComments(Pageable pageable) {
         User host = findUserFromToken();
@@ -0,0 +1,43 @@
+package com.beour.space.domain.card;
+
+import com.beour.space.domain.repository.SpaceTagContents;
+import com.beour.space.domain.repository.TagRepository;
+import com.beour.user.entity.User;
+import com.beour.wishlist.repository.LikeRepository;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공간 목록 API 공통 카드 정보 조회.
+ * 공간 수와 관계없이 찜 여부(IN), 태그(IN) 두 번의 쿼리로 끝낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpaceCardAssembler {
+
+    private final LikeRepository likeRepository;
+    private final TagRepository tagRepository;
+
+    public SpaceCards assemble(List<Long> spaceIds, User user) {
+        if (spaceIds.isEmpty()) {
+            return SpaceCards.empty();
+        }
+
+        Set<Long> likedSpaceIds = Collections.emptySet();
+        if (user != null) {
+            likedSpaceIds = new HashSet<>(likeRepository.findLikedSpaceIds(user.getId(), spaceIds));
+        }
+
+        Map<Long, List<String>> tags = tagRepository.findContentsBySpaceIds(spaceIds).stream()
+            .collect(Collectors.groupingBy(SpaceTagContents::getSpaceId,
+                Collectors.mapping(SpaceTagContents::getContents, Collectors.toList())));
+
+        return new SpaceCards(likedSpaceIds, tags);
+    }
+}
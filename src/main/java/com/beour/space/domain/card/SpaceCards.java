@@ -0,0 +1,27 @@
+package com.beour.space.domain.card;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+
+// 한 페이지 분량의 공간 카드에 필요한 부가 정보 (찜 여부, 태그). 리뷰 수/평점은 Space 의 RatingSummary 를 쓴다.
+@RequiredArgsConstructor
+public class SpaceCards {
+
+    private final Set<Long> likedSpaceIds;
+    private final Map<Long, List<String>> tags;
+
+    public static SpaceCards empty() {
+        return new SpaceCards(Collections.emptySet(), Collections.emptyMap());
+    }
+
+    public boolean isLiked(Long spaceId) {
+        return likedSpaceIds.contains(spaceId);
+    }
+
+    public List<String> getTags(Long spaceId) {
+        return tags.getOrDefault(spaceId, Collections.emptyList());
+    }
+}
@@ -0,0 +1,35 @@
+package com.beour.space.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import jakarta.persistence.Id;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 특정 날짜의 운영 시간 예외. 그날은 요일 규칙 대신 이 시간만 열고, 시간이 비어 있으면 휴무
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_availability_exception_space_date",
+    columnNames = {"space_id", "date"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "space_id")
+    private Space space;
+
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    public boolean isClosed() {
+        return startTime == null || endTime == null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.beour.space.domain.entity;
 
+import com.beour.space.domain.index.AvailableTimeIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.persistence.Id;
@@ -9,6 +10,7 @@ import java.time.LocalTime;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(AvailableTimeIndexListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
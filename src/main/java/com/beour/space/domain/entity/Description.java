@@ -1,10 +1,12 @@
 package com.beour.space.domain.entity;
 
+import com.beour.space.domain.index.SpaceSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.persistence.Id;
 
 @Entity
+@EntityListeners(SpaceSearchIndexListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,64 @@
+package com.beour.space.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 공간별 리뷰 집계 (리뷰 수, 별점 합계, 1~5점 분포).
+ * 리뷰 작성/수정/삭제 시 SpaceRepository.applyRating 으로 원자적으로 증감하고,
+ * SpaceRatingReconciler 가 주기적으로 review 테이블 기준으로 다시 맞춘다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingSummary {
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int reviewCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int ratingSum;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int oneStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int twoStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int threeStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int fourStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int fiveStarCount;
+
+    public static RatingSummary empty() {
+        return new RatingSummary();
+    }
+
+    public double getAverage() {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return (double) ratingSum / reviewCount;
+    }
+
+    // index 0 이 1점
+    public List<Integer> getStarCounts() {
+        return List.of(oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount);
+    }
+}
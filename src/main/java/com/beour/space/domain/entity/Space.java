@@ -3,16 +3,23 @@ package com.beour.space.domain.entity;
 import com.beour.global.entity.BaseTimeEntity;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.index.SpaceCatalogListener;
+import com.beour.space.domain.index.SpaceGeoIndexListener;
+import com.beour.space.domain.index.SpaceSearchIndexListener;
 import com.beour.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.persistence.Id;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners({SpaceSearchIndexListener.class, SpaceGeoIndexListener.class,
+    SpaceCatalogListener.class})
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,6 +56,11 @@ public class Space extends BaseTimeEntity {
 
     private Double avgRating;
 
+    // 리뷰 집계는 벌크 UPDATE 로만 바뀌므로 @DynamicUpdate 로 엔티티 저장 시 덮어쓰지 않게 한다
+    @Embedded
+    @Builder.Default
+    private RatingSummary ratingSummary = RatingSummary.empty();
+
     private LocalDateTime deletedAt;
 
     // 연관관계 매핑
@@ -56,12 +68,20 @@ public class Space extends BaseTimeEntity {
     private Description description;
 
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
+    @OrderBy("displayOrder ASC, id ASC")
     private List<Tag> tags = new ArrayList<>();
 
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
     private List<AvailableTime> availableTimes = new ArrayList<>();
 
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
+    private List<WeeklyAvailability> weeklyAvailabilities = new ArrayList<>();
+
+    @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
+    private List<AvailabilityException> availabilityExceptions = new ArrayList<>();
+
+    @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
+    @OrderBy("displayOrder ASC, id ASC")
     private List<SpaceImage> spaceImages = new ArrayList<>();
 
     // 전체 수정(PUT)
@@ -3,6 +3,7 @@ package com.beour.space.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.persistence.Id;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -24,11 +25,21 @@ public class SpaceImage {
 
     private String imageUrl;
 
+    // 공간 안에서의 표시 순서. 같으면 id 순
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int displayOrder;
+
     private LocalDateTime deletedAt;
 
     // 생성자: id 없이 만드는 용도
-    public SpaceImage(Space space, String imageUrl) {
+    public SpaceImage(Space space, String imageUrl, int displayOrder) {
         this.space = space;
         this.imageUrl = imageUrl;
+        this.displayOrder = displayOrder;
+    }
+
+    public void updateDisplayOrder(int displayOrder) {
+        this.displayOrder = displayOrder;
     }
 }
@@ -1,10 +1,13 @@
 package com.beour.space.domain.entity;
 
+import com.beour.space.domain.index.SpaceSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.persistence.Id;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@EntityListeners(SpaceSearchIndexListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,10 +24,20 @@ public class Tag {
 
     private String contents;
 
+    // 공간 안에서의 표시 순서. 같으면 id 순
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int displayOrder;
+
     // 생성자: id 없이 만드는 용도
-    public Tag(Space space, String contents) {
+    public Tag(Space space, String contents, int displayOrder) {
         this.space = space;
         this.contents = contents;
+        this.displayOrder = displayOrder;
+    }
+
+    public void updateDisplayOrder(int displayOrder) {
+        this.displayOrder = displayOrder;
     }
 }
 
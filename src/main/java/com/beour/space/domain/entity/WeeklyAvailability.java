@@ -0,0 +1,62 @@
+package com.beour.space.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import jakarta.persistence.Id;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+// 요일 반복 운영 시간. "월~금 09:00~22:00, validUntil 까지(없으면 별도 변경 전까지)" 를 한 행으로 저장한다
+@Entity
+@Table(indexes = @Index(name = "idx_weekly_availability_space", columnList = "space_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyAvailability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "space_id")
+    private Space space;
+
+    // bit 0 = 월요일 ... bit 6 = 일요일
+    private int dayMask;
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    private LocalDate validFrom;
+    private LocalDate validUntil;
+
+    public static int dayMaskOf(Collection<DayOfWeek> daysOfWeek) {
+        int mask = 0;
+        for (DayOfWeek dayOfWeek : daysOfWeek) {
+            mask |= 1 << (dayOfWeek.getValue() - 1);
+        }
+        return mask;
+    }
+
+    public Set<DayOfWeek> getDaysOfWeek() {
+        Set<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if ((dayMask & (1 << (dayOfWeek.getValue() - 1))) != 0) {
+                daysOfWeek.add(dayOfWeek);
+            }
+        }
+        return daysOfWeek;
+    }
+
+    public boolean appliesTo(LocalDate date) {
+        return !date.isBefore(validFrom)
+            && (validUntil == null || !date.isAfter(validUntil))
+            && (dayMask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0;
+    }
+}
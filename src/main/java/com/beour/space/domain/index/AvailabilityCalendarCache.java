@@ -0,0 +1,69 @@
+package com.beour.space.domain.index;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월 달력 조회용 (공간, 월) 단위 캐시. 값은 날짜별 운영/예약 시간 마스크이고,
+ * 해당 공간의 운영 시간이나 예약이 바뀌면 그 달만 비운다.
+ * 오늘 기준 지난 시간 제외는 조회 시점에 하므로 캐시 값은 시간이 지나도 유효하다.
+ */
+@Component
+public class AvailabilityCalendarCache {
+
+    private final Map<Long, Map<YearMonth, MonthSlots>> months = new ConcurrentHashMap<>();
+
+    // 로딩 중 같은 달의 무효화는 로딩이 끝난 뒤 적용되어 오래된 값이 남지 않는다
+    public MonthSlots get(Long spaceId, YearMonth month, Function<YearMonth, MonthSlots> loader) {
+        return months.computeIfAbsent(spaceId, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(month, loader);
+    }
+
+    public void evict(Long spaceId, LocalDate date) {
+        Map<YearMonth, MonthSlots> spaceMonths = months.get(spaceId);
+        if (spaceMonths != null) {
+            spaceMonths.remove(YearMonth.from(date));
+        }
+    }
+
+    // 요일 규칙·날짜 예외 변경은 여러 달에 걸치므로 공간의 모든 달을 비운다
+    public void evictSpace(Long spaceId) {
+        months.remove(spaceId);
+    }
+
+    public void clear() {
+        months.clear();
+    }
+
+    public static final class MonthSlots {
+
+        // 0 번째가 1일
+        private final int[] openMasks;
+        private final int[] reservedMasks;
+
+        public MonthSlots(YearMonth month) {
+            this.openMasks = new int[month.lengthOfMonth()];
+            this.reservedMasks = new int[month.lengthOfMonth()];
+        }
+
+        public void addOpen(LocalDate date, int mask) {
+            openMasks[date.getDayOfMonth() - 1] |= mask;
+        }
+
+        public void addReserved(LocalDate date, int mask) {
+            reservedMasks[date.getDayOfMonth() - 1] |= mask;
+        }
+
+        public int openMask(LocalDate date) {
+            return openMasks[date.getDayOfMonth() - 1];
+        }
+
+        public int freeMask(LocalDate date) {
+            return openMasks[date.getDayOfMonth() - 1] & ~reservedMasks[date.getDayOfMonth() - 1];
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.beour.space.domain.index;
+
+import com.beour.global.transaction.AfterCommit;
+import com.beour.space.domain.entity.AvailableTime;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+
+// 운영 시간 등록/교체(updateAvailableTimes 의 삭제 후 저장)를 커밋 이후 날짜별 색인과 월 달력 캐시에 반영
+@RequiredArgsConstructor
+public class AvailableTimeIndexListener {
+
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(AvailableTime availableTime) {
+        Long availableTimeId = availableTime.getId();
+        Long spaceId = availableTime.getSpace().getId();
+        LocalDate date = availableTime.getDate();
+        if (availableTime.getDeletedAt() != null) {
+            AfterCommit.execute(() -> remove(availableTimeId, spaceId, date));
+            return;
+        }
+
+        AfterCommit.execute(() -> {
+            spaceAvailabilityIndex.putAvailableTime(availableTimeId, spaceId, date,
+                availableTime.getStartTime(), availableTime.getEndTime());
+            availabilityCalendarCache.evict(spaceId, date);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(AvailableTime availableTime) {
+        Long availableTimeId = availableTime.getId();
+        Long spaceId = availableTime.getSpace().getId();
+        LocalDate date = availableTime.getDate();
+        AfterCommit.execute(() -> remove(availableTimeId, spaceId, date));
+    }
+
+    private void remove(Long availableTimeId, Long spaceId, LocalDate date) {
+        spaceAvailabilityIndex.removeAvailableTime(availableTimeId, spaceId, date);
+        availabilityCalendarCache.evict(spaceId, date);
+    }
+}
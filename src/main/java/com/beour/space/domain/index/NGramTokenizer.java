@@ -0,0 +1,56 @@
+package com.beour.space.domain.index;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글은 형태소 분석 없이도 음절 단위 bigram 으로 부분 일치 검색이 가능하다.
+ * 문서는 1-gram + 2-gram 으로, 검색어는 2-gram(한 글자면 1-gram)으로 분해한다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+            .toLowerCase(Locale.ROOT)
+            .trim()
+            .replaceAll("\\s+", " ");
+    }
+
+    public static Set<String> documentGrams(String normalizedText) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String term : normalizedText.split(" ")) {
+            for (int i = 0; i < term.length(); i++) {
+                grams.add(term.substring(i, i + 1));
+                if (i + 1 < term.length()) {
+                    grams.add(term.substring(i, i + 2));
+                }
+            }
+        }
+
+        return grams;
+    }
+
+    public static Set<String> queryGrams(String normalizedQuery) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String term : normalizedQuery.split(" ")) {
+            if (term.length() == 1) {
+                grams.add(term);
+                continue;
+            }
+            for (int i = 0; i + 1 < term.length(); i++) {
+                grams.add(term.substring(i, i + 2));
+            }
+        }
+
+        return grams;
+    }
+}
@@ -0,0 +1,55 @@
+package com.beour.space.domain.index;
+
+import com.beour.global.transaction.AfterCommit;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+
+// 예약 생성, 취소, 승인, 거절을 커밋 이후 날짜별 색인의 예약 시간과 월 달력 캐시에 반영
+@RequiredArgsConstructor
+public class ReservationIndexListener {
+
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        Long spaceId = reservation.getSpace().getId();
+        LocalDate date = reservation.getDate();
+        if (!holdsTime(reservation)) {
+            AfterCommit.execute(() -> remove(reservationId, spaceId, date));
+            return;
+        }
+
+        AfterCommit.execute(() -> {
+            spaceAvailabilityIndex.putReservation(reservationId, spaceId, date,
+                reservation.getStartTime(), reservation.getEndTime());
+            availabilityCalendarCache.evict(spaceId, date);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        Long spaceId = reservation.getSpace().getId();
+        LocalDate date = reservation.getDate();
+        AfterCommit.execute(() -> remove(reservationId, spaceId, date));
+    }
+
+    private void remove(Long reservationId, Long spaceId, LocalDate date) {
+        spaceAvailabilityIndex.removeReservation(reservationId, spaceId, date);
+        availabilityCalendarCache.evict(spaceId, date);
+    }
+
+    private boolean holdsTime(Reservation reservation) {
+        return reservation.getDeletedAt() == null
+            && (reservation.getStatus() == ReservationStatus.PENDING
+            || reservation.getStatus() == ReservationStatus.ACCEPTED);
+    }
+}
@@ -0,0 +1,171 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.schedule.OpenSchedule;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜별 예약 가능 공간 색인. 공간마다 그날의 운영 시간과 예약된 시간을 {@link HourSlots} 마스크로 들고 있어
+ * 날짜 필터는 DB 의 상관 서브쿼리 대신 이 색인이 돌려주는 공간 id 와의 교집합이 된다.
+ * 운영 시간은 단건 날짜 등록과, {@link SpaceAvailabilityWindow} 가 펼쳐 넣는 요일 규칙·날짜 예외를 {@link OpenSchedule} 규칙대로 합친다.
+ */
+@Component
+public class SpaceAvailabilityIndex {
+
+    private final TreeMap<LocalDate, Map<Long, DayAvailability>> days = new TreeMap<>();
+
+    public synchronized void putAvailableTime(Long availableTimeId, Long spaceId, LocalDate date,
+        LocalTime startTime, LocalTime endTime) {
+        day(spaceId, date).openMasks.put(availableTimeId, HourSlots.of(startTime, endTime));
+    }
+
+    public synchronized void removeAvailableTime(Long availableTimeId, Long spaceId,
+        LocalDate date) {
+        DayAvailability availability = find(spaceId, date);
+        if (availability != null) {
+            availability.openMasks.remove(availableTimeId);
+            removeIfEmpty(spaceId, date, availability);
+        }
+    }
+
+    // 요일 규칙으로 열린 칸과 날짜 예외. 둘 다 없으면 지운다
+    public synchronized void putSchedule(Long spaceId, LocalDate date, int scheduledMask,
+        Integer exceptionMask) {
+        if (scheduledMask == 0 && exceptionMask == null) {
+            DayAvailability availability = find(spaceId, date);
+            if (availability != null) {
+                availability.scheduledMask = 0;
+                availability.exceptionMask = null;
+                removeIfEmpty(spaceId, date, availability);
+            }
+            return;
+        }
+
+        DayAvailability availability = day(spaceId, date);
+        availability.scheduledMask = scheduledMask;
+        availability.exceptionMask = exceptionMask;
+    }
+
+    public synchronized void putReservation(Long reservationId, Long spaceId, LocalDate date,
+        LocalTime startTime, LocalTime endTime) {
+        day(spaceId, date).reservedMasks.put(reservationId, HourSlots.of(startTime, endTime));
+    }
+
+    public synchronized void removeReservation(Long reservationId, Long spaceId, LocalDate date) {
+        DayAvailability availability = find(spaceId, date);
+        if (availability != null) {
+            availability.reservedMasks.remove(reservationId);
+            removeIfEmpty(spaceId, date, availability);
+        }
+    }
+
+    // 지난 날짜는 더 이상 검색되지 않으므로 정리
+    public synchronized void evictBefore(LocalDate date) {
+        days.headMap(date).clear();
+    }
+
+    // 비운 뒤 loader 로 다시 채운다. 채우는 동안 잠금을 쥐고 있어 검색은 반쯤 채워진 색인 대신 적재가 끝나기를 기다리고,
+    // 그 사이 커밋된 변경도 적재가 끝난 뒤에 반영된다
+    public synchronized void reload(Consumer<SpaceAvailabilityIndex> loader) {
+        days.clear();
+        loader.accept(this);
+    }
+
+    public synchronized int size() {
+        return days.values().stream()
+            .mapToInt(Map::size)
+            .sum();
+    }
+
+    // 그날 빈 시간이 한 시간이라도 남은 공간
+    public synchronized Set<Long> findBookableSpaceIds(LocalDate date) {
+        Set<Long> spaceIds = new HashSet<>();
+        Map<Long, DayAvailability> spaces = days.get(date);
+        if (spaces == null) {
+            return spaceIds;
+        }
+
+        spaces.forEach((spaceId, availability) -> {
+            if (availability.freeMask() != 0) {
+                spaceIds.add(spaceId);
+            }
+        });
+        return spaceIds;
+    }
+
+    // [startTime, endTime) 전체가 한 번에 비어 있는 공간
+    public synchronized Set<Long> findSpaceIdsFreeDuring(LocalDate date, LocalTime startTime,
+        LocalTime endTime) {
+        int window = HourSlots.of(startTime, endTime);
+        Set<Long> spaceIds = new HashSet<>();
+        Map<Long, DayAvailability> spaces = days.get(date);
+        if (spaces == null) {
+            return spaceIds;
+        }
+
+        spaces.forEach((spaceId, availability) -> {
+            if (HourSlots.covers(availability.freeMask(), window)) {
+                spaceIds.add(spaceId);
+            }
+        });
+        return spaceIds;
+    }
+
+    public synchronized int freeHourMask(Long spaceId, LocalDate date) {
+        DayAvailability availability = find(spaceId, date);
+        return availability == null ? 0 : availability.freeMask();
+    }
+
+    private DayAvailability day(Long spaceId, LocalDate date) {
+        return days.computeIfAbsent(date, key -> new HashMap<>())
+            .computeIfAbsent(spaceId, key -> new DayAvailability());
+    }
+
+    private DayAvailability find(Long spaceId, LocalDate date) {
+        Map<Long, DayAvailability> spaces = days.get(date);
+        return spaces == null ? null : spaces.get(spaceId);
+    }
+
+    private void removeIfEmpty(Long spaceId, LocalDate date, DayAvailability availability) {
+        if (!availability.openMasks.isEmpty() || !availability.reservedMasks.isEmpty()
+            || availability.scheduledMask != 0 || availability.exceptionMask != null) {
+            return;
+        }
+
+        Map<Long, DayAvailability> spaces = days.get(date);
+        spaces.remove(spaceId);
+        if (spaces.isEmpty()) {
+            days.remove(date);
+        }
+    }
+
+    private static final class DayAvailability {
+
+        // AvailableTime id, 예약 id 별 시간 마스크
+        private final Map<Long, Integer> openMasks = new HashMap<>();
+        private final Map<Long, Integer> reservedMasks = new HashMap<>();
+        private int scheduledMask;
+        private Integer exceptionMask;
+
+        private int freeMask() {
+            int regular = scheduledMask;
+            for (int mask : openMasks.values()) {
+                regular |= mask;
+            }
+            int open = OpenSchedule.resolve(exceptionMask, regular);
+            int reserved = 0;
+            for (int mask : reservedMasks.values()) {
+                reserved |= mask;
+            }
+            return open & ~reserved;
+        }
+    }
+}
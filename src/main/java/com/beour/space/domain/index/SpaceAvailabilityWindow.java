@@ -0,0 +1,158 @@
+package com.beour.space.domain.index;
+
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.space.domain.repository.TimeSlotRow;
+import com.beour.space.domain.schedule.OpenHoursResolver;
+import com.beour.space.domain.schedule.OpenSchedule;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜 필터가 읽는 예약 가능 공간 창. 요일 규칙과 날짜 예외는 오늘부터 windowDays 일만큼만 {@link SpaceAvailabilityIndex} 에 펼쳐 두고
+ * 매일 지난 날을 비우며 새로 들어온 날을 펼친다. 창 밖의 날짜는 {@link OpenHoursResolver} 로 그때그때 계산한다.
+ */
+@Slf4j
+@Component
+public class SpaceAvailabilityWindow {
+
+    private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(
+        ReservationStatus.PENDING, ReservationStatus.ACCEPTED);
+
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final AvailableTimeRepository availableTimeRepository;
+    private final ReservationRepository reservationRepository;
+    private final OpenHoursResolver openHoursResolver;
+    private final int windowDays;
+
+    // 요일 규칙이 색인에 펼쳐진 마지막 날. 적재 전이면 null
+    private volatile LocalDate materializedUntil;
+
+    public SpaceAvailabilityWindow(SpaceAvailabilityIndex spaceAvailabilityIndex,
+        AvailableTimeRepository availableTimeRepository,
+        ReservationRepository reservationRepository, OpenHoursResolver openHoursResolver,
+        @Value("${space.availability.window-days:90}") int windowDays) {
+        this.spaceAvailabilityIndex = spaceAvailabilityIndex;
+        this.availableTimeRepository = availableTimeRepository;
+        this.reservationRepository = reservationRepository;
+        this.openHoursResolver = openHoursResolver;
+        this.windowDays = windowDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDate today = LocalDate.now();
+        LocalDate lastDay = lastDay(today);
+
+        spaceAvailabilityIndex.reload(index -> {
+            for (TimeSlotRow row : availableTimeRepository.findOpenTimeSlotsFrom(today)) {
+                index.putAvailableTime(row.getId(), row.getSpaceId(), row.getDate(),
+                    row.getStartTime(), row.getEndTime());
+            }
+            openHoursResolver.loadAll(today, lastDay)
+                .forEach((spaceId, schedule) -> putSchedule(spaceId, schedule, today, lastDay));
+            materializedUntil = lastDay;
+            for (TimeSlotRow row : reservationRepository.findTimeSlotsFrom(today, ACTIVE_STATUSES)) {
+                index.putReservation(row.getId(), row.getSpaceId(), row.getDate(),
+                    row.getStartTime(), row.getEndTime());
+            }
+        });
+
+        log.info("날짜별 예약 가능 색인 생성 완료: {}개 공간-날짜", spaceAvailabilityIndex.size());
+    }
+
+    // 지난 날짜는 더 이상 검색되지 않으므로 정리하고, 창 끝에 새로 들어온 날을 펼친다.
+    // 실행을 건너뛴 날이 있으면 지난번에 펼친 다음 날부터 모두 펼친다
+    @Scheduled(cron = "${space.availability.evict-cron:0 5 0 * * *}")
+    public void roll() {
+        LocalDate today = LocalDate.now();
+        LocalDate lastDay = lastDay(today);
+        spaceAvailabilityIndex.evictBefore(today);
+
+        LocalDate until = materializedUntil;
+        LocalDate from = until == null || until.isBefore(today) ? today : until.plusDays(1);
+        if (!from.isAfter(lastDay)) {
+            openHoursResolver.loadAll(from, lastDay)
+                .forEach((spaceId, schedule) -> putSchedule(spaceId, schedule, from, lastDay));
+        }
+        materializedUntil = lastDay;
+    }
+
+    // 요일 규칙·날짜 예외를 바꾼 공간의 창을 다시 펼친다. 커밋 이후에 호출
+    public void refresh(Long spaceId) {
+        LocalDate today = LocalDate.now();
+        LocalDate lastDay = lastDay(today);
+        putSchedule(spaceId, openHoursResolver.load(spaceId, today, lastDay), today, lastDay);
+    }
+
+    public Set<Long> findBookableSpaceIds(LocalDate date) {
+        if (isInWindow(date)) {
+            return spaceAvailabilityIndex.findBookableSpaceIds(date);
+        }
+
+        Set<Long> spaceIds = new HashSet<>();
+        freeMasksOn(date).forEach((spaceId, free) -> {
+            if (free != 0) {
+                spaceIds.add(spaceId);
+            }
+        });
+        return spaceIds;
+    }
+
+    public Set<Long> findSpaceIdsFreeDuring(LocalDate date, LocalTime startTime,
+        LocalTime endTime) {
+        if (isInWindow(date)) {
+            return spaceAvailabilityIndex.findSpaceIdsFreeDuring(date, startTime, endTime);
+        }
+
+        int window = HourSlots.of(startTime, endTime);
+        Set<Long> spaceIds = new HashSet<>();
+        freeMasksOn(date).forEach((spaceId, free) -> {
+            if (HourSlots.covers(free, window)) {
+                spaceIds.add(spaceId);
+            }
+        });
+        return spaceIds;
+    }
+
+    private void putSchedule(Long spaceId, OpenSchedule schedule, LocalDate from, LocalDate to) {
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            spaceAvailabilityIndex.putSchedule(spaceId, date, schedule.scheduledMask(date),
+                schedule.exceptionMask(date));
+        }
+    }
+
+    private Map<Long, Integer> freeMasksOn(LocalDate date) {
+        Map<Long, Integer> freeMasks = new HashMap<>();
+        openHoursResolver.loadAll(date, date)
+            .forEach((spaceId, schedule) -> freeMasks.put(spaceId, schedule.openMask(date)));
+        for (TimeSlotRow row : reservationRepository.findTimeSlotsOn(date, ACTIVE_STATUSES)) {
+            int reserved = HourSlots.of(row.getStartTime(), row.getEndTime());
+            freeMasks.computeIfPresent(row.getSpaceId(), (spaceId, free) -> free & ~reserved);
+        }
+        return freeMasks;
+    }
+
+    // 지난 날짜는 색인에서 이미 비워졌으므로 창 안으로 보고 빈 결과를 돌려준다
+    private boolean isInWindow(LocalDate date) {
+        LocalDate until = materializedUntil;
+        return until != null && !date.isAfter(until);
+    }
+
+    private LocalDate lastDay(LocalDate today) {
+        return today.plusDays(windowDays - 1L);
+    }
+}
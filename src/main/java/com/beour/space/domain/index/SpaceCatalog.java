@@ -0,0 +1,225 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 필터 검색용 활성 공간 카탈로그. 공간마다 slot 하나를 두고 가격, 수용 인원, 카테고리를 원시 배열에 담는다.
+ * 카테고리 값마다 slot 비트맵을 두어 카테고리 조건은 비트 연산으로, 나머지 조건은 남은 slot 만 배열로 검사한다.
+ */
+@Component
+public class SpaceCatalog {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] spaceIds = new long[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int[] capacities = new int[INITIAL_CAPACITY];
+    private int[] spaceCategories = new int[INITIAL_CAPACITY];
+    private int[] useCategories = new int[INITIAL_CAPACITY];
+    private String[] addresses = new String[INITIAL_CAPACITY];
+
+    private final Map<Long, Integer> slotBySpaceId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount;
+
+    private final BitSet active = new BitSet();
+    private final BitSet[] spaceCategoryBitmaps = newBitmaps(SpaceCategory.values().length);
+    private final BitSet[] useCategoryBitmaps = newBitmaps(UseCategory.values().length);
+
+    public void updateSpace(Space space) {
+        if (space.getDeletedAt() != null) {
+            removeSpace(space.getId());
+            return;
+        }
+
+        put(space.getId(), space.getPricePerHour(), space.getMaxCapacity(),
+            space.getSpaceCategory(), space.getUseCategory(), space.getAddress());
+    }
+
+    public void put(Long spaceId, int price, int capacity, SpaceCategory spaceCategory,
+        UseCategory useCategory, String address) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotBySpaceId.get(spaceId);
+            if (slot == null) {
+                slot = allocateSlot();
+                slotBySpaceId.put(spaceId, slot);
+            } else {
+                clearCategoryBits(slot);
+            }
+
+            spaceIds[slot] = spaceId;
+            prices[slot] = price;
+            capacities[slot] = capacity;
+            spaceCategories[slot] = spaceCategory == null ? -1 : spaceCategory.ordinal();
+            useCategories[slot] = useCategory == null ? -1 : useCategory.ordinal();
+            addresses[slot] = NGramTokenizer.normalize(address);
+
+            active.set(slot);
+            if (spaceCategory != null) {
+                spaceCategoryBitmaps[spaceCategory.ordinal()].set(slot);
+            }
+            if (useCategory != null) {
+                useCategoryBitmaps[useCategory.ordinal()].set(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeSpace(Long spaceId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotBySpaceId.remove(spaceId);
+            if (slot == null) {
+                return;
+            }
+
+            clearCategoryBits(slot);
+            active.clear(slot);
+            addresses[slot] = null;
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotBySpaceId.clear();
+            freeSlots.clear();
+            slotCount = 0;
+            active.clear();
+            Arrays.fill(addresses, null);
+            for (BitSet bitmap : spaceCategoryBitmaps) {
+                bitmap.clear();
+            }
+            for (BitSet bitmap : useCategoryBitmaps) {
+                bitmap.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotBySpaceId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 조건을 모두 만족하는 공간 id 를 오름차순으로
+    public long[] filter(SpaceCatalogFilter filter) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = (BitSet) active.clone();
+            if (filter.getSpaceCategories() != null) {
+                matched.and(union(spaceCategoryBitmaps, filter.getSpaceCategories()));
+            }
+            if (filter.getUseCategories() != null) {
+                matched.and(union(useCategoryBitmaps, filter.getUseCategories()));
+            }
+            if (filter.getCandidateSpaceIds() != null) {
+                matched.and(slotsOf(filter.getCandidateSpaceIds()));
+            }
+
+            String address = filter.getAddress() == null
+                ? null : NGramTokenizer.normalize(filter.getAddress());
+
+            long[] result = new long[matched.cardinality()];
+            int count = 0;
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+                if (filter.getMinPrice() != null && prices[slot] < filter.getMinPrice()) {
+                    continue;
+                }
+                if (filter.getMaxPrice() != null && prices[slot] > filter.getMaxPrice()) {
+                    continue;
+                }
+                if (filter.getMinCapacity() != null && capacities[slot] < filter.getMinCapacity()) {
+                    continue;
+                }
+                if (address != null && !addresses[slot].contains(address)) {
+                    continue;
+                }
+                result[count++] = spaceIds[slot];
+            }
+
+            long[] spaceIdsInOrder = Arrays.copyOf(result, count);
+            Arrays.sort(spaceIdsInOrder);
+            return spaceIdsInOrder;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet union(BitSet[] bitmaps, Collection<? extends Enum<?>> values) {
+        BitSet union = new BitSet();
+        for (Enum<?> value : values) {
+            union.or(bitmaps[value.ordinal()]);
+        }
+        return union;
+    }
+
+    private BitSet slotsOf(Collection<Long> candidateSpaceIds) {
+        BitSet slots = new BitSet();
+        for (Long spaceId : candidateSpaceIds) {
+            Integer slot = slotBySpaceId.get(spaceId);
+            if (slot != null) {
+                slots.set(slot);
+            }
+        }
+        return slots;
+    }
+
+    private void clearCategoryBits(int slot) {
+        if (spaceCategories[slot] >= 0) {
+            spaceCategoryBitmaps[spaceCategories[slot]].clear(slot);
+        }
+        if (useCategories[slot] >= 0) {
+            useCategoryBitmaps[useCategories[slot]].clear(slot);
+        }
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+
+        if (slotCount == spaceIds.length) {
+            int newCapacity = spaceIds.length * 2;
+            spaceIds = Arrays.copyOf(spaceIds, newCapacity);
+            prices = Arrays.copyOf(prices, newCapacity);
+            capacities = Arrays.copyOf(capacities, newCapacity);
+            spaceCategories = Arrays.copyOf(spaceCategories, newCapacity);
+            useCategories = Arrays.copyOf(useCategories, newCapacity);
+            addresses = Arrays.copyOf(addresses, newCapacity);
+        }
+        return slotCount++;
+    }
+
+    private static BitSet[] newBitmaps(int size) {
+        BitSet[] bitmaps = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            bitmaps[i] = new BitSet();
+        }
+        return bitmaps;
+    }
+}
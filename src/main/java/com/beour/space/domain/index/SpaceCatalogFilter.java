@@ -0,0 +1,23 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Getter;
+
+// null 인 조건은 적용하지 않는다
+@Getter
+@Builder
+public class SpaceCatalogFilter {
+
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final Integer minCapacity;
+    private final Collection<SpaceCategory> spaceCategories;
+    private final Collection<UseCategory> useCategories;
+    private final String address;
+
+    // 키워드, 날짜처럼 다른 색인에서 먼저 좁힌 공간 id
+    private final Collection<Long> candidateSpaceIds;
+}
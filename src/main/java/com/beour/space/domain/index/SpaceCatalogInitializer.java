@@ -0,0 +1,30 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.repository.SpaceCatalogRow;
+import com.beour.space.domain.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceCatalogInitializer {
+
+    private final SpaceCatalog spaceCatalog;
+    private final SpaceRepository spaceRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        spaceCatalog.clear();
+
+        for (SpaceCatalogRow row : spaceRepository.findActiveCatalogRows()) {
+            spaceCatalog.put(row.getSpaceId(), row.getPricePerHour(), row.getMaxCapacity(),
+                row.getSpaceCategory(), row.getUseCategory(), row.getAddress());
+        }
+
+        log.info("공간 필터 카탈로그 생성 완료: {}개 공간", spaceCatalog.size());
+    }
+}
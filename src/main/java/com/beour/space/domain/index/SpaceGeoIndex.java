@@ -0,0 +1,280 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.entity.Space;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성 공간 좌표에 대한 위경도 격자 색인.
+ * 반경 검색은 반경을 덮는 격자 칸의 공간만 거리 계산하고, 거리는 MySQL ST_Distance_Sphere 와 같은 구면 거리를 쓴다.
+ * 최근접 검색은 기준점의 칸부터 한 겹씩 넓혀 가며 훑고, 훑은 범위 밖의 공간이 더 가까울 수 없을 때 멈춘다.
+ */
+@Component
+public class SpaceGeoIndex {
+
+    // ST_Distance_Sphere 기본 반지름
+    static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+    // 위도 0.05도 ≒ 5.5km
+    private static final double CELL_DEGREES = 0.05;
+    private static final int LAT_CELLS = (int) Math.ceil(180 / CELL_DEGREES) + 1;
+    private static final int LON_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    private final Map<Long, GeoPoint> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    public synchronized void updateSpace(Space space) {
+        if (space.getDeletedAt() != null || space.getLatitude() == null
+            || space.getLongitude() == null) {
+            removeSpace(space.getId());
+            return;
+        }
+
+        put(space.getId(), space.getLatitude(), space.getLongitude());
+    }
+
+    public synchronized void put(Long spaceId, double latitude, double longitude) {
+        GeoPoint point = new GeoPoint(latitude, longitude);
+        GeoPoint before = points.put(spaceId, point);
+        if (before != null && before.cell == point.cell) {
+            return;
+        }
+
+        if (before != null) {
+            removeFromCell(before.cell, spaceId);
+        }
+        cells.computeIfAbsent(point.cell, key -> ConcurrentHashMap.newKeySet()).add(spaceId);
+    }
+
+    public synchronized void removeSpace(Long spaceId) {
+        GeoPoint before = points.remove(spaceId);
+        if (before != null) {
+            removeFromCell(before.cell, spaceId);
+        }
+    }
+
+    public synchronized void clear() {
+        points.clear();
+        cells.clear();
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    // 반경 안의 공간을 거리 오름차순, 동일 거리면 id 오름차순으로
+    public List<GeoHit> findWithin(double latitude, double longitude, double radiusMeters) {
+        List<GeoHit> hits = new ArrayList<>();
+        for (Long spaceId : candidates(latitude, longitude, radiusMeters)) {
+            GeoPoint point = points.get(spaceId);
+            if (point == null) {
+                continue;
+            }
+
+            double distance = distanceMeters(latitude, longitude, point.latitude, point.longitude);
+            if (distance <= radiusMeters) {
+                hits.add(new GeoHit(spaceId, distance));
+            }
+        }
+
+        hits.sort(GeoHit.NEAREST_FIRST);
+        return hits;
+    }
+
+    // 가장 가까운 k개 공간을 거리 오름차순, 동일 거리면 id 오름차순으로
+    public List<GeoHit> findNearest(double latitude, double longitude, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        int centerLatCell = latCell(latitude);
+        int centerLonCell = lonCell(longitude);
+        List<GeoHit> hits = new ArrayList<>();
+        for (int ring = 0; ; ring++) {
+            // 훑을 칸이 색인된 공간보다 많아지면 전체를 보는 편이 싸다
+            long ringCellCount = (long) (2 * ring + 1) * (2 * ring + 1);
+            if (ringCellCount > points.size() || 2 * ring + 1 >= LON_CELLS) {
+                return nearest(points.keySet(), latitude, longitude, k);
+            }
+
+            collectRing(centerLatCell, centerLonCell, ring, latitude, longitude, hits);
+            if (hits.size() < k) {
+                continue;
+            }
+
+            hits.sort(GeoHit.NEAREST_FIRST);
+            if (hits.get(k - 1).getDistance()
+                < coveredMeters(latitude, longitude, centerLatCell, centerLonCell, ring)) {
+                return List.copyOf(hits.subList(0, k));
+            }
+        }
+    }
+
+    // 기준 칸에서 체비쇼프 거리로 ring 만큼 떨어진 테두리 칸의 공간
+    private void collectRing(int centerLatCell, int centerLonCell, int ring, double latitude,
+        double longitude, List<GeoHit> hits) {
+        for (int latOffset = -ring; latOffset <= ring; latOffset++) {
+            int latCell = centerLatCell + latOffset;
+            if (latCell < 0 || latCell >= LAT_CELLS) {
+                continue;
+            }
+
+            boolean edgeRow = Math.abs(latOffset) == ring;
+            for (int lonOffset = -ring; lonOffset <= ring; lonOffset += edgeRow ? 1 : 2 * ring) {
+                int lonCell = Math.floorMod(centerLonCell + lonOffset, LON_CELLS);
+                Set<Long> cell = cells.get(cellKey(latCell, lonCell));
+                if (cell != null) {
+                    addHits(cell, latitude, longitude, hits);
+                }
+            }
+        }
+    }
+
+    // 0..ring 겹을 훑은 뒤 그 밖의 공간까지의 최소 거리.
+    // 위도 띠 밖은 위도 차이만큼, 경도 띠 밖은 그 경선까지의 최단 거리만큼 떨어져 있다
+    private static double coveredMeters(double latitude, double longitude, int centerLatCell,
+        int centerLonCell, int ring) {
+        double southEdge = (centerLatCell - ring) * CELL_DEGREES - 90;
+        double northEdge = (centerLatCell + ring + 1) * CELL_DEGREES - 90;
+        double latGap = Math.min(
+            southEdge <= -90 ? Double.MAX_VALUE : latitude - southEdge,
+            northEdge >= 90 ? Double.MAX_VALUE : northEdge - latitude);
+        double covered = latGap == Double.MAX_VALUE ? Double.MAX_VALUE
+            : EARTH_RADIUS_METERS * Math.toRadians(latGap);
+
+        double normalized = ((longitude + 180) % 360 + 360) % 360;
+        double lonGap = Math.min(normalized - (centerLonCell - ring) * CELL_DEGREES,
+            (centerLonCell + ring + 1) * CELL_DEGREES - normalized);
+        double lonCovered = EARTH_RADIUS_METERS * Math.asin(Math.cos(Math.toRadians(latitude))
+            * Math.sin(Math.toRadians(Math.min(90, lonGap))));
+
+        return Math.min(covered, lonCovered);
+    }
+
+    private List<GeoHit> nearest(Iterable<Long> spaceIds, double latitude, double longitude, int k) {
+        List<GeoHit> hits = new ArrayList<>();
+        addHits(spaceIds, latitude, longitude, hits);
+        hits.sort(GeoHit.NEAREST_FIRST);
+        return List.copyOf(hits.subList(0, Math.min(k, hits.size())));
+    }
+
+    private void addHits(Iterable<Long> spaceIds, double latitude, double longitude,
+        List<GeoHit> hits) {
+        for (Long spaceId : spaceIds) {
+            GeoPoint point = points.get(spaceId);
+            if (point != null) {
+                hits.add(new GeoHit(spaceId,
+                    distanceMeters(latitude, longitude, point.latitude, point.longitude)));
+            }
+        }
+    }
+
+    private Iterable<Long> candidates(double latitude, double longitude, double radiusMeters) {
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+
+        // 극점을 포함하거나 경도 폭이 반 바퀴를 넘으면 경도 전체를 본다
+        double lonDelta = 180;
+        if (minLat > -90 && maxLat < 90) {
+            double maxAbsLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+            lonDelta = Math.min(180, latDelta / Math.cos(Math.toRadians(maxAbsLat)));
+        }
+
+        int minLatCell = latCell(Math.max(-90, minLat));
+        int maxLatCell = latCell(Math.min(90, maxLat));
+        int lonCellSpan = lonDelta >= 180
+            ? LON_CELLS
+            : Math.min(LON_CELLS, (int) Math.ceil(2 * lonDelta / CELL_DEGREES) + 2);
+
+        // 훑을 칸이 색인된 공간보다 많으면 전체를 보는 편이 싸다
+        long cellCount = (long) (maxLatCell - minLatCell + 1) * lonCellSpan;
+        if (cellCount > points.size()) {
+            return points.keySet();
+        }
+
+        int startLonCell = lonDelta >= 180 ? 0 : lonCell(longitude - lonDelta);
+        List<Long> candidates = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int i = 0; i < lonCellSpan; i++) {
+                int lonCell = (startLonCell + i) % LON_CELLS;
+                Set<Long> cell = cells.get(cellKey(latCell, lonCell));
+                if (cell != null) {
+                    candidates.addAll(cell);
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    private void removeFromCell(long cellKey, Long spaceId) {
+        Set<Long> cell = cells.get(cellKey);
+        if (cell == null) {
+            return;
+        }
+
+        cell.remove(spaceId);
+        if (cell.isEmpty()) {
+            cells.remove(cellKey);
+        }
+    }
+
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.pow(Math.sin(dLon / 2), 2);
+
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int latCell(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int lonCell(double longitude) {
+        double normalized = ((longitude + 180) % 360 + 360) % 360;
+        return Math.min(LON_CELLS - 1, (int) Math.floor(normalized / CELL_DEGREES));
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return (long) latCell * LON_CELLS + lonCell;
+    }
+
+    private static final class GeoPoint {
+
+        private final double latitude;
+        private final double longitude;
+        private final long cell;
+
+        private GeoPoint(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cell = cellKey(latCell(latitude), lonCell(longitude));
+        }
+    }
+
+    @Getter
+    public static final class GeoHit {
+
+        public static final Comparator<GeoHit> NEAREST_FIRST = Comparator
+            .<GeoHit>comparingDouble(GeoHit::getDistance)
+            .thenComparing(GeoHit::getSpaceId);
+
+        private final Long spaceId;
+        private final double distance;
+
+        public GeoHit(Long spaceId, double distance) {
+            this.spaceId = spaceId;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.repository.SpaceLocation;
+import com.beour.space.domain.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceGeoIndexInitializer {
+
+    private final SpaceGeoIndex spaceGeoIndex;
+    private final SpaceRepository spaceRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        spaceGeoIndex.clear();
+
+        for (SpaceLocation location : spaceRepository.findActiveLocations()) {
+            spaceGeoIndex.put(location.getSpaceId(), location.getLatitude(),
+                location.getLongitude());
+        }
+
+        log.info("공간 위치 색인 생성 완료: {}개 공간", spaceGeoIndex.size());
+    }
+}
@@ -0,0 +1,27 @@
+package com.beour.space.domain.index;
+
+import com.beour.global.transaction.AfterCommit;
+import com.beour.space.domain.entity.Space;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+// 공간 등록, 주소 변경, 삭제를 커밋 이후 위치 색인에 반영
+@RequiredArgsConstructor
+public class SpaceGeoIndexListener {
+
+    private final SpaceGeoIndex spaceGeoIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Space space) {
+        AfterCommit.execute(() -> spaceGeoIndex.updateSpace(space));
+    }
+
+    @PostRemove
+    public void onRemove(Space space) {
+        Long spaceId = space.getId();
+        AfterCommit.execute(() -> spaceGeoIndex.removeSpace(spaceId));
+    }
+}
@@ -0,0 +1,322 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.entity.Description;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.Tag;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공간 이름, 주소, 설명, 태그에 대한 n-gram 역색인.
+ * 후보는 posting 교집합으로 좁히고, 정규화한 원문에 대해 부분 문자열 검사를 한 번 더 하므로
+ * 결과는 기존 LIKE '%keyword%' 검색과 같고 순서만 가중치 점수로 정렬된다.
+ */
+@Component
+public class SpaceSearchIndex {
+
+    private static final int NAME_WEIGHT = 5;
+    private static final int TAG_WEIGHT = 3;
+    private static final int ADDRESS_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final Map<Long, SpaceDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    // 문서의 태그 맵과 posting 은 쓰기 잠금 안에서만 바뀌고, 검색은 읽기 잠금 안에서 읽는다
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void updateSpace(Space space) {
+        lock.writeLock().lock();
+        try {
+            SpaceDocument document = documents.computeIfAbsent(space.getId(), SpaceDocument::new);
+            Set<String> before = document.grams();
+
+            document.name = NGramTokenizer.normalize(space.getName());
+            document.address = NGramTokenizer.normalize(space.getAddress());
+            document.active = space.getDeletedAt() == null;
+
+            reindex(document, before);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateDescription(Description description) {
+        lock.writeLock().lock();
+        try {
+            SpaceDocument document = documents.computeIfAbsent(description.getSpace().getId(),
+                SpaceDocument::new);
+            Set<String> before = document.grams();
+
+            document.descriptions = List.of(
+                NGramTokenizer.normalize(description.getDescription()),
+                NGramTokenizer.normalize(description.getPriceGuide()),
+                NGramTokenizer.normalize(description.getFacilityNotice()),
+                NGramTokenizer.normalize(description.getNotice()),
+                NGramTokenizer.normalize(description.getLocationDescription()),
+                NGramTokenizer.normalize(description.getRefundPolicy())
+            );
+
+            reindex(document, before);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putTag(Tag tag) {
+        lock.writeLock().lock();
+        try {
+            SpaceDocument document = documents.computeIfAbsent(tag.getSpace().getId(),
+                SpaceDocument::new);
+            Set<String> before = document.grams();
+
+            document.tags.put(tag.getId(), NGramTokenizer.normalize(tag.getContents()));
+
+            reindex(document, before);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTag(Tag tag) {
+        lock.writeLock().lock();
+        try {
+            SpaceDocument document = documents.get(tag.getSpace().getId());
+            if (document == null) {
+                return;
+            }
+            Set<String> before = document.grams();
+
+            document.tags.remove(tag.getId());
+
+            reindex(document, before);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // id 묶음 벌크 삭제는 엔티티 리스너를 거치지 않으므로 삭제한 쪽에서 직접 알린다
+    public void removeTags(Long spaceId, Collection<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            SpaceDocument document = documents.get(spaceId);
+            if (document == null) {
+                return;
+            }
+            Set<String> before = document.grams();
+
+            document.tags.keySet().removeAll(tagIds);
+
+            reindex(document, before);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeSpace(Long spaceId) {
+        lock.writeLock().lock();
+        try {
+            SpaceDocument document = documents.remove(spaceId);
+            if (document == null) {
+                return;
+            }
+
+            for (String gram : document.grams()) {
+                removePosting(gram, spaceId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수 내림차순, 동점이면 최근 등록(id 큰 순) 순서의 공간 id 목록
+    public List<Long> search(String keyword) {
+        return searchHits(keyword).stream()
+            .map(SearchHit::getSpaceId)
+            .toList();
+    }
+
+    public List<SearchHit> searchHits(String keyword) {
+        lock.readLock().lock();
+        try {
+            String query = NGramTokenizer.normalize(keyword);
+            if (query.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            Set<Long> candidates = findCandidates(NGramTokenizer.queryGrams(query));
+
+            List<SearchHit> hits = new ArrayList<>();
+            for (Long spaceId : candidates) {
+                SpaceDocument document = documents.get(spaceId);
+                if (document == null || !document.isSearchable()) {
+                    continue;
+                }
+
+                int score = document.score(query);
+                if (score > 0) {
+                    hits.add(new SearchHit(spaceId, score));
+                }
+            }
+
+            hits.sort(SearchHit.RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> findCandidates(Set<String> queryGrams) {
+        List<Set<Long>> postingLists = new ArrayList<>();
+        for (String gram : queryGrams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null || posting.isEmpty()) {
+                return Collections.emptySet();
+            }
+            postingLists.add(posting);
+        }
+
+        if (postingLists.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        // 가장 짧은 posting 부터 교집합
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+
+        return candidates;
+    }
+
+    private void reindex(SpaceDocument document, Set<String> before) {
+        Set<String> after = document.grams();
+
+        for (String gram : before) {
+            if (!after.contains(gram)) {
+                removePosting(gram, document.spaceId);
+            }
+        }
+        for (String gram : after) {
+            if (!before.contains(gram)) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet())
+                    .add(document.spaceId);
+            }
+        }
+    }
+
+    private void removePosting(String gram, Long spaceId) {
+        Set<Long> posting = postings.get(gram);
+        if (posting == null) {
+            return;
+        }
+
+        posting.remove(spaceId);
+        if (posting.isEmpty()) {
+            postings.remove(gram);
+        }
+    }
+
+    @Getter
+    public static final class SearchHit {
+
+        public static final Comparator<SearchHit> RANKING = Comparator
+            .<SearchHit>comparingInt(SearchHit::getScore).reversed()
+            .thenComparing(SearchHit::getSpaceId, Comparator.reverseOrder());
+
+        private final Long spaceId;
+        private final int score;
+
+        public SearchHit(Long spaceId, int score) {
+            this.spaceId = spaceId;
+            this.score = score;
+        }
+    }
+
+    private static final class SpaceDocument {
+
+        private final Long spaceId;
+        private String name;
+        private String address;
+        private List<String> descriptions = List.of();
+        private final Map<Long, String> tags = new HashMap<>();
+        private boolean active;
+
+        private SpaceDocument(Long spaceId) {
+            this.spaceId = spaceId;
+        }
+
+        // 공간 정보가 아직 들어오지 않았거나 삭제된 공간은 posting 에 남기지 않는다
+        private boolean isSearchable() {
+            return active && name != null;
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            if (!isSearchable()) {
+                return grams;
+            }
+
+            grams.addAll(NGramTokenizer.documentGrams(name));
+            grams.addAll(NGramTokenizer.documentGrams(address));
+            for (String description : descriptions) {
+                grams.addAll(NGramTokenizer.documentGrams(description));
+            }
+            for (String tag : tags.values()) {
+                grams.addAll(NGramTokenizer.documentGrams(tag));
+            }
+
+            return grams;
+        }
+
+        private int score(String query) {
+            int score = NAME_WEIGHT * countOccurrences(name, query)
+                + ADDRESS_WEIGHT * countOccurrences(address, query);
+            for (String tag : tags.values()) {
+                score += TAG_WEIGHT * countOccurrences(tag, query);
+            }
+            for (String description : descriptions) {
+                score += DESCRIPTION_WEIGHT * countOccurrences(description, query);
+            }
+
+            return score;
+        }
+
+        private static int countOccurrences(String text, String query) {
+            if (text == null || text.isEmpty()) {
+                return 0;
+            }
+
+            int count = 0;
+            int from = text.indexOf(query);
+            while (from >= 0) {
+                count++;
+                from = text.indexOf(query, from + query.length());
+            }
+
+            return count;
+        }
+    }
+}
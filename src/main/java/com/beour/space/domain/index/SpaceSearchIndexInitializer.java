@@ -0,0 +1,45 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceSearchIndexInitializer {
+
+    private final SpaceSearchIndex spaceSearchIndex;
+    private final SpaceRepository spaceRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        transactionTemplate.executeWithoutResult(status -> {
+            spaceSearchIndex.clear();
+
+            int spaceCount = 0;
+            for (Space space : spaceRepository.findAllWithDescriptionByDeletedAtIsNull()) {
+                spaceSearchIndex.updateSpace(space);
+                if (space.getDescription() != null) {
+                    spaceSearchIndex.updateDescription(space.getDescription());
+                }
+                spaceCount++;
+            }
+
+            for (Tag tag : tagRepository.findAllOfActiveSpaces()) {
+                spaceSearchIndex.putTag(tag);
+            }
+
+            log.info("공간 검색 색인 생성 완료: {}개 공간", spaceCount);
+        });
+    }
+}
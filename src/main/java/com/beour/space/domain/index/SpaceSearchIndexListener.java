@@ -0,0 +1,39 @@
+package com.beour.space.domain.index;
+
+import com.beour.global.transaction.AfterCommit;
+import com.beour.space.domain.entity.Description;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.Tag;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+// Space, Description, Tag 의 변경을 커밋 이후 검색 색인에 반영
+@RequiredArgsConstructor
+public class SpaceSearchIndexListener {
+
+    private final SpaceSearchIndex spaceSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Space space) {
+            AfterCommit.execute(() -> spaceSearchIndex.updateSpace(space));
+        } else if (entity instanceof Description description) {
+            AfterCommit.execute(() -> spaceSearchIndex.updateDescription(description));
+        } else if (entity instanceof Tag tag) {
+            AfterCommit.execute(() -> spaceSearchIndex.putTag(tag));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Space space) {
+            Long spaceId = space.getId();
+            AfterCommit.execute(() -> spaceSearchIndex.removeSpace(spaceId));
+        } else if (entity instanceof Tag tag) {
+            AfterCommit.execute(() -> spaceSearchIndex.removeTag(tag));
+        }
+    }
+}
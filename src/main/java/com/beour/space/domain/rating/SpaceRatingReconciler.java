@@ -0,0 +1,122 @@
+package com.beour.space.domain.rating;
+
+import com.beour.global.lease.SchedulerLeaseManager;
+import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.review.domain.repository.SpaceRatingAggregate;
+import com.beour.space.domain.entity.RatingSummary;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.SpaceRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰 작성/수정/삭제 시 증감한 공간별 리뷰 집계를 review 테이블 기준으로 다시 맞춘다.
+ * 공간을 id 순서대로 한 묶음씩 잠근 뒤 같은 트랜잭션에서 리뷰를 집계하고 값이 다른 공간만 덮어쓴다.
+ * 리뷰 변경도 같은 공간 행을 갱신하므로 집계하는 동안 들어온 변경은 잠금이 풀린 뒤 그 위에 더해진다.
+ * 임대를 잡은 서버 한 곳에서만 돈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceRatingReconciler {
+
+    private static final String LEASE_NAME = "space-rating-reconciler";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReviewRepository reviewRepository;
+    private final SpaceRepository spaceRepository;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${space.rating.reconcile-cron:0 0 4 * * *}")
+    public void run() {
+        if (!schedulerLeaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            return;
+        }
+
+        try {
+            int fixedCount = reconcile();
+            if (fixedCount > 0) {
+                log.warn("공간 리뷰 집계 보정: {}개 공간", fixedCount);
+            }
+        } finally {
+            schedulerLeaseManager.release(LEASE_NAME);
+        }
+    }
+
+    // 보정한 공간 수를 돌려준다
+    public int reconcile() {
+        AtomicInteger fixedCount = new AtomicInteger();
+        Long afterId = 0L;
+        while (afterId != null) {
+            Long from = afterId;
+            afterId = transactionTemplate.execute(status -> reconcileChunk(from, fixedCount));
+        }
+
+        return fixedCount.get();
+    }
+
+    // 공간 행을 먼저 잠가 집계와 덮어쓰기 사이에 리뷰 변경이 끼어들지 못하게 한다.
+    // 다음 묶음의 시작 id 를 돌려주고, 더 볼 공간이 없으면 null
+    private Long reconcileChunk(Long afterId, AtomicInteger fixedCount) {
+        List<Space> spaces = spaceRepository.findAllForUpdateByIdAfter(afterId,
+            PageRequest.of(0, CHUNK_SIZE));
+        if (spaces.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, SpaceRatingAggregate> aggregates = reviewRepository.aggregateRatingsBySpaceIdIn(
+                spaces.stream().map(Space::getId).toList()).stream()
+            .collect(Collectors.toMap(SpaceRatingAggregate::getSpaceId, Function.identity()));
+
+        for (Space space : spaces) {
+            SpaceRatingAggregate aggregate = aggregates.get(space.getId());
+            if (matches(space.getRatingSummary(), aggregate)) {
+                continue;
+            }
+
+            // 리뷰가 모두 삭제된 공간은 0 으로 되돌린다
+            spaceRepository.overwriteRatingSummary(space.getId(),
+                count(aggregate, SpaceRatingAggregate::getReviewCount),
+                count(aggregate, SpaceRatingAggregate::getRatingSum),
+                count(aggregate, SpaceRatingAggregate::getOneStarCount),
+                count(aggregate, SpaceRatingAggregate::getTwoStarCount),
+                count(aggregate, SpaceRatingAggregate::getThreeStarCount),
+                count(aggregate, SpaceRatingAggregate::getFourStarCount),
+                count(aggregate, SpaceRatingAggregate::getFiveStarCount));
+            fixedCount.incrementAndGet();
+        }
+
+        return spaces.get(spaces.size() - 1).getId();
+    }
+
+    private boolean matches(RatingSummary summary, SpaceRatingAggregate aggregate) {
+        return summary != null
+            && summary.getReviewCount() == count(aggregate, SpaceRatingAggregate::getReviewCount)
+            && summary.getRatingSum() == count(aggregate, SpaceRatingAggregate::getRatingSum)
+            && summary.getOneStarCount() == count(aggregate, SpaceRatingAggregate::getOneStarCount)
+            && summary.getTwoStarCount() == count(aggregate, SpaceRatingAggregate::getTwoStarCount)
+            && summary.getThreeStarCount() == count(aggregate, SpaceRatingAggregate::getThreeStarCount)
+            && summary.getFourStarCount() == count(aggregate, SpaceRatingAggregate::getFourStarCount)
+            && summary.getFiveStarCount() == count(aggregate, SpaceRatingAggregate::getFiveStarCount);
+    }
+
+    // 리뷰가 없는 공간은 집계 행이 없으므로 0
+    private static int count(SpaceRatingAggregate aggregate, Function<SpaceRatingAggregate, Long> field) {
+        return aggregate == null ? 0 : field.apply(aggregate).intValue();
+    }
+}
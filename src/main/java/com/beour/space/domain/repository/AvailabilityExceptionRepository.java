@@ -0,0 +1,24 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.entity.AvailabilityException;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AvailabilityExceptionRepository extends
+    JpaRepository<AvailabilityException, Long> {
+
+    List<AvailabilityException> findBySpaceIdOrderByDateAsc(Long spaceId);
+
+    List<AvailabilityException> findBySpaceIdAndDateBetween(Long spaceId, LocalDate from,
+        LocalDate to);
+
+    List<AvailabilityException> findByDateBetween(LocalDate from, LocalDate to);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM AvailabilityException e WHERE e.space.id = :spaceId")
+    void deleteBySpaceId(@Param("spaceId") Long spaceId);
+}
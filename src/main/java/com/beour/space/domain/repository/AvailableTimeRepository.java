@@ -3,8 +3,11 @@ package com.beour.space.domain.repository;
 import com.beour.space.domain.entity.AvailableTime;
 import com.beour.space.domain.entity.Space;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 public interface AvailableTimeRepository extends JpaRepository<AvailableTime, Long> {
@@ -13,4 +16,25 @@ public interface AvailableTimeRepository extends JpaRepository<AvailableTime, Lo
 
     Optional<AvailableTime> findBySpaceIdAndDateAndDeletedAtIsNull(Long spaceId, LocalDate date);
 
+    List<AvailableTime> findBySpaceIdAndDateBetweenAndDeletedAtIsNull(Long spaceId, LocalDate from,
+        LocalDate to);
+
+    // 날짜별 예약 가능 색인 초기 적재용
+    @Query("""
+        SELECT at.id AS id, at.space.id AS spaceId, at.date AS date,
+            at.startTime AS startTime, at.endTime AS endTime
+        FROM AvailableTime at
+        WHERE at.date >= :from AND at.deletedAt IS NULL
+        """)
+    List<TimeSlotRow> findOpenTimeSlotsFrom(@Param("from") LocalDate from);
+
+    @Query("""
+        SELECT at.id AS id, at.space.id AS spaceId, at.date AS date,
+            at.startTime AS startTime, at.endTime AS endTime
+        FROM AvailableTime at
+        WHERE at.date BETWEEN :from AND :to AND at.deletedAt IS NULL
+        """)
+    List<TimeSlotRow> findOpenTimeSlotsBetween(@Param("from") LocalDate from,
+        @Param("to") LocalDate to);
+
 }
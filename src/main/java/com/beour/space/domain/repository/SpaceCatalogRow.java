@@ -0,0 +1,19 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+
+public interface SpaceCatalogRow {
+
+    Long getSpaceId();
+
+    int getPricePerHour();
+
+    int getMaxCapacity();
+
+    SpaceCategory getSpaceCategory();
+
+    UseCategory getUseCategory();
+
+    String getAddress();
+}
@@ -0,0 +1,10 @@
+package com.beour.space.domain.repository;
+
+public interface SpaceLocation {
+
+    Long getSpaceId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
@@ -1,73 +1,51 @@
 package com.beour.space.domain.repository;
 
 import com.beour.space.domain.entity.Space;
-import com.beour.space.domain.enums.SpaceCategory;
-import com.beour.space.domain.enums.UseCategory;
-import java.time.LocalDate;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import com.beour.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 
 public interface SpaceRepository extends JpaRepository<Space, Long> {
 
-    @Query(value = """
-        SELECT *
-        FROM space s
-        WHERE s.deleted_at IS NULL
-          AND ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) <= :radius
-        ORDER BY ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) ASC
-        """, nativeQuery = true)
-    List<Space> findAllWithinDistance(@Param("latitude") double latitude,
-        @Param("longitude") double longitude,
-        @Param("radius") double radiusInMeters);
+    // 위치 색인 초기 적재용
+    @Query("""
+        SELECT s.id AS spaceId, s.latitude AS latitude, s.longitude AS longitude
+        FROM Space s
+        WHERE s.deletedAt IS NULL AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL
+        """)
+    List<SpaceLocation> findActiveLocations();
 
-    @Query(value = """
-        SELECT *
-        FROM space s
-        WHERE s.deleted_at IS NULL
-          AND ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) <= :radius
-        ORDER BY ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) ASC
-        """,
-        countQuery = """
-            SELECT COUNT(*)
-            FROM space s
-            WHERE s.deleted_at IS NULL
-              AND ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) <= :radius
-            """,
-        nativeQuery = true)
-    Page<Space> findAllWithinDistanceWithPaging(@Param("latitude") double latitude,
-        @Param("longitude") double longitude,
-        @Param("radius") double radiusInMeters,
-        Pageable pageable);
+    // 필터 카탈로그 초기 적재용
+    @Query("""
+        SELECT s.id AS spaceId, s.pricePerHour AS pricePerHour, s.maxCapacity AS maxCapacity,
+            s.spaceCategory AS spaceCategory, s.useCategory AS useCategory, s.address AS address
+        FROM Space s
+        WHERE s.deletedAt IS NULL
+        """)
+    List<SpaceCatalogRow> findActiveCatalogRows();
 
-    @Query(value = """
-        SELECT DISTINCT s.*
-        FROM space s
-        LEFT JOIN description d ON s.id = d.space_id
-        LEFT JOIN tag t ON s.id = t.space_id
-        WHERE s.name LIKE %:keyword%
-           OR d.description LIKE %:keyword%
-           OR d.price_guide LIKE %:keyword%
-           OR d.facility_notice LIKE %:keyword%
-           OR d.notice LIKE %:keyword%
-           OR d.location_description LIKE %:keyword%
-           OR d.refund_policy LIKE %:keyword%
-           OR t.contents LIKE %:keyword%
-           OR s.address LIKE %:keyword%
-        """, nativeQuery = true)
-    Page<Space> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
-    Page<Space> findBySpaceCategory(SpaceCategory spaceCategory, Pageable pageable);
+    @EntityGraph(attributePaths = {"host", "description"})
+    Page<Space> findByHostAndDeletedAtIsNull(User host, Pageable pageable);
 
-    Page<Space> findByUseCategory(UseCategory useCategory, Pageable pageable);
+    // 목록 카드용: id 로 조회하면서 host, description 을 함께 가져온다
+    @EntityGraph(attributePaths = {"host", "description"})
+    List<Space> findAllByIdIn(Collection<Long> ids);
 
-    Page<Space> findByHostAndDeletedAtIsNull(User host, Pageable pageable);
+    // 리뷰 집계 보정용: id 순서대로 한 묶음씩 잠그며 읽는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Space s WHERE s.id > :afterId ORDER BY s.id")
+    List<Space> findAllForUpdateByIdAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     List<Space> findTop5ByDeletedAtIsNullOrderByCreatedAtDesc();
 
@@ -75,78 +53,46 @@ public interface SpaceRepository extends JpaRepository<Space, Long> {
 
     List<Space> findByHostAndDeletedAtIsNull(User host);
 
-    @Query(value = """
-        SELECT DISTINCT s.*
-        FROM space s
-        LEFT JOIN description d ON s.id = d.space_id
-        LEFT JOIN tag t ON s.id = t.space_id
-        WHERE (
-            :keyword IS NULL OR (
-                s.name LIKE %:keyword%
-                OR d.description LIKE %:keyword%
-                OR d.price_guide LIKE %:keyword%
-                OR d.facility_notice LIKE %:keyword%
-                OR d.notice LIKE %:keyword%
-                OR d.location_description LIKE %:keyword%
-                OR d.refund_policy LIKE %:keyword%
-                OR t.contents LIKE %:keyword%
-                OR s.address LIKE %:keyword%
-            )
-        )
-        AND (:minPrice IS NULL OR s.price_per_hour >= :minPrice)
-        AND (:maxPrice IS NULL OR s.price_per_hour <= :maxPrice)
-        AND (:address IS NULL OR s.address LIKE %:address%)
-        AND (:minCapacity IS NULL OR s.max_capacity >= :minCapacity)
-        AND (:spaceCategories IS NULL OR s.space_category IN (:spaceCategories))
-        AND (:useCategories IS NULL OR s.use_category IN (:useCategories))
-        AND (
-            :date IS NULL OR EXISTS (
-                SELECT 1 FROM available_time at
-                WHERE at.space_id = s.id AND at.date = :date AND at.deleted_at IS NULL
-            )
-        )
-        """,
-        countQuery = """
-                SELECT COUNT(DISTINCT s.id)
-                FROM space s
-                LEFT JOIN description d ON s.id = d.space_id
-                LEFT JOIN tag t ON s.id = t.space_id
-                WHERE (
-                    :keyword IS NULL OR (
-                        s.name LIKE %:keyword%
-                        OR d.description LIKE %:keyword%
-                        OR d.price_guide LIKE %:keyword%
-                        OR d.facility_notice LIKE %:keyword%
-                        OR d.notice LIKE %:keyword%
-                        OR d.location_description LIKE %:keyword%
-                        OR d.refund_policy LIKE %:keyword%
-                        OR t.contents LIKE %:keyword%
-                        OR s.address LIKE %:keyword%
-                    )
-                )
-                AND (:minPrice IS NULL OR s.price_per_hour >= :minPrice)
-                AND (:maxPrice IS NULL OR s.price_per_hour <= :maxPrice)
-                AND (:address IS NULL OR s.address LIKE %:address%)
-                AND (:minCapacity IS NULL OR s.max_capacity >= :minCapacity)
-                AND (:spaceCategories IS NULL OR s.space_category IN (:spaceCategories))
-                AND (:useCategories IS NULL OR s.use_category IN (:useCategories))
-                AND (
-                    :date IS NULL OR EXISTS (
-                        SELECT 1 FROM available_time at
-                        WHERE at.space_id = s.id AND at.date = :date AND at.deleted_at IS NULL
-                    )
-                )
-            """,
-        nativeQuery = true)
-    Page<Space> searchWithFiltering(
-        @Param("keyword") String keyword,
-        @Param("minPrice") Integer minPrice,
-        @Param("maxPrice") Integer maxPrice,
-        @Param("address") String address,
-        @Param("minCapacity") Integer minCapacity,
-        @Param("spaceCategories") List<String> spaceCategories,
-        @Param("useCategories") List<String> useCategories,
-        @Param("date") LocalDate date,
-        Pageable pageable
-    );
+    @Query("SELECT s FROM Space s LEFT JOIN FETCH s.description WHERE s.deletedAt IS NULL")
+    List<Space> findAllWithDescriptionByDeletedAtIsNull();
+
+    // delta 는 +1(리뷰 추가) 또는 -1(리뷰 제거). avgRating 은 증감 전 값을 기준으로 먼저 계산한다.
+    // 집계가 어긋나 음수가 되는 경우는 건너뛰고 SpaceRatingReconciler 가 바로잡는다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Space s SET
+            s.avgRating = CASE WHEN s.ratingSummary.reviewCount + :delta > 0
+                THEN (s.ratingSummary.ratingSum + :delta * :rating) * 1.0 / (s.ratingSummary.reviewCount + :delta)
+                ELSE 0.0 END,
+            s.ratingSummary.reviewCount = s.ratingSummary.reviewCount + :delta,
+            s.ratingSummary.ratingSum = s.ratingSummary.ratingSum + :delta * :rating,
+            s.ratingSummary.oneStarCount = s.ratingSummary.oneStarCount + CASE WHEN :rating = 1 THEN :delta ELSE 0 END,
+            s.ratingSummary.twoStarCount = s.ratingSummary.twoStarCount + CASE WHEN :rating = 2 THEN :delta ELSE 0 END,
+            s.ratingSummary.threeStarCount = s.ratingSummary.threeStarCount + CASE WHEN :rating = 3 THEN :delta ELSE 0 END,
+            s.ratingSummary.fourStarCount = s.ratingSummary.fourStarCount + CASE WHEN :rating = 4 THEN :delta ELSE 0 END,
+            s.ratingSummary.fiveStarCount = s.ratingSummary.fiveStarCount + CASE WHEN :rating = 5 THEN :delta ELSE 0 END
+        WHERE s.id = :spaceId
+        AND s.ratingSummary.reviewCount + :delta >= 0
+        """)
+    int applyRating(@Param("spaceId") Long spaceId, @Param("rating") int rating,
+        @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+        UPDATE Space s SET
+            s.avgRating = CASE WHEN :reviewCount > 0 THEN :ratingSum * 1.0 / :reviewCount ELSE 0.0 END,
+            s.ratingSummary.reviewCount = :reviewCount,
+            s.ratingSummary.ratingSum = :ratingSum,
+            s.ratingSummary.oneStarCount = :oneStarCount,
+            s.ratingSummary.twoStarCount = :twoStarCount,
+            s.ratingSummary.threeStarCount = :threeStarCount,
+            s.ratingSummary.fourStarCount = :fourStarCount,
+            s.ratingSummary.fiveStarCount = :fiveStarCount
+        WHERE s.id = :spaceId
+        """)
+    int overwriteRatingSummary(@Param("spaceId") Long spaceId,
+        @Param("reviewCount") int reviewCount, @Param("ratingSum") int ratingSum,
+        @Param("oneStarCount") int oneStarCount, @Param("twoStarCount") int twoStarCount,
+        @Param("threeStarCount") int threeStarCount, @Param("fourStarCount") int fourStarCount,
+        @Param("fiveStarCount") int fiveStarCount);
 }
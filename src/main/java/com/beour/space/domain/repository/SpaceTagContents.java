@@ -0,0 +1,8 @@
+package com.beour.space.domain.repository;
+
+public interface SpaceTagContents {
+
+    Long getSpaceId();
+
+    String getContents();
+}
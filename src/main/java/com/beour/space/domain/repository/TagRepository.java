@@ -1,9 +1,16 @@
 package com.beour.space.domain.repository;
 
-import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.entity.Tag;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
-    void deleteBySpace(Space space);
+    @Query("SELECT t FROM Tag t JOIN FETCH t.space s WHERE s.deletedAt IS NULL")
+    List<Tag> findAllOfActiveSpaces();
+
+    @Query("SELECT t.space.id AS spaceId, t.contents AS contents FROM Tag t WHERE t.space.id IN :spaceIds ORDER BY t.displayOrder, t.id")
+    List<SpaceTagContents> findContentsBySpaceIds(@Param("spaceIds") Collection<Long> spaceIds);
 }
@@ -0,0 +1,17 @@
+package com.beour.space.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface TimeSlotRow {
+
+    Long getId();
+
+    Long getSpaceId();
+
+    LocalDate getDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
@@ -0,0 +1,34 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.entity.WeeklyAvailability;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface WeeklyAvailabilityRepository extends JpaRepository<WeeklyAvailability, Long> {
+
+    List<WeeklyAvailability> findBySpaceIdOrderByValidFromAsc(Long spaceId);
+
+    // [from, to] 와 유효 기간이 겹치는 규칙
+    @Query("""
+        SELECT w FROM WeeklyAvailability w
+        WHERE w.space.id = :spaceId AND w.validFrom <= :to
+        AND (w.validUntil IS NULL OR w.validUntil >= :from)
+        """)
+    List<WeeklyAvailability> findBySpaceIdOverlapping(@Param("spaceId") Long spaceId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+        SELECT w FROM WeeklyAvailability w
+        WHERE w.validFrom <= :to AND (w.validUntil IS NULL OR w.validUntil >= :from)
+        """)
+    List<WeeklyAvailability> findOverlapping(@Param("from") LocalDate from,
+        @Param("to") LocalDate to);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM WeeklyAvailability w WHERE w.space.id = :spaceId")
+    void deleteBySpaceId(@Param("spaceId") Long spaceId);
+}
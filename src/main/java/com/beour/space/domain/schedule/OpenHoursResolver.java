@@ -0,0 +1,75 @@
+package com.beour.space.domain.schedule;
+
+import com.beour.space.domain.entity.AvailabilityException;
+import com.beour.space.domain.entity.AvailableTime;
+import com.beour.space.domain.entity.WeeklyAvailability;
+import com.beour.space.domain.repository.AvailabilityExceptionRepository;
+import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.space.domain.repository.TimeSlotRow;
+import com.beour.space.domain.repository.WeeklyAvailabilityRepository;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영 시간을 읽는 단일 통로. 예약 가능 시간 조회, 월 달력, 날짜 필터 색인이 모두 여기서 {@link OpenSchedule} 을 받아
+ * 같은 규칙(날짜 예외 > 요일 규칙 + 단건 날짜 등록)으로 그날의 운영 시간을 계산한다. 어떤 기간이든 세 번의 조회로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenHoursResolver {
+
+    private final WeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    private final AvailabilityExceptionRepository availabilityExceptionRepository;
+    private final AvailableTimeRepository availableTimeRepository;
+
+    public int openMask(Long spaceId, LocalDate date) {
+        return load(spaceId, date, date).openMask(date);
+    }
+
+    public OpenSchedule load(Long spaceId, LocalDate from, LocalDate to) {
+        return preview(spaceId, weeklyAvailabilityRepository.findBySpaceIdOverlapping(spaceId, from, to),
+            availabilityExceptionRepository.findBySpaceIdAndDateBetween(spaceId, from, to), from, to);
+    }
+
+    // 저장하기 전의 요일 규칙·날짜 예외로 계산한 운영 시간. 단건 날짜 등록은 저장된 값을 쓴다
+    public OpenSchedule preview(Long spaceId, List<WeeklyAvailability> rules,
+        List<AvailabilityException> exceptions, LocalDate from, LocalDate to) {
+        OpenSchedule schedule = new OpenSchedule();
+        rules.forEach(schedule::addRule);
+        exceptions.forEach(schedule::addException);
+        for (AvailableTime availableTime : availableTimeRepository.findBySpaceIdAndDateBetweenAndDeletedAtIsNull(
+            spaceId, from, to)) {
+            schedule.addOneOff(availableTime.getDate(),
+                HourSlots.of(availableTime.getStartTime(), availableTime.getEndTime()));
+        }
+
+        return schedule;
+    }
+
+    // 기간 안에 운영 시간 정보가 하나라도 있는 모든 공간
+    public Map<Long, OpenSchedule> loadAll(LocalDate from, LocalDate to) {
+        Map<Long, OpenSchedule> schedules = new HashMap<>();
+        for (WeeklyAvailability rule : weeklyAvailabilityRepository.findOverlapping(from, to)) {
+            schedule(schedules, rule.getSpace().getId()).addRule(rule);
+        }
+        for (AvailabilityException exception : availabilityExceptionRepository.findByDateBetween(
+            from, to)) {
+            schedule(schedules, exception.getSpace().getId()).addException(exception);
+        }
+        for (TimeSlotRow row : availableTimeRepository.findOpenTimeSlotsBetween(from, to)) {
+            schedule(schedules, row.getSpaceId()).addOneOff(row.getDate(),
+                HourSlots.of(row.getStartTime(), row.getEndTime()));
+        }
+
+        return schedules;
+    }
+
+    private static OpenSchedule schedule(Map<Long, OpenSchedule> schedules, Long spaceId) {
+        return schedules.computeIfAbsent(spaceId, key -> new OpenSchedule());
+    }
+}
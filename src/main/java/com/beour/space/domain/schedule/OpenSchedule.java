@@ -0,0 +1,61 @@
+package com.beour.space.domain.schedule;
+
+import com.beour.space.domain.entity.AvailabilityException;
+import com.beour.space.domain.entity.WeeklyAvailability;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 공간의 운영 시간 계산. 날짜별 행을 미리 만들어 두지 않고 요일 규칙과 날짜 예외에서 그날의 {@link HourSlots} 마스크를 바로 구한다.
+ * 날짜 예외가 있으면 그날은 예외 시간만 열리고, 없으면 요일 규칙과 단건 날짜 등록(AvailableTime)의 합이다.
+ */
+public final class OpenSchedule {
+
+    private final List<WeeklyAvailability> rules = new ArrayList<>();
+    private final List<Integer> ruleMasks = new ArrayList<>();
+    private final Map<LocalDate, Integer> exceptionMasks = new HashMap<>();
+    private final Map<LocalDate, Integer> oneOffMasks = new HashMap<>();
+
+    public void addRule(WeeklyAvailability rule) {
+        rules.add(rule);
+        ruleMasks.add(HourSlots.of(rule.getStartTime(), rule.getEndTime()));
+    }
+
+    public void addException(AvailabilityException exception) {
+        exceptionMasks.put(exception.getDate(), exception.isClosed() ? 0
+            : HourSlots.of(exception.getStartTime(), exception.getEndTime()));
+    }
+
+    public void addOneOff(LocalDate date, int mask) {
+        oneOffMasks.merge(date, mask, (current, other) -> current | other);
+    }
+
+    // 요일 규칙만으로 열리는 칸
+    public int scheduledMask(LocalDate date) {
+        int mask = 0;
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).appliesTo(date)) {
+                mask |= ruleMasks.get(i);
+            }
+        }
+        return mask;
+    }
+
+    // 날짜 예외로 정한 칸. 예외가 없으면 null, 휴무면 0
+    public Integer exceptionMask(LocalDate date) {
+        return exceptionMasks.get(date);
+    }
+
+    public int openMask(LocalDate date) {
+        return resolve(exceptionMask(date),
+            scheduledMask(date) | oneOffMasks.getOrDefault(date, 0));
+    }
+
+    public static int resolve(Integer exceptionMask, int regularMask) {
+        return exceptionMask != null ? exceptionMask : regularMask;
+    }
+}
@@ -0,0 +1,78 @@
+package com.beour.space.domain.slot;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 하루를 1시간 단위 24칸으로 보고 한 칸을 int 의 한 비트로 나타낸다 (bit n = n시~n+1시).
+ * 예약과 운영 시간이 모두 정시 단위라 빈 시간 계산과 겹침 검사가 비트 연산 한 번으로 끝난다.
+ */
+public final class HourSlots {
+
+    public static final int HOURS_PER_DAY = 24;
+    public static final int FULL_DAY = (1 << HOURS_PER_DAY) - 1;
+
+    private HourSlots() {
+    }
+
+    // [startTime, endTime) 에 걸친 칸. 자정 종료(00:00)는 24시로 본다
+    public static int of(LocalTime startTime, LocalTime endTime) {
+        int startHour = startTime.getHour();
+        int endHour = endTime.getMinute() > 0 ? endTime.getHour() + 1 : endTime.getHour();
+        if (endHour <= startHour) {
+            endHour = HOURS_PER_DAY;
+        }
+
+        return (FULL_DAY >>> (HOURS_PER_DAY - endHour)) & ~((1 << startHour) - 1);
+    }
+
+    // hour 시 이후의 모든 칸
+    public static int from(int hour) {
+        if (hour >= HOURS_PER_DAY) {
+            return 0;
+        }
+
+        return FULL_DAY & ~((1 << hour) - 1);
+    }
+
+    public static <T> int union(Collection<T> items, Function<T, LocalTime> startTime,
+        Function<T, LocalTime> endTime) {
+        int mask = 0;
+        for (T item : items) {
+            mask |= of(startTime.apply(item), endTime.apply(item));
+        }
+        return mask;
+    }
+
+    public static boolean covers(int mask, int window) {
+        return (mask & window) == window;
+    }
+
+    public static boolean overlaps(int mask, int other) {
+        return (mask & other) != 0;
+    }
+
+    // 비어 있는 각 칸의 시작 시각
+    public static List<LocalTime> startTimes(int mask) {
+        List<LocalTime> startTimes = new ArrayList<>(Integer.bitCount(mask));
+        for (int rest = mask; rest != 0; rest &= rest - 1) {
+            startTimes.add(LocalTime.of(Integer.numberOfTrailingZeros(rest), 0));
+        }
+        return startTimes;
+    }
+
+    // 연속된 칸을 (시작, 종료) 구간으로. 24시 종료는 00:00
+    public static void forEachRun(int mask, BiConsumer<LocalTime, LocalTime> consumer) {
+        int rest = mask;
+        while (rest != 0) {
+            int startHour = Integer.numberOfTrailingZeros(rest);
+            int endHour = Integer.numberOfTrailingZeros(~(rest >>> startHour)) + startHour;
+            consumer.accept(LocalTime.of(startHour, 0), LocalTime.of(endHour % HOURS_PER_DAY, 0));
+            rest &= ~((FULL_DAY >>> (HOURS_PER_DAY - endHour)));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.beour.space.guest.controller;
 
+import com.beour.global.pagination.CursorRequest;
 import com.beour.global.response.ApiResponse;
 import com.beour.space.guest.dto.FilteringSearchRequestDto;
 import com.beour.space.guest.dto.NearbySpacePageResponseDto;
@@ -35,8 +36,15 @@ public class GuestSpaceController {
             @RequestParam("latitude") double latitude,
             @RequestParam("longitude") double longitude,
             @RequestParam("radiusKm") double radiusKm,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @PageableDefault(size = 10) Pageable pageable
     ) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(guestSpaceService.findNearbySpaces(
+                    latitude, longitude, radiusKm, cursorRequest));
+        }
+
         NearbySpacePageResponseDto response = guestSpaceService.findNearbySpaces(
                 latitude, longitude, radiusKm, pageable);
         return ApiResponse.ok(response);
@@ -45,27 +53,51 @@ public class GuestSpaceController {
     @GetMapping("/keyword")
     public ApiResponse<SearchSpacePageResponseDto> searchSpaces(
             @RequestParam(value = "keyword") String request,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @PageableDefault(size = 10) Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(guestSpaceSearchService.search(request, cursorRequest));
+        }
+
         return ApiResponse.ok(guestSpaceSearchService.search(request, pageable));
     }
 
     @PostMapping("/filter")
     public ApiResponse<SearchSpacePageResponseDto> searchSpacesWithFiltering(
-            @RequestBody FilteringSearchRequestDto requestDto, @PageableDefault(size = 10) Pageable pageable) {
+            @RequestBody FilteringSearchRequestDto requestDto,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(guestSpaceSearchService.searchWithFiltering(requestDto, cursorRequest));
+        }
+
         return ApiResponse.ok(guestSpaceSearchService.searchWithFiltering(requestDto, pageable));
     }
 
     @GetMapping("/spacecategory")
     public ApiResponse<SearchSpacePageResponseDto> searchWithSpaceCategory(
             @RequestParam(value = "spacecategory") SpaceCategory request,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @PageableDefault(size = 10) Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(guestSpaceSearchService.searchSpaceWithSpaceCategory(request, cursorRequest));
+        }
 
         return ApiResponse.ok(guestSpaceSearchService.searchSpaceWithSpaceCategory(request, pageable));
     }
 
     @GetMapping("/usecategory")
     public ApiResponse<SearchSpacePageResponseDto> searchWithUseCategory(
-            @RequestParam(value = "usecategory") UseCategory request, @PageableDefault(size = 10) Pageable pageable) {
+            @RequestParam(value = "usecategory") UseCategory request,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(guestSpaceSearchService.searchSpaceWithUseCategory(request, cursorRequest));
+        }
 
         return ApiResponse.ok(guestSpaceSearchService.searchSpaceWithUseCategory(request, pageable));
     }
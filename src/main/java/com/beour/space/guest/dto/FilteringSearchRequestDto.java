@@ -4,6 +4,7 @@ package com.beour.space.guest.dto;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,9 @@ public class FilteringSearchRequestDto {
 
     private String keyword;
     private LocalDate date;
+    // date 와 함께 주면 이 시간 전체가 비어 있는 공간만
+    private LocalTime startTime;
+    private LocalTime endTime;
     private int minPrice;
     private int maxPrice;
     private String address;
@@ -1,5 +1,7 @@
 package com.beour.space.guest.dto;
 
+import com.beour.global.pagination.CursorSlice;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,4 +12,15 @@ public class NearbySpacePageResponseDto {
     private List<NearbySpaceResponse> spaces;
     private boolean last;
     private int totalPage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public NearbySpacePageResponseDto(List<NearbySpaceResponse> spaces, boolean last, int totalPage) {
+        this(spaces, last, totalPage, null);
+    }
+
+    public static NearbySpacePageResponseDto ofCursor(List<NearbySpaceResponse> spaces, CursorSlice<?> slice) {
+        return new NearbySpacePageResponseDto(spaces, slice.isLast(), 0, slice.getNextCursor());
+    }
 }
@@ -1,5 +1,7 @@
 package com.beour.space.guest.dto;
 
+import com.beour.global.pagination.CursorSlice;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,4 +13,15 @@ public class SearchSpacePageResponseDto {
     private List<SearchSpaceResponseDto> spaces;
     private boolean last;
     private int totalPage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public SearchSpacePageResponseDto(List<SearchSpaceResponseDto> spaces, boolean last, int totalPage) {
+        this(spaces, last, totalPage, null);
+    }
+
+    public static SearchSpacePageResponseDto ofCursor(List<SearchSpaceResponseDto> spaces, CursorSlice<?> slice) {
+        return new SearchSpacePageResponseDto(spaces, slice.isLast(), 0, slice.getNextCursor());
+    }
 }
@@ -1,5 +1,6 @@
 package com.beour.space.guest.dto;
 
+import com.beour.space.domain.card.SpaceCards;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.entity.Tag;
 import java.util.List;
@@ -56,11 +57,7 @@ public class SearchSpaceResponseDto {
             .build();
     }
 
-    public static SearchSpaceResponseDto oftmp(Space space, Long reviewCount, boolean likes) {
-        List<String> tagList = space.getTags().stream()
-            .map(Tag::getContents)
-            .collect(Collectors.toList());
-
+    public static SearchSpaceResponseDto of(Space space, SpaceCards spaceCards) {
         return SearchSpaceResponseDto.builder()
             .spaceId(space.getId())
             .spaceName(space.getName())
@@ -69,9 +66,9 @@ public class SearchSpaceResponseDto {
             .address(abstractAddress(space.getAddress()))
             .maxCapacity(space.getMaxCapacity())
             .average(space.getAvgRating())
-            .reviewCount(reviewCount)
-            .tags(tagList)
-            .likes(likes)
+            .reviewCount((long) space.getRatingSummary().getReviewCount())
+            .tags(spaceCards.getTags(space.getId()))
+            .likes(spaceCards.isLiked(space.getId()))
             .build();
     }
 
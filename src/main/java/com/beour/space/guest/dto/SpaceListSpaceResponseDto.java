@@ -1,9 +1,8 @@
 package com.beour.space.guest.dto;
 
+import com.beour.space.domain.card.SpaceCards;
 import com.beour.space.domain.entity.Space;
-import com.beour.space.domain.entity.Tag;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -39,11 +38,7 @@ public class SpaceListSpaceResponseDto {
         this.tags = tags;
     }
 
-    public static SpaceListSpaceResponseDto of(Space space, boolean like, Long reviewCount) {
-        List<String> tagList = space.getTags().stream()
-            .map(Tag::getContents)
-            .collect(Collectors.toList());
-
+    public static SpaceListSpaceResponseDto of(Space space, SpaceCards spaceCards) {
         return SpaceListSpaceResponseDto.builder()
             .spaceId(space.getId())
             .spaceName(space.getName())
@@ -51,10 +46,10 @@ public class SpaceListSpaceResponseDto {
             .maxCapacity(space.getMaxCapacity())
             .price(space.getPricePerHour())
             .thumbnailUrl(space.getThumbnailUrl())
-            .like(like)
+            .like(spaceCards.isLiked(space.getId()))
             .average(space.getAvgRating())
-            .reviewCount(reviewCount)
-            .tags(tagList)
+            .reviewCount((long) space.getRatingSummary().getReviewCount())
+            .tags(spaceCards.getTags(space.getId()))
             .build();
     }
 
@@ -3,8 +3,17 @@ package com.beour.space.guest.service;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.exceptionType.InputInvalidFormatException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
-import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.global.pagination.Cursor;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.global.pagination.CursorSlice;
+import com.beour.space.domain.card.SpaceCardAssembler;
+import com.beour.space.domain.card.SpaceCards;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.index.SpaceAvailabilityWindow;
+import com.beour.space.domain.index.SpaceCatalog;
+import com.beour.space.domain.index.SpaceCatalogFilter;
+import com.beour.space.domain.index.SpaceSearchIndex;
+import com.beour.space.domain.index.SpaceSearchIndex.SearchHit;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.guest.dto.FilteringSearchRequestDto;
 import com.beour.space.guest.dto.SearchSpacePageResponseDto;
@@ -13,11 +22,21 @@ import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
-import com.beour.wishlist.repository.LikeRepository;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,116 +47,253 @@ import org.springframework.stereotype.Service;
 public class GuestSpaceSearchService {
 
     private final SpaceRepository spaceRepository;
-    private final ReviewRepository reviewRepository;
-    private final LikeRepository likeRepository;
     private final UserRepository userRepository;
+    private final SpaceCardAssembler spaceCardAssembler;
+    private final SpaceSearchIndex spaceSearchIndex;
+    private final SpaceCatalog spaceCatalog;
+    private final SpaceAvailabilityWindow spaceAvailabilityWindow;
 
     public SearchSpacePageResponseDto search(String keyword, Pageable pageable) {
         Page<Space> spaces = searchWithKeyword(keyword, pageable);
-        List<SearchSpaceResponseDto> spaceResponseDtoList = changeToSearchResponseDtoFrom(spaces);
+        List<SearchSpaceResponseDto> spaceResponseDtoList = changeToSearchResponseDtoFrom(
+            spaces.getContent());
 
         return new SearchSpacePageResponseDto(spaceResponseDtoList, spaces.isLast(),
             spaces.getTotalPages());
     }
 
+    public SearchSpacePageResponseDto search(String keyword, CursorRequest cursorRequest) {
+        validateKeyword(keyword);
+
+        List<SearchHit> hits = spaceSearchIndex.searchHits(keyword);
+        CursorSlice<SearchHit> slice = CursorSlice.of(hitsAfter(hits, cursorRequest), cursorRequest,
+            hit -> Cursor.of(hit.getScore(), hit.getSpaceId()));
+
+        List<Space> spaces = findSpacesInOrder(slice.getContent().stream()
+            .map(SearchHit::getSpaceId)
+            .toList());
+        checkEmptySpaces(spaces);
+
+        return SearchSpacePageResponseDto.ofCursor(changeToSearchResponseDtoFrom(spaces), slice);
+    }
+
     private Page<Space> searchWithKeyword(String keyword, Pageable pageable) {
+        validateKeyword(keyword);
+
+        List<Long> rankedSpaceIds = spaceSearchIndex.search(keyword);
+        Page<Space> result = findSpacesInOrder(rankedSpaceIds, pageable);
+        checkEmptySpaces(result.getContent());
+
+        return result;
+    }
+
+    private void validateKeyword(String keyword) {
         if (keyword.isEmpty()) {
             throw new InputInvalidFormatException(SpaceErrorCode.KEYWORD_REQUIRED);
         }
+    }
 
-        Page<Space> result = spaceRepository.searchByKeyword("%" + keyword + "%", pageable);
-        if (result.isEmpty()) {
-            throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
+    // 색인 순위에서 커서(점수, id) 바로 다음부터 fetchSize 만큼
+    private List<SearchHit> hitsAfter(List<SearchHit> hits, CursorRequest cursorRequest) {
+        int from = 0;
+        if (!cursorRequest.isFirstPage()) {
+            SearchHit cursorHit = new SearchHit(cursorRequest.cursorId(),
+                cursorRequest.getCursor().keyAsInt());
+            int index = Collections.binarySearch(hits, cursorHit, SearchHit.RANKING);
+            from = index >= 0 ? index + 1 : -index - 1;
         }
 
-        return result;
+        int to = Math.min(from + cursorRequest.fetchSize(), hits.size());
+        return hits.subList(from, to);
+    }
+
+    // 색인이 정렬한 id 중 현재 페이지만 DB 에서 조회하고 순서를 복원
+    private Page<Space> findSpacesInOrder(List<Long> spaceIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), spaceIds.size());
+        int to = Math.min(from + pageable.getPageSize(), spaceIds.size());
+
+        return new PageImpl<>(findSpacesInOrder(spaceIds.subList(from, to)), pageable,
+            spaceIds.size());
+    }
+
+    private List<Space> findSpacesInOrder(List<Long> spaceIds) {
+        Map<Long, Space> spaceMap = spaceRepository.findAllByIdIn(spaceIds).stream()
+            .collect(Collectors.toMap(Space::getId, Function.identity()));
+
+        return spaceIds.stream()
+            .map(spaceMap::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
     public SearchSpacePageResponseDto searchWithFiltering(FilteringSearchRequestDto requestDto,
         Pageable pageable) {
-        String keyword = requestDto.getKeyword().isBlank() ? null : requestDto.getKeyword();
-        String address = requestDto.getAddress().isBlank() ? null : requestDto.getAddress();
-        Integer minPrice = requestDto.getMinPrice() == 0 ? null : requestDto.getMinPrice();
-        Integer maxPrice = requestDto.getMaxPrice() == 0 ? null : requestDto.getMaxPrice();
-        Integer minCapacity = requestDto.getMinCapacity() == 0 ? null : requestDto.getMinCapacity();
-
-        List<String> spaceCategories = requestDto.getSpaceCategories().isEmpty()
-            ? null
-            : requestDto.getSpaceCategories().stream()
-                .map(Enum::name)
-                .toList();
-
-        List<String> useCategories = requestDto.getUseCategories().isEmpty()
-            ? null
-            : requestDto.getUseCategories().stream()
-                .map(Enum::name)
-                .toList();
-
-        LocalDate date = requestDto.getDate();
-
-        Page<Space> result = spaceRepository.searchWithFiltering(
-            keyword, minPrice, maxPrice, address, minCapacity, spaceCategories, useCategories, date,
-            pageable
-        );
-
-        if (result.isEmpty()) {
-            throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
+        return toPageResponse(spaceCatalog.filter(toCatalogFilter(requestDto)), pageable);
+    }
+
+    public SearchSpacePageResponseDto searchWithFiltering(FilteringSearchRequestDto requestDto,
+        CursorRequest cursorRequest) {
+        return toCursorResponse(spaceCatalog.filter(toCatalogFilter(requestDto)), cursorRequest);
+    }
+
+    // 키워드와 날짜는 각 색인에서 후보를 먼저 구해 카탈로그 조건과 교집합한다 (날짜는 빈 시간이 남은 공간만)
+    private SpaceCatalogFilter toCatalogFilter(FilteringSearchRequestDto requestDto) {
+        if (hasTimeWindow(requestDto)) {
+            validateTimeWindow(requestDto);
         }
 
-        List<SearchSpaceResponseDto> spaces = changeToSearchResponseDtoFrom(result);
-        return new SearchSpacePageResponseDto(spaces, result.isLast(), result.getTotalPages());
+        Set<Long> candidateSpaceIds = null;
+        if (!requestDto.getKeyword().isBlank()) {
+            candidateSpaceIds = new HashSet<>(spaceSearchIndex.search(requestDto.getKeyword()));
+        }
+        if (requestDto.getDate() != null) {
+            Set<Long> availableSpaceIds = findAvailableSpaceIds(requestDto);
+            if (candidateSpaceIds == null) {
+                candidateSpaceIds = availableSpaceIds;
+            } else {
+                candidateSpaceIds.retainAll(availableSpaceIds);
+            }
+        }
+
+        return SpaceCatalogFilter.builder()
+            .minPrice(nullIfZero(requestDto.getMinPrice()))
+            .maxPrice(nullIfZero(requestDto.getMaxPrice()))
+            .minCapacity(nullIfZero(requestDto.getMinCapacity()))
+            .address(nullIfBlank(requestDto.getAddress()))
+            .spaceCategories(emptyToNull(requestDto.getSpaceCategories()))
+            .useCategories(emptyToNull(requestDto.getUseCategories()))
+            .candidateSpaceIds(candidateSpaceIds)
+            .build();
     }
 
-    public SearchSpacePageResponseDto searchSpaceWithSpaceCategory(SpaceCategory request,
-        Pageable pageable) {
-        Page<Space> spaces = spaceRepository.findBySpaceCategory(request, pageable);
+    private Set<Long> findAvailableSpaceIds(FilteringSearchRequestDto requestDto) {
+        if (!hasTimeWindow(requestDto)) {
+            return spaceAvailabilityWindow.findBookableSpaceIds(requestDto.getDate());
+        }
 
-        if (spaces.isEmpty()) {
-            throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
+        if (requestDto.getDate().equals(LocalDate.now())
+            && requestDto.getStartTime().isBefore(LocalTime.now())) {
+            return Collections.emptySet();
         }
 
-        List<SearchSpaceResponseDto> spaceResponseDtoList = changeToSearchResponseDtoFrom(spaces);
+        return spaceAvailabilityWindow.findSpaceIdsFreeDuring(requestDto.getDate(),
+            requestDto.getStartTime(), requestDto.getEndTime());
+    }
 
-        return new SearchSpacePageResponseDto(spaceResponseDtoList, spaces.isLast(),
-            spaces.getTotalPages());
+    private boolean hasTimeWindow(FilteringSearchRequestDto requestDto) {
+        return requestDto.getStartTime() != null || requestDto.getEndTime() != null;
+    }
+
+    // 시간 범위는 날짜와 함께, 시작과 종료를 모두 줘야 한다. 자정 종료(00:00)는 허용
+    private void validateTimeWindow(FilteringSearchRequestDto requestDto) {
+        LocalTime startTime = requestDto.getStartTime();
+        LocalTime endTime = requestDto.getEndTime();
+        if (requestDto.getDate() == null || startTime == null || endTime == null
+            || (!endTime.isAfter(startTime) && !endTime.equals(LocalTime.MIDNIGHT))) {
+            throw new InputInvalidFormatException(SpaceErrorCode.INVALID_TIME_WINDOW);
+        }
+    }
+
+    private String nullIfBlank(String value) {
+        return value.isBlank() ? null : value;
+    }
+
+    private Integer nullIfZero(int value) {
+        return value == 0 ? null : value;
+    }
+
+    private <T> List<T> emptyToNull(List<T> values) {
+        return values.isEmpty() ? null : values;
+    }
+
+    public SearchSpacePageResponseDto searchSpaceWithSpaceCategory(SpaceCategory request,
+        Pageable pageable) {
+        return toPageResponse(spaceCatalog.filter(spaceCategoryFilter(request)), pageable);
+    }
+
+    public SearchSpacePageResponseDto searchSpaceWithSpaceCategory(SpaceCategory request,
+        CursorRequest cursorRequest) {
+        return toCursorResponse(spaceCatalog.filter(spaceCategoryFilter(request)), cursorRequest);
+    }
+
+    private SpaceCatalogFilter spaceCategoryFilter(SpaceCategory spaceCategory) {
+        return SpaceCatalogFilter.builder()
+            .spaceCategories(List.of(spaceCategory))
+            .build();
     }
 
     public SearchSpacePageResponseDto searchSpaceWithUseCategory(UseCategory request,
         Pageable pageable) {
-        Page<Space> spaces = spaceRepository.findByUseCategory(request, pageable);
+        return toPageResponse(spaceCatalog.filter(useCategoryFilter(request)), pageable);
+    }
 
-        if (spaces.isEmpty()) {
-            throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
-        }
+    public SearchSpacePageResponseDto searchSpaceWithUseCategory(UseCategory request,
+        CursorRequest cursorRequest) {
+        return toCursorResponse(spaceCatalog.filter(useCategoryFilter(request)), cursorRequest);
+    }
 
-        List<SearchSpaceResponseDto> spaceResponseDtoList = changeToSearchResponseDtoFrom(spaces);
+    private SpaceCatalogFilter useCategoryFilter(UseCategory useCategory) {
+        return SpaceCatalogFilter.builder()
+            .useCategories(List.of(useCategory))
+            .build();
+    }
 
-        return new SearchSpacePageResponseDto(spaceResponseDtoList, spaces.isLast(),
-            spaces.getTotalPages());
+    // 카탈로그 결과(id 오름차순)에서 현재 페이지만 조회
+    private SearchSpacePageResponseDto toPageResponse(long[] spaceIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), spaceIds.length);
+        int to = Math.min(from + pageable.getPageSize(), spaceIds.length);
+
+        Page<Space> spaces = new PageImpl<>(findSpacesInOrder(toList(spaceIds, from, to)),
+            pageable, spaceIds.length);
+        checkEmptySpaces(spaces.getContent());
+
+        return new SearchSpacePageResponseDto(changeToSearchResponseDtoFrom(spaces.getContent()),
+            spaces.isLast(), spaces.getTotalPages());
     }
 
-    private List<SearchSpaceResponseDto> changeToSearchResponseDtoFrom(Page<Space> spaces) {
-        User user = findUserFromToken();
+    // 커서 모드는 최신 등록순(id 내림차순)이므로 카탈로그 결과를 뒤에서부터 읽는다
+    private SearchSpacePageResponseDto toCursorResponse(long[] spaceIds,
+        CursorRequest cursorRequest) {
+        int from = spaceIds.length - 1;
+        if (!cursorRequest.isFirstPage()) {
+            int index = Arrays.binarySearch(spaceIds, cursorRequest.cursorId());
+            from = index >= 0 ? index - 1 : -index - 2;
+        }
 
-        return spaces.stream()
-            .map(
-                space -> toSearchSpaceResponseDto(space, user))
+        List<Long> fetchedIds = new ArrayList<>();
+        for (int i = from; i >= 0 && fetchedIds.size() < cursorRequest.fetchSize(); i--) {
+            fetchedIds.add(spaceIds[i]);
+        }
+
+        CursorSlice<Long> slice = CursorSlice.of(fetchedIds, cursorRequest, Cursor::ofId);
+        List<Space> spaces = findSpacesInOrder(slice.getContent());
+        checkEmptySpaces(spaces);
+
+        return SearchSpacePageResponseDto.ofCursor(changeToSearchResponseDtoFrom(spaces), slice);
+    }
+
+    private List<Long> toList(long[] spaceIds, int from, int to) {
+        return Arrays.stream(spaceIds, from, to)
+            .boxed()
             .toList();
     }
 
-    private SearchSpaceResponseDto toSearchSpaceResponseDto(Space space, User user) {
-        long reviewCount = getReviewCountBySpaceId(space.getId());
-        boolean isLiked = false;
-        if (user != null) {
-            isLiked = likeRepository.existsByUserIdAndSpaceIdAndDeletedAtIsNull(user.getId(),
-                space.getId());
+    private void checkEmptySpaces(List<Space> spaces) {
+        if (spaces.isEmpty()) {
+            throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
         }
-
-        return SearchSpaceResponseDto.oftmp(space, reviewCount, isLiked);
     }
 
-    private long getReviewCountBySpaceId(Long spaceId) {
-        return reviewRepository.countBySpaceIdAndDeletedAtIsNull(spaceId);
+    private List<SearchSpaceResponseDto> changeToSearchResponseDtoFrom(List<Space> spaces) {
+        User user = findUserFromToken();
+        List<Long> spaceIds = spaces.stream()
+            .map(Space::getId)
+            .toList();
+        SpaceCards spaceCards = spaceCardAssembler.assemble(spaceIds, user);
+
+        return spaces.stream()
+            .map(space -> SearchSpaceResponseDto.of(space, spaceCards))
+            .toList();
     }
 
     private User findUserFromToken() {
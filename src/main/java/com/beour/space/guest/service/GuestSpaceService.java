@@ -2,18 +2,28 @@ package com.beour.space.guest.service;
 
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.global.pagination.Cursor;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.global.pagination.CursorSlice;
+import com.beour.space.domain.card.SpaceCardAssembler;
+import com.beour.space.domain.card.SpaceCards;
 import com.beour.space.domain.entity.Space;
-import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.index.SpaceGeoIndex;
+import com.beour.space.domain.index.SpaceGeoIndex.GeoHit;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.guest.dto.NearbySpacePageResponseDto;
 import com.beour.space.guest.dto.NearbySpaceResponse;
 import com.beour.space.guest.dto.RecentCreatedSpcaceListResponseDto;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
-import com.beour.wishlist.repository.LikeRepository;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,32 +38,76 @@ public class GuestSpaceService {
 
     private final SpaceRepository spaceRepository;
     private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
+    private final SpaceCardAssembler spaceCardAssembler;
+    private final SpaceGeoIndex spaceGeoIndex;
 
     @Transactional(readOnly = true)
     public NearbySpacePageResponseDto findNearbySpaces(double userLatitude, double userLongitude,
         double radiusKm, Pageable pageable) {
         User user = findUserFromToken();
-        double radiusMeters = radiusKm * 1000;
+        List<GeoHit> hits = spaceGeoIndex.findWithin(userLatitude, userLongitude, radiusKm * 1000);
 
-        Page<Space> spacePage = spaceRepository.findAllWithinDistanceWithPaging(
-            userLatitude, userLongitude, radiusMeters, pageable);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Space> spaces = findSpacesInOrder(hits.subList(from, to));
 
-        if(spacePage.getContent().isEmpty()){
+        if (spaces.isEmpty()) {
+            throw new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND);
+        }
+
+        Page<Space> spacePage = new PageImpl<>(spaces, pageable, hits.size());
+        return new NearbySpacePageResponseDto(toNearbySpaceResponses(spaces, user),
+            spacePage.isLast(), spacePage.getTotalPages());
+    }
+
+    @Transactional(readOnly = true)
+    public NearbySpacePageResponseDto findNearbySpaces(double userLatitude, double userLongitude,
+        double radiusKm, CursorRequest cursorRequest) {
+        User user = findUserFromToken();
+        List<GeoHit> hits = spaceGeoIndex.findWithin(userLatitude, userLongitude, radiusKm * 1000);
+
+        int from = 0;
+        if (!cursorRequest.isFirstPage()) {
+            GeoHit cursorHit = new GeoHit(cursorRequest.cursorId(),
+                cursorRequest.getCursor().keyAsDouble());
+            int index = Collections.binarySearch(hits, cursorHit, GeoHit.NEAREST_FIRST);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        int to = Math.min(from + cursorRequest.fetchSize(), hits.size());
+
+        CursorSlice<GeoHit> slice = CursorSlice.of(hits.subList(from, to), cursorRequest,
+            hit -> Cursor.of(hit.getDistance(), hit.getSpaceId()));
+        List<Space> spaces = findSpacesInOrder(slice.getContent());
+
+        if (spaces.isEmpty()) {
             throw new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND);
         }
 
-        List<NearbySpaceResponse> spaces = spacePage.getContent().stream().map(space -> {
-            List<String> tags = space.getTags().stream()
-                .map(Tag::getContents)
-                .toList();
+        return NearbySpacePageResponseDto.ofCursor(toNearbySpaceResponses(spaces, user), slice);
+    }
 
-            boolean liked = false;
-            if(user != null){
-                liked = likeRepository.existsByUserIdAndSpaceId(user.getId(), space.getId());
-            }
+    // 위치 색인이 정렬한 순서대로 현재 페이지의 공간만 DB 에서 조회
+    private List<Space> findSpacesInOrder(List<GeoHit> hits) {
+        List<Long> spaceIds = hits.stream()
+            .map(GeoHit::getSpaceId)
+            .toList();
+        Map<Long, Space> spaceMap = spaceRepository.findAllByIdIn(spaceIds).stream()
+            .collect(Collectors.toMap(Space::getId, Function.identity()));
+
+        return spaceIds.stream()
+            .map(spaceMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private List<NearbySpaceResponse> toNearbySpaceResponses(List<Space> spaces, User user) {
+        List<Long> spaceIds = spaces.stream()
+            .map(Space::getId)
+            .toList();
+        SpaceCards spaceCards = spaceCardAssembler.assemble(spaceIds, user);
 
-            return NearbySpaceResponse.builder()
+        return spaces.stream()
+            .map(space -> NearbySpaceResponse.builder()
                 .spaceId(space.getId())
                 .name(space.getName())
                 .thumbnailUrl(space.getThumbnailUrl())
@@ -63,13 +117,10 @@ public class GuestSpaceService {
                 .longitude(space.getLongitude())
                 .avgRating(space.getAvgRating())
                 .pricePerHour(space.getPricePerHour())
-                .liked(liked)
-                .tags(tags)
-                .build();
-        }).toList();
-
-        return new NearbySpacePageResponseDto(spaces, spacePage.isLast(),
-            spacePage.getTotalPages());
+                .liked(spaceCards.isLiked(space.getId()))
+                .tags(spaceCards.getTags(space.getId()))
+                .build())
+            .toList();
     }
 
     public List<RecentCreatedSpcaceListResponseDto> getRecentCreatedSpace() {
@@ -3,7 +3,9 @@ package com.beour.space.host.controller;
 import com.beour.global.response.ApiResponse;
 import com.beour.space.host.dto.AvailableTimeDetailResponseDto;
 import com.beour.space.host.dto.AvailableTimeUpdateRequestDto;
+import com.beour.space.host.dto.WeeklyAvailabilityUpdateRequestDto;
 import com.beour.space.host.service.AvailableTimeService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,4 +27,11 @@ public class AvailableTimeController {
         availableTimeService.updateAvailableTimes(spaceId, requestDto);
         return ApiResponse.ok("대여 가능 시간을 성공적으로 업데이트 했습니다.");
     }
+
+    @PutMapping("/{spaceId}/available-times/weekly")
+    public ApiResponse<String> updateWeeklyAvailability(@PathVariable(value = "spaceId") Long spaceId,
+                                                        @Valid @RequestBody WeeklyAvailabilityUpdateRequestDto requestDto) {
+        availableTimeService.updateWeeklyAvailability(spaceId, requestDto);
+        return ApiResponse.ok("반복 운영 시간을 성공적으로 업데이트 했습니다.");
+    }
 }
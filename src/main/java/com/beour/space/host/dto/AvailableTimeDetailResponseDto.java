@@ -3,9 +3,11 @@ package com.beour.space.host.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Builder
@@ -13,6 +15,8 @@ public class AvailableTimeDetailResponseDto {
     private Long spaceId;
     private List<TimeSlot> editableTimeSlots;
     private List<TimeSlot> nonEditableTimeSlots;
+    private List<WeeklyRule> weeklyRules;
+    private List<DateException> exceptions;
 
     @Getter
     @Builder
@@ -21,4 +25,23 @@ public class AvailableTimeDetailResponseDto {
         private LocalTime startTime;
         private LocalTime endTime;
     }
+
+    @Getter
+    @Builder
+    public static class WeeklyRule {
+        private Set<DayOfWeek> daysOfWeek;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private LocalDate validFrom;
+        private LocalDate validUntil;
+    }
+
+    @Getter
+    @Builder
+    public static class DateException {
+        private LocalDate date;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private boolean closed;
+    }
 }
@@ -22,6 +22,8 @@ public class SpaceDetailResponseDto {
     private String spaceCategory;
     private String useCategory;
     private Double avgRating;
+    private int reviewCount;
+    private List<Integer> starCounts; // index 0 이 1점
     private String thumbnailUrl;
 
     // Description
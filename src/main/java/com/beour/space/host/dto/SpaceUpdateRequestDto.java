@@ -49,4 +49,7 @@ public class SpaceUpdateRequestDto {
     private String refundPolicy;
 
     private List<String> tags;
+
+    // 유지할 기존 이미지 URL (표시 순서대로). 새로 올린 파일은 이 뒤에 붙는다
+    private List<String> imageUrls;
 }
@@ -0,0 +1,65 @@
+package com.beour.space.host.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 요일 규칙과 날짜 예외를 통째로 교체한다
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class WeeklyAvailabilityUpdateRequestDto {
+
+    @Valid
+    private List<WeeklyRule> weeklyRules = new ArrayList<>();
+
+    @Valid
+    private List<DateException> exceptions = new ArrayList<>();
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class WeeklyRule {
+
+        @NotEmpty(message = "요일 필수")
+        private Set<DayOfWeek> daysOfWeek;
+
+        @NotNull(message = "시작 시간 필수")
+        private LocalTime startTime;
+
+        @NotNull(message = "종료 시간 필수")
+        private LocalTime endTime;
+
+        @NotNull(message = "적용 시작일 필수")
+        private LocalDate validFrom;
+
+        // 비우면 별도 변경 전까지
+        private LocalDate validUntil;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class DateException {
+
+        @NotNull(message = "날짜 필수")
+        private LocalDate date;
+
+        // 둘 다 비우면 그날 휴무
+        private LocalTime startTime;
+        private LocalTime endTime;
+    }
+}
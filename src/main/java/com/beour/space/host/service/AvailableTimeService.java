@@ -1,19 +1,33 @@
 package com.beour.space.host.service;
 
+import com.beour.global.exception.error.errorcode.AvailableTimeErrorCode;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.global.exception.exceptionType.MissMatch;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
-import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.global.transaction.AfterCommit;
 import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.space.domain.entity.AvailabilityException;
 import com.beour.space.domain.entity.AvailableTime;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.WeeklyAvailability;
+import com.beour.space.domain.index.AvailabilityCalendarCache;
+import com.beour.space.domain.index.SpaceAvailabilityWindow;
+import com.beour.space.domain.repository.AvailabilityExceptionRepository;
 import com.beour.space.domain.repository.AvailableTimeRepository;
 import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.repository.TimeSlotRow;
+import com.beour.space.domain.repository.WeeklyAvailabilityRepository;
+import com.beour.space.domain.schedule.OpenHoursResolver;
+import com.beour.space.domain.schedule.OpenSchedule;
+import com.beour.space.domain.slot.HourSlots;
 import com.beour.space.host.dto.AvailableTimeDetailResponseDto;
 import com.beour.space.host.dto.AvailableTimeUpdateRequestDto;
+import com.beour.space.host.dto.WeeklyAvailabilityUpdateRequestDto;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,17 +35,33 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class AvailableTimeService {
 
+    private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(
+            ReservationStatus.PENDING, ReservationStatus.ACCEPTED);
+
     private final SpaceRepository spaceRepository;
     private final UserRepository userRepository;
     private final AvailableTimeRepository availableTimeRepository;
     private final ReservationRepository reservationRepository;
+    private final WeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    private final AvailabilityExceptionRepository availabilityExceptionRepository;
+    private final SpaceAvailabilityWindow spaceAvailabilityWindow;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
+    private final OpenHoursResolver openHoursResolver;
 
     @Transactional(readOnly = true)
     public AvailableTimeDetailResponseDto getAvailableTimeDetail(Long spaceId) {
@@ -48,17 +78,34 @@ public class AvailableTimeService {
                         .build())
                 .collect(Collectors.toList());
 
-        // 수정 불가능한 시간들 (예약 상태가 PENDING 또는 ACCEPTED인 것들)
-        List<Reservation> reservedSlots = reservationRepository.findBySpaceIdAndDeletedAtIsNull(spaceId).stream()
-                .filter(reservation -> reservation.getStatus() == ReservationStatus.PENDING
-                        || reservation.getStatus() == ReservationStatus.ACCEPTED)
+        // 수정 불가능한 시간들 (예약 상태가 PENDING 또는 ACCEPTED인 것들), 날짜별로 이어지는 시간은 합쳐서
+        Map<LocalDate, Integer> reservedByDate = findReservedMasks(spaceId, LocalDate.now());
+
+        List<AvailableTimeDetailResponseDto.TimeSlot> nonEditableTimeSlots = new ArrayList<>();
+        reservedByDate.forEach((date, reserved) -> HourSlots.forEachRun(reserved,
+                (startTime, endTime) -> nonEditableTimeSlots.add(
+                        AvailableTimeDetailResponseDto.TimeSlot.builder()
+                                .date(date)
+                                .startTime(startTime)
+                                .endTime(endTime)
+                                .build())));
+
+        List<AvailableTimeDetailResponseDto.WeeklyRule> weeklyRules = weeklyAvailabilityRepository.findBySpaceIdOrderByValidFromAsc(spaceId).stream()
+                .map(rule -> AvailableTimeDetailResponseDto.WeeklyRule.builder()
+                        .daysOfWeek(rule.getDaysOfWeek())
+                        .startTime(rule.getStartTime())
+                        .endTime(rule.getEndTime())
+                        .validFrom(rule.getValidFrom())
+                        .validUntil(rule.getValidUntil())
+                        .build())
                 .collect(Collectors.toList());
 
-        List<AvailableTimeDetailResponseDto.TimeSlot> nonEditableTimeSlots = reservedSlots.stream()
-                .map(reservation -> AvailableTimeDetailResponseDto.TimeSlot.builder()
-                        .date(reservation.getDate())
-                        .startTime(reservation.getStartTime())
-                        .endTime(reservation.getEndTime())
+        List<AvailableTimeDetailResponseDto.DateException> exceptions = availabilityExceptionRepository.findBySpaceIdOrderByDateAsc(spaceId).stream()
+                .map(exception -> AvailableTimeDetailResponseDto.DateException.builder()
+                        .date(exception.getDate())
+                        .startTime(exception.getStartTime())
+                        .endTime(exception.getEndTime())
+                        .closed(exception.isClosed())
                         .build())
                 .collect(Collectors.toList());
 
@@ -66,6 +113,8 @@ public class AvailableTimeService {
                 .spaceId(spaceId)
                 .editableTimeSlots(editableTimeSlots)
                 .nonEditableTimeSlots(nonEditableTimeSlots)
+                .weeklyRules(weeklyRules)
+                .exceptions(exceptions)
                 .build();
     }
 
@@ -90,6 +139,103 @@ public class AvailableTimeService {
         availableTimeRepository.saveAll(newAvailableTimes);
     }
 
+    // 요일 규칙과 날짜 예외를 교체한다. 날짜별 행 대신 규칙 몇 줄만 저장하고, 운영 시간은 조회 시점에 계산된다
+    @Transactional
+    public void updateWeeklyAvailability(Long spaceId, WeeklyAvailabilityUpdateRequestDto requestDto) {
+        User host = findUserFromToken();
+        Space space = findSpaceByIdAndValidateOwner(spaceId, host);
+        validateWeeklyAvailability(requestDto);
+
+        List<WeeklyAvailability> rules = requestDto.getWeeklyRules().stream()
+                .map(rule -> WeeklyAvailability.builder()
+                        .space(space)
+                        .dayMask(WeeklyAvailability.dayMaskOf(rule.getDaysOfWeek()))
+                        .startTime(rule.getStartTime())
+                        .endTime(rule.getEndTime())
+                        .validFrom(rule.getValidFrom())
+                        .validUntil(rule.getValidUntil())
+                        .build())
+                .collect(Collectors.toList());
+        List<AvailabilityException> exceptions = requestDto.getExceptions().stream()
+                .map(exception -> AvailabilityException.builder()
+                        .space(space)
+                        .date(exception.getDate())
+                        .startTime(exception.getStartTime())
+                        .endTime(exception.getEndTime())
+                        .build())
+                .collect(Collectors.toList());
+        validateReservedTimesStayOpen(spaceId, rules, exceptions);
+
+        weeklyAvailabilityRepository.deleteBySpaceId(spaceId);
+        availabilityExceptionRepository.deleteBySpaceId(spaceId);
+        weeklyAvailabilityRepository.saveAll(rules);
+        availabilityExceptionRepository.saveAll(exceptions);
+
+        // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 색인 창과 달력 캐시는 직접 갱신
+        AfterCommit.execute(() -> {
+            spaceAvailabilityWindow.refresh(spaceId);
+            availabilityCalendarCache.evictSpace(spaceId);
+        });
+    }
+
+    private void validateWeeklyAvailability(WeeklyAvailabilityUpdateRequestDto requestDto) {
+        for (WeeklyAvailabilityUpdateRequestDto.WeeklyRule rule : requestDto.getWeeklyRules()) {
+            if (!isValidTimeRange(rule.getStartTime(), rule.getEndTime())
+                    || (rule.getValidUntil() != null && rule.getValidUntil().isBefore(rule.getValidFrom()))) {
+                throw new InputInvalidFormatException(AvailableTimeErrorCode.INVALID_WEEKLY_SCHEDULE);
+            }
+        }
+
+        Set<LocalDate> exceptionDates = new HashSet<>();
+        for (WeeklyAvailabilityUpdateRequestDto.DateException exception : requestDto.getExceptions()) {
+            boolean closed = exception.getStartTime() == null && exception.getEndTime() == null;
+            if (!exceptionDates.add(exception.getDate())
+                    || (!closed && !isValidTimeRange(exception.getStartTime(), exception.getEndTime()))) {
+                throw new InputInvalidFormatException(AvailableTimeErrorCode.INVALID_WEEKLY_SCHEDULE);
+            }
+        }
+    }
+
+    // 지금 운영 시간 안에 잡힌 승인 대기·승인 예약 시간은 바뀐 규칙에서도 열려 있어야 한다
+    private void validateReservedTimesStayOpen(Long spaceId, List<WeeklyAvailability> rules,
+            List<AvailabilityException> exceptions) {
+        NavigableMap<LocalDate, Integer> reservedByDate = findReservedMasks(spaceId, LocalDate.now());
+        if (reservedByDate.isEmpty()) {
+            return;
+        }
+
+        LocalDate from = reservedByDate.firstKey();
+        LocalDate to = reservedByDate.lastKey();
+        OpenSchedule current = openHoursResolver.load(spaceId, from, to);
+        OpenSchedule next = openHoursResolver.preview(spaceId, rules, exceptions, from, to);
+        reservedByDate.forEach((date, reserved) -> {
+            if (!HourSlots.covers(next.openMask(date), reserved & current.openMask(date))) {
+                throw new MissMatch(AvailableTimeErrorCode.RESERVED_TIME_CLOSED);
+            }
+        });
+    }
+
+    // 승인 대기·승인된 예약이 차지한 시간을 날짜별 마스크로
+    private NavigableMap<LocalDate, Integer> findReservedMasks(Long spaceId, LocalDate from) {
+        NavigableMap<LocalDate, Integer> reservedByDate = new TreeMap<>();
+        for (TimeSlotRow row : reservationRepository.findSpaceTimeSlotsFrom(spaceId, from, ACTIVE_STATUSES)) {
+            reservedByDate.merge(row.getDate(), HourSlots.of(row.getStartTime(), row.getEndTime()),
+                    (mask, other) -> mask | other);
+        }
+
+        return reservedByDate;
+    }
+
+    // 정시 단위, 종료가 시작보다 뒤. 자정 종료(00:00)는 허용
+    private boolean isValidTimeRange(LocalTime startTime, LocalTime endTime) {
+        if (startTime == null || endTime == null
+                || startTime.getMinute() != 0 || endTime.getMinute() != 0) {
+            return false;
+        }
+
+        return endTime.isAfter(startTime) || endTime.equals(LocalTime.MIDNIGHT);
+    }
+
     private User findUserFromToken() {
         String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
 
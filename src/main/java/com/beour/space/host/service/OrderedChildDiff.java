@@ -0,0 +1,75 @@
+package com.beour.space.host.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import lombok.Getter;
+
+/**
+ * 공간의 현재 자식 행(태그, 이미지)과 요청한 값 목록의 차이.
+ * 요청 순서대로 같은 값의 기존 행을 앞에서부터 짝지어, 짝이 없는 기존 행은 삭제, 짝이 없는 값은 추가,
+ * 짝지어졌지만 순서가 바뀐 행은 순서만 고친다. 바뀌지 않은 행은 건드리지 않는다.
+ */
+@Getter
+final class OrderedChildDiff<T, V> {
+
+    private final List<T> removed = new ArrayList<>();
+    private final List<Added<V>> added = new ArrayList<>();
+    private final List<Moved<T>> moved = new ArrayList<>();
+
+    private OrderedChildDiff() {
+    }
+
+    // current 는 표시 순서대로
+    static <T, V> OrderedChildDiff<T, V> of(List<T> current, Function<T, V> valueOf,
+        ToIntFunction<T> orderOf, List<V> requested) {
+        Map<V, Deque<T>> remaining = new LinkedHashMap<>();
+        for (T child : current) {
+            remaining.computeIfAbsent(valueOf.apply(child), key -> new ArrayDeque<>()).add(child);
+        }
+
+        OrderedChildDiff<T, V> diff = new OrderedChildDiff<>();
+        for (int order = 0; order < requested.size(); order++) {
+            V value = requested.get(order);
+            Deque<T> candidates = remaining.get(value);
+            T child = candidates == null ? null : candidates.poll();
+            if (child == null) {
+                diff.added.add(new Added<>(value, order));
+            } else if (orderOf.applyAsInt(child) != order) {
+                diff.moved.add(new Moved<>(child, order));
+            }
+        }
+        remaining.values().forEach(diff.removed::addAll);
+
+        return diff;
+    }
+
+    @Getter
+    static final class Added<V> {
+
+        private final V value;
+        private final int order;
+
+        private Added(V value, int order) {
+            this.value = value;
+            this.order = order;
+        }
+    }
+
+    @Getter
+    static final class Moved<T> {
+
+        private final T child;
+        private final int order;
+
+        private Moved(T child, int order) {
+            this.child = child;
+            this.order = order;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.beour.space.host.service;
 
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.global.file.ImageUploader;
-import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.global.transaction.AfterCommit;
 import com.beour.space.domain.entity.*;
+import com.beour.space.domain.index.SpaceSearchIndex;
 import com.beour.space.domain.repository.*;
 import com.beour.space.host.dto.*;
 import com.beour.user.entity.User;
@@ -23,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,9 +37,9 @@ public class SpaceService {
     private final TagRepository tagRepository;
     private final SpaceImageRepository spaceImageRepository;
     private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
     private final KakaoMapService kakaoMapService;
     private final ImageUploader imageUploader;
+    private final SpaceSearchIndex spaceSearchIndex;
 
     @Transactional
     public Long registerSpace(SpaceRegisterRequestDto dto, MultipartFile thumbnailFile, List<MultipartFile> imageFiles) throws IOException {
@@ -80,9 +83,10 @@ public class SpaceService {
 
         // 3. Tags
         if (dto.getTags() != null && !dto.getTags().isEmpty()) {
-            List<Tag> tags = dto.getTags().stream()
-                    .map(content -> Tag.builder().space(space).contents(content).build())
-                    .toList();
+            List<Tag> tags = new ArrayList<>();
+            for (int order = 0; order < dto.getTags().size(); order++) {
+                tags.add(new Tag(space, dto.getTags().get(order), order));
+            }
             tagRepository.saveAll(tags);
         }
 
@@ -97,9 +101,10 @@ public class SpaceService {
             }
 
             if (!imageUrls.isEmpty()) {
-                List<SpaceImage> images = imageUrls.stream()
-                        .map(url -> SpaceImage.builder().space(space).imageUrl(url).build())
-                        .toList();
+                List<SpaceImage> images = new ArrayList<>();
+                for (int order = 0; order < imageUrls.size(); order++) {
+                    images.add(new SpaceImage(space, imageUrls.get(order), order));
+                }
                 spaceImageRepository.saveAll(images);
             }
         }
@@ -142,6 +147,8 @@ public class SpaceService {
                 .spaceCategory(space.getSpaceCategory().getDisplayName())
                 .useCategory(space.getUseCategory().getDisplayName())
                 .avgRating(space.getAvgRating())
+                .reviewCount(space.getRatingSummary().getReviewCount())
+                .starCounts(space.getRatingSummary().getStarCounts())
                 .thumbnailUrl(space.getThumbnailUrl())
                 .description(desc.getDescription())
                 .priceGuide(desc.getPriceGuide())
@@ -165,18 +172,15 @@ public class SpaceService {
         }
 
         List<HostMySpaceListResponseDto> spaces = spacePage.getContent().stream()
-                .map(space -> {
-                    long reviewCount = getReviewCountBySpaceId(space.getId());
-                    return HostMySpaceListResponseDto.of(
-                            space.getId(),
-                            space.getName(),
-                            extractDongFromAddress(space.getAddress()),
-                            space.getMaxCapacity(),
-                            space.getAvgRating(),
-                            reviewCount,
-                            space.getThumbnailUrl()
-                    );
-                })
+                .map(space -> HostMySpaceListResponseDto.of(
+                        space.getId(),
+                        space.getName(),
+                        extractDongFromAddress(space.getAddress()),
+                        space.getMaxCapacity(),
+                        space.getAvgRating(),
+                        space.getRatingSummary().getReviewCount(),
+                        space.getThumbnailUrl()
+                ))
                 .collect(Collectors.toList());
 
         return new HostMySpaceListPageResponseDto(
@@ -189,6 +193,9 @@ public class SpaceService {
     @Transactional
     public void updateSpace(Long spaceId, SpaceUpdateRequestDto dto, MultipartFile thumbnailFile, List<MultipartFile> imageFiles) throws IOException {
         Space space = findSpaceByIdAndCheckOwnership(spaceId);
+        if (dto.getImageUrls() != null) {
+            validateKeptImageUrls(space, dto.getImageUrls());
+        }
         double[] latitudeAndLongitude = kakaoMapService.getLatitudeAndLongitude(dto.getAddress());
 
         // 썸네일 이미지 업로드 (새 파일이 있는 경우에만)
@@ -211,37 +218,29 @@ public class SpaceService {
                 dto.getLocationDescription(), dto.getRefundPolicy()
         );
 
-        // 3. Tags 재저장
+        // 3. Tags - 바뀐 태그만 추가/삭제/순서 변경
         if (dto.getTags() != null) {
-            tagRepository.deleteBySpace(space);
-            if (!dto.getTags().isEmpty()) {
-                List<Tag> tags = dto.getTags().stream()
-                        .map(content -> Tag.builder().space(space).contents(content).build())
-                        .toList();
-                tagRepository.saveAll(tags);
-            }
+            applyTags(space, dto.getTags());
         }
 
-        // 4. Images 재저장 (새 파일들이 있는 경우에만)
-        if (imageFiles != null && !imageFiles.isEmpty()) {
-            // 기존 이미지들 삭제
-            spaceImageRepository.deleteBySpace(space);
-
-            // 새 이미지들 업로드 및 저장
+        // 4. Images - 유지할 기존 이미지(imageUrls) 뒤에 새 파일. 둘 다 없으면 그대로, imageUrls 없이 새 파일만 오면 전체 교체
+        if (dto.getImageUrls() != null || (imageFiles != null && !imageFiles.isEmpty())) {
             List<String> imageUrls = new ArrayList<>();
-            for (MultipartFile file : imageFiles) {
-                if (!file.isEmpty()) {
-                    String imageUrl = imageUploader.upload(file);
-                    imageUrls.add(imageUrl);
-                }
+            if (dto.getImageUrls() != null) {
+                imageUrls.addAll(dto.getImageUrls());
             }
 
-            if (!imageUrls.isEmpty()) {
-                List<SpaceImage> images = imageUrls.stream()
-                        .map(url -> SpaceImage.builder().space(space).imageUrl(url).build())
-                        .toList();
-                spaceImageRepository.saveAll(images);
+            // 새 이미지들 업로드
+            if (imageFiles != null) {
+                for (MultipartFile file : imageFiles) {
+                    if (!file.isEmpty()) {
+                        String imageUrl = imageUploader.upload(file);
+                        imageUrls.add(imageUrl);
+                    }
+                }
             }
+
+            applyImages(space, imageUrls);
         }
     }
 
@@ -281,13 +280,7 @@ public class SpaceService {
         Space space = findSpaceByIdAndCheckOwnership(id);
 
         if (dto.getTags() != null) {
-            tagRepository.deleteBySpace(space);
-            if (!dto.getTags().isEmpty()) {
-                List<Tag> newTags = dto.getTags().stream()
-                        .map(content -> new Tag(space, content))
-                        .toList();
-                tagRepository.saveAll(newTags);
-            }
+            applyTags(space, dto.getTags());
         }
     }
 
@@ -304,6 +297,50 @@ public class SpaceService {
         space.delete();
     }
 
+    // 삭제는 id 묶음 한 번의 벌크 DELETE. 엔티티 리스너를 거치지 않으므로 검색 색인에는 커밋 이후 직접 알린다
+    private void applyTags(Space space, List<String> contents) {
+        OrderedChildDiff<Tag, String> diff = OrderedChildDiff.of(
+                space.getTags(), Tag::getContents, Tag::getDisplayOrder, contents);
+
+        if (!diff.getRemoved().isEmpty()) {
+            Long spaceId = space.getId();
+            List<Long> removedIds = diff.getRemoved().stream().map(Tag::getId).toList();
+            tagRepository.deleteAllByIdInBatch(removedIds);
+            space.getTags().removeAll(diff.getRemoved());
+            AfterCommit.execute(() -> spaceSearchIndex.removeTags(spaceId, removedIds));
+        }
+        diff.getMoved().forEach(moved -> moved.getChild().updateDisplayOrder(moved.getOrder()));
+        tagRepository.saveAll(diff.getAdded().stream()
+                .map(added -> new Tag(space, added.getValue(), added.getOrder()))
+                .toList());
+    }
+
+    private void applyImages(Space space, List<String> imageUrls) {
+        OrderedChildDiff<SpaceImage, String> diff = OrderedChildDiff.of(
+                space.getSpaceImages(), SpaceImage::getImageUrl, SpaceImage::getDisplayOrder, imageUrls);
+
+        if (!diff.getRemoved().isEmpty()) {
+            spaceImageRepository.deleteAllByIdInBatch(
+                    diff.getRemoved().stream().map(SpaceImage::getId).toList());
+            space.getSpaceImages().removeAll(diff.getRemoved());
+        }
+        diff.getMoved().forEach(moved -> moved.getChild().updateDisplayOrder(moved.getOrder()));
+        spaceImageRepository.saveAll(diff.getAdded().stream()
+                .map(added -> new SpaceImage(space, added.getValue(), added.getOrder()))
+                .toList());
+    }
+
+    // 유지할 이미지는 이 공간에 이미 등록된 이미지여야 한다. 같은 URL 은 등록된 개수만큼만 유지할 수 있다
+    private void validateKeptImageUrls(Space space, List<String> imageUrls) {
+        Map<String, Long> remaining = space.getSpaceImages().stream()
+                .collect(Collectors.groupingBy(SpaceImage::getImageUrl, Collectors.counting()));
+        for (String imageUrl : imageUrls) {
+            if (imageUrl == null || remaining.merge(imageUrl, -1L, Long::sum) < 0) {
+                throw new InputInvalidFormatException(SpaceErrorCode.INVALID_IMAGE_URL);
+            }
+        }
+    }
+
     // 예: 서울시 강남구 역삼동 어딘가 123 -> 역삼동
     private String extractDongFromAddress(String address) {
         String[] parts = address.split(" ");
@@ -315,10 +352,6 @@ public class SpaceService {
         return address;
     }
 
-    private long getReviewCountBySpaceId(Long spaceId) {
-        return reviewRepository.countBySpaceIdAndDeletedAtIsNull(spaceId);
-    }
-
     private Space findSpaceByIdAndCheckOwnership(Long spaceId) {
         User currentUser = findUserFromToken();
         Space space = spaceRepository.findByIdAndDeletedAtIsNull(spaceId)
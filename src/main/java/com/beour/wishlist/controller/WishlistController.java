@@ -1,5 +1,6 @@
 package com.beour.wishlist.controller;
 
+import com.beour.global.pagination.CursorRequest;
 import com.beour.global.response.ApiResponse;
 import com.beour.space.guest.dto.SpaceListSpaceResponseDto;
 import com.beour.wishlist.dto.MakeWishlistResponseDto;
@@ -38,7 +39,14 @@ public class WishlistController {
     }
 
     @GetMapping("/api/likes")
-    public ApiResponse<WishListPageResponseDto> getWishlist(@PageableDefault(size = 10) Pageable pageable){
+    public ApiResponse<WishListPageResponseDto> getWishlist(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @PageableDefault(size = 10) Pageable pageable){
+        CursorRequest cursorRequest = CursorRequest.from(cursor, pageable);
+        if (cursorRequest != null) {
+            return ApiResponse.ok(wishlistService.getWishlist(cursorRequest));
+        }
+
         return ApiResponse.ok(wishlistService.getWishlist(pageable));
     }
 }
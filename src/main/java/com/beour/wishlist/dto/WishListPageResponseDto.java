@@ -1,6 +1,8 @@
 package com.beour.wishlist.dto;
 
 import com.beour.space.guest.dto.SpaceListSpaceResponseDto;
+import com.beour.global.pagination.CursorSlice;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,4 +13,15 @@ public class WishListPageResponseDto {
     private List<SpaceListSpaceResponseDto> spaces;
     private boolean isLast;
     private int totalPage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public WishListPageResponseDto(List<SpaceListSpaceResponseDto> spaces, boolean isLast, int totalPage) {
+        this(spaces, isLast, totalPage, null);
+    }
+
+    public static WishListPageResponseDto ofCursor(List<SpaceListSpaceResponseDto> spaces, CursorSlice<?> slice) {
+        return new WishListPageResponseDto(spaces, slice.isLast(), 0, slice.getNextCursor());
+    }
 }
@@ -1,11 +1,14 @@
 package com.beour.wishlist.repository;
 
 import com.beour.wishlist.entity.Like;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
     boolean existsByUserIdAndSpaceId(Long userId, Long spaceId);
@@ -21,5 +24,33 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     Page<Like> findByUserIdAndDeletedAtIsNull(Long userId, Pageable pageable);
 
+    @Query(value = """
+        SELECT l FROM Like l
+        JOIN FETCH l.space s
+        LEFT JOIN FETCH s.description
+        WHERE l.user.id = :userId AND l.deletedAt IS NULL
+        """,
+        countQuery = "SELECT COUNT(l) FROM Like l WHERE l.user.id = :userId AND l.deletedAt IS NULL")
+    Page<Like> findWishlistWithSpaceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 모드: 최근 찜한 순
+    @Query("""
+        SELECT l FROM Like l
+        JOIN FETCH l.space s
+        LEFT JOIN FETCH s.description
+        WHERE l.user.id = :userId AND l.deletedAt IS NULL
+        AND (:cursorId IS NULL OR l.id < :cursorId)
+        ORDER BY l.id DESC
+        """)
+    List<Like> findWishlistWithSpaceByUserIdAfter(@Param("userId") Long userId,
+        @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("""
+        SELECT l.space.id FROM Like l
+        WHERE l.user.id = :userId AND l.space.id IN :spaceIds AND l.deletedAt IS NULL
+        """)
+    List<Long> findLikedSpaceIds(@Param("userId") Long userId,
+        @Param("spaceIds") Collection<Long> spaceIds);
+
 }
 
@@ -7,7 +7,11 @@ import com.beour.global.exception.exceptionType.DuplicateLikesException;
 import com.beour.global.exception.exceptionType.LikesNotFoundException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
-import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.global.pagination.Cursor;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.global.pagination.CursorSlice;
+import com.beour.space.domain.card.SpaceCardAssembler;
+import com.beour.space.domain.card.SpaceCards;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.guest.dto.SpaceListSpaceResponseDto;
@@ -32,7 +36,7 @@ public class WishlistService {
     private final LikeRepository likeRepository;
     private final SpaceRepository spaceRepository;
     private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
+    private final SpaceCardAssembler spaceCardAssembler;
 
     @Transactional
     public Like addSpaceToWishList(Long spaceId) {
@@ -79,25 +83,40 @@ public class WishlistService {
 
     public WishListPageResponseDto getWishlist(Pageable pageable) {
         User user = findUserFromToken();
-        Page<Like> whisList = likeRepository.findByUserIdAndDeletedAtIsNull(user.getId(), pageable);
+        Page<Like> whisList = likeRepository.findWishlistWithSpaceByUserId(user.getId(), pageable);
 
         if (whisList.isEmpty()) {
             throw new LikesNotFoundException(WishListErrorCode.EMPTY_WISHLIST);
         }
 
-        List<SpaceListSpaceResponseDto> spaces = whisList.stream()
-            .map(like -> {
-                Space space = like.getSpace();
-                Long reviewCount = getReviewCountBySpaceId(space.getId());
-                return SpaceListSpaceResponseDto.of(space, true, reviewCount);
-            })
-            .collect(Collectors.toList());
+        List<SpaceListSpaceResponseDto> spaces = toSpaceResponses(whisList.getContent(), user);
 
         return new WishListPageResponseDto(spaces, whisList.isLast(), whisList.getTotalPages());
     }
 
-    private long getReviewCountBySpaceId(Long spaceId) {
-        return reviewRepository.countBySpaceIdAndDeletedAtIsNull(spaceId);
+    public WishListPageResponseDto getWishlist(CursorRequest cursorRequest) {
+        User user = findUserFromToken();
+        List<Like> fetched = likeRepository.findWishlistWithSpaceByUserIdAfter(user.getId(),
+            cursorRequest.cursorId(), cursorRequest.fetchPageable());
+        CursorSlice<Like> slice = CursorSlice.of(fetched, cursorRequest,
+            like -> Cursor.ofId(like.getId()));
+
+        if (slice.isEmpty()) {
+            throw new LikesNotFoundException(WishListErrorCode.EMPTY_WISHLIST);
+        }
+
+        return WishListPageResponseDto.ofCursor(toSpaceResponses(slice.getContent(), user), slice);
+    }
+
+    private List<SpaceListSpaceResponseDto> toSpaceResponses(List<Like> likes, User user) {
+        List<Long> spaceIds = likes.stream()
+            .map(like -> like.getSpace().getId())
+            .toList();
+        SpaceCards spaceCards = spaceCardAssembler.assemble(spaceIds, user);
+
+        return likes.stream()
+            .map(like -> SpaceListSpaceResponseDto.of(like.getSpace(), spaceCards))
+            .collect(Collectors.toList());
     }
 
     private User findUserFromToken() {
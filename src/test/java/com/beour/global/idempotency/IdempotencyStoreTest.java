@@ -0,0 +1,159 @@
+package com.beour.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.global.exception.exceptionType.MissMatch;
+import com.beour.global.exception.exceptionType.ServiceUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class IdempotencyStoreTest {
+
+    private static final Map<String, Object> BODY = Map.of("date", "2026-10-18", "guestCount", 2);
+
+    private IdempotencyStore store;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(new ObjectMapper(), 60, 5000);
+        calls = new AtomicInteger();
+        login("guest");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("멱등 키 - 같은 키의 재시도는 실행하지 않고 첫 응답을 돌려준다")
+    void replay_first_response() {
+        //when
+        Integer first = store.execute("reservation:1", "key-1", BODY, calls::incrementAndGet);
+        Integer retry = store.execute("reservation:1", "key-1", BODY, calls::incrementAndGet);
+
+        //then
+        assertThat(first).isEqualTo(1);
+        assertThat(retry).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멱등 키 - 키가 없거나 사용자, 범위가 다르면 따로 실행한다")
+    void separate_by_user_and_scope() {
+        //when
+        store.execute("reservation:1", null, BODY, calls::incrementAndGet);
+        store.execute("reservation:1", null, BODY, calls::incrementAndGet);
+        store.execute("reservation:1", "key-1", BODY, calls::incrementAndGet);
+        store.execute("reservation:2", "key-1", BODY, calls::incrementAndGet);
+        login("other");
+        store.execute("reservation:1", "key-1", BODY, calls::incrementAndGet);
+
+        //then
+        assertThat(calls.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("멱등 키 - 실패한 요청도 보관해 같은 키로 다시 실행하지 않는다")
+    void failure_is_pinned() {
+        //given
+        assertThrows(ServiceUnavailableException.class, () ->
+            store.execute("reservation:1", "key-1", BODY, () -> {
+                calls.incrementAndGet();
+                throw new ServiceUnavailableException(ReservationErrorCode.BOOKING_TIMEOUT);
+            }));
+
+        //when & then
+        assertThrows(ServiceUnavailableException.class, () ->
+            store.execute("reservation:1", "key-1", BODY, calls::incrementAndGet));
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멱등 키 - 같은 키로 다른 본문을 보내면 실행하지 않고 거절한다")
+    void reject_different_body() {
+        //given
+        store.execute("reservation:1", "key-1", BODY, calls::incrementAndGet);
+
+        //when & then
+        assertThrows(MissMatch.class, () ->
+            store.execute("reservation:1", "key-1", Map.of("date", "2026-10-19", "guestCount", 2),
+                calls::incrementAndGet));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멱등 키 - 처리 중인 같은 요청은 새로 실행하지 않고 결과를 기다린다")
+    void concurrent_duplicate_waits_for_in_flight() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        Future<Integer> first = executor.submit(() -> {
+            login("guest");
+            return store.execute("reservation:1", "key-1", BODY, () -> {
+                started.countDown();
+                release.await();
+                return calls.incrementAndGet();
+            });
+        });
+        started.await();
+        Future<Integer> duplicate = executor.submit(() -> {
+            login("guest");
+            return store.execute("reservation:1", "key-1", BODY, calls::incrementAndGet);
+        });
+        release.countDown();
+
+        //then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("멱등 키 - TTL 이 지나면 지워진다")
+    void expire_after_ttl() {
+        //given
+        IdempotencyStore shortLived = new IdempotencyStore(new ObjectMapper(), 0, 5000);
+        shortLived.execute("reservation:1", "key-1", BODY, calls::incrementAndGet);
+
+        //when
+        shortLived.expire();
+
+        //then
+        assertThat(shortLived.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("멱등 키 - 너무 긴 키")
+    void too_long_key() {
+        assertThrows(InputInvalidFormatException.class, () ->
+            store.execute("reservation:1", "k".repeat(101), BODY, calls::incrementAndGet));
+    }
+
+    private static void login(String loginId) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(loginId, null, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,193 @@
+package com.beour.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "outbox.batch-size=2")
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private RecordingHandler recordingHandler;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        recordingHandler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        recordingHandler.reset();
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 트랜잭션 밖에서는 기록할 수 없다")
+    void publish_requires_transaction() {
+        assertThrows(IllegalTransactionStateException.class, () ->
+            outboxPublisher.publish("TEST", 1L, "CREATED", Map.of("id", 1)));
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 롤백된 트랜잭션의 이벤트는 남지 않는다")
+    void rolled_back_event_is_discarded() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxPublisher.publish("TEST", 1L, "CREATED", Map.of("id", 1));
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 대상별로 기록된 순서대로 전달하고 전달 완료로 표시한다")
+    void dispatch_in_order() {
+        //given
+        publish(1L, "CREATED");
+        publish(2L, "CREATED");
+        publish(1L, "ACCEPTED");
+        double before = meterRegistry.get("outbox.dispatched").counter().count();
+
+        //when
+        outboxDispatcher.dispatchPending();
+
+        //then
+        assertThat(recordingHandler.handledTypes(1L)).containsExactly("CREATED", "ACCEPTED");
+        assertThat(recordingHandler.handledTypes(2L)).containsExactly("CREATED");
+        assertThat(outboxEventRepository.findAll())
+            .allMatch(event -> event.getStatus() == OutboxStatus.DISPATCHED);
+        assertThat(meterRegistry.get("outbox.dispatched").counter().count() - before).isEqualTo(3);
+        assertThat(meterRegistry.get("outbox.dispatch.lag").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 실패한 이벤트는 미뤄지고 같은 대상의 다음 이벤트도 기다린다")
+    void failure_blocks_same_aggregate_only() {
+        //given
+        recordingHandler.failFor(1L);
+        publish(1L, "CREATED");
+        publish(2L, "CREATED");
+        publish(1L, "ACCEPTED");
+
+        //when
+        outboxDispatcher.dispatchPending();
+
+        //then
+        List<OutboxEvent> events = outboxEventRepository.findAll(Sort.by("id"));
+        assertThat(events.get(0).getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(events.get(0).getAttempts()).isPositive();
+        assertThat(events.get(0).getNextAttemptAt()).isAfter(events.get(0).getCreatedAt());
+        assertThat(events.get(1).getStatus()).isEqualTo(OutboxStatus.DISPATCHED);
+        assertThat(events.get(2).getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(events.get(2).getAttempts()).isZero();
+        assertThat(recordingHandler.handledTypes(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 재시도를 기다리는 이벤트가 묶음 크기만큼 쌓여도 다른 대상의 이벤트는 전달된다")
+    void waiting_events_do_not_block_others() {
+        //given
+        recordingHandler.failFor(1L);
+        recordingHandler.failFor(2L);
+        publish(1L, "CREATED");
+        publish(2L, "CREATED");
+        publish(1L, "ACCEPTED");
+        publish(3L, "CREATED");
+
+        //when
+        int dispatched = outboxDispatcher.dispatchPending();
+
+        //then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(recordingHandler.handledTypes(3L)).containsExactly("CREATED");
+        assertThat(outboxEventRepository.findAll(Sort.by("id")).get(2).getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 재시도 간격은 두 배씩 늘고 상한을 넘지 않는다")
+    void backoff_doubles_up_to_max() {
+        assertThat(OutboxDispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(OutboxDispatcher.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(OutboxDispatcher.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private void publish(Long aggregateId, String eventType) {
+        transactionTemplate.executeWithoutResult(status ->
+            outboxPublisher.publish("TEST", aggregateId, eventType, Map.of("id", aggregateId)));
+    }
+
+    @TestConfiguration
+    static class HandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements OutboxEventHandler {
+
+        private final Map<Long, List<String>> handled = new ConcurrentHashMap<>();
+        private final Set<Long> failing = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean supports(String aggregateType, String eventType) {
+            return "TEST".equals(aggregateType);
+        }
+
+        @Override
+        public void handle(OutboxEvent event) {
+            if (failing.contains(event.getAggregateId())) {
+                throw new IllegalStateException("handler failure");
+            }
+            handled.computeIfAbsent(event.getAggregateId(), key -> new CopyOnWriteArrayList<>())
+                .add(event.getEventType());
+        }
+
+        List<String> handledTypes(Long aggregateId) {
+            return handled.getOrDefault(aggregateId, List.of());
+        }
+
+        void failFor(Long aggregateId) {
+            failing.add(aggregateId);
+        }
+
+        void reset() {
+            handled.clear();
+            failing.clear();
+        }
+    }
+}
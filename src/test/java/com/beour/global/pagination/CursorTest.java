@@ -0,0 +1,64 @@
+package com.beour.global.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 - 정렬 키와 id 복원")
+    void encode_and_decode() {
+        //given
+        LocalDateTime startAt = LocalDateTime.of(2025, 7, 1, 13, 0);
+
+        //when
+        Cursor decoded = Cursor.decode(Cursor.of(startAt, 42L).encode());
+
+        //then
+        assertThat(decoded.keyAsDateTime()).isEqualTo(startAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서 디코딩 - 잘못된 값")
+    void decode_invalid_cursor() {
+        //when then
+        assertThrows(InputInvalidFormatException.class, () -> Cursor.decode("not-a-cursor!"));
+        assertThrows(InputInvalidFormatException.class,
+            () -> Cursor.decode(Cursor.of("abc", 1L).encode()).keyAsInt());
+    }
+
+    @Test
+    @DisplayName("커서 요청 - cursor 파라미터가 없으면 기존 페이지 방식")
+    void cursor_request_only_when_cursor_param_present() {
+        //when then
+        assertThat(CursorRequest.from(null, PageRequest.of(0, 10))).isNull();
+        assertThat(CursorRequest.from("", PageRequest.of(0, 10)).isFirstPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 슬라이스 - 한 건 더 조회된 경우에만 다음 커서 생성")
+    void slice_next_cursor() {
+        //given
+        CursorRequest request = CursorRequest.from("", PageRequest.of(0, 2));
+
+        //when
+        CursorSlice<Long> hasNext = CursorSlice.of(List.of(5L, 4L, 3L), request, Cursor::ofId);
+        CursorSlice<Long> last = CursorSlice.of(List.of(2L, 1L), request, Cursor::ofId);
+
+        //then
+        assertThat(hasNext.getContent()).containsExactly(5L, 4L);
+        assertThat(hasNext.isLast()).isFalse();
+        assertThat(Cursor.decode(hasNext.getNextCursor()).getId()).isEqualTo(4L);
+
+        assertThat(last.isLast()).isTrue();
+        assertThat(last.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,243 @@
+package com.beour.reservation.commons.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.global.lease.SchedulerLeaseRepository;
+import com.beour.global.pagination.CursorRequest;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.ReservationSlot;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.guest.dto.ReservationListPageResponseDto;
+import com.beour.reservation.guest.dto.ReservationListResponseDto;
+import com.beour.reservation.guest.service.ReservationGuestService;
+import com.beour.review.domain.entity.Review;
+import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ReservationArchiverTest {
+
+    @Autowired
+    private ReservationArchiver reservationArchiver;
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+    @Autowired
+    private ArchivedReservationRepository archivedReservationRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User guest;
+    private User host;
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(User.builder()
+            .loginId("guest")
+            .password(passwordEncoder.encode("guestpassword!"))
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build());
+        host = userRepository.save(User.builder()
+            .loginId("host1")
+            .password(passwordEncoder.encode("host1password!"))
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build());
+
+        space = spaceRepository.save(Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(123.12)
+            .longitude(123.12)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build());
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(guest.getLoginId(), null,
+                Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        schedulerLeaseRepository.deleteAll();
+        archivedReservationRepository.deleteAll();
+        reviewRepository.deleteAll();
+        reservationSlotRepository.deleteAll();
+        reservationRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("예약 보관 - 보관 기간이 지난 완료·거절 예약만 옮기고 점유 행도 지운다")
+    void archive_old_completed_and_rejected() {
+        //given
+        Reservation oldCompleted = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(400));
+        Reservation oldRejected = save(ReservationStatus.REJECTED, LocalDate.now().minusDays(400));
+        Reservation recentCompleted = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(10));
+        reservationSlotRepository.saveAll(ReservationSlot.claimsOf(oldCompleted));
+
+        //when
+        int archived = reservationArchiver.archive(LocalDateTime.now());
+
+        //then
+        assertThat(archived).isEqualTo(2);
+        assertThat(reservationRepository.findById(oldCompleted.getId())).isEmpty();
+        assertThat(reservationRepository.findById(oldRejected.getId())).isEmpty();
+        assertThat(reservationRepository.findById(recentCompleted.getId())).isPresent();
+        assertThat(reservationSlotRepository.findByReservationId(oldCompleted.getId())).isEmpty();
+
+        ArchivedReservation copy = archivedReservationRepository.findById(oldCompleted.getId())
+            .orElseThrow();
+        assertThat(copy.getGuestId()).isEqualTo(guest.getId());
+        assertThat(copy.getSpaceId()).isEqualTo(space.getId());
+        assertThat(copy.getStatus()).isEqualTo(ReservationStatus.COMPLETED);
+        assertThat(copy.getStartAt()).isEqualTo(oldCompleted.getStartAt());
+    }
+
+    @Test
+    @DisplayName("예약 보관 - 리뷰가 달린 예약과 승인 상태 예약은 남긴다")
+    void keep_reviewed_and_accepted() {
+        //given
+        Reservation reviewed = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(400));
+        Reservation accepted = save(ReservationStatus.ACCEPTED, LocalDate.now().minusDays(400));
+        reviewRepository.save(Review.builder()
+            .guest(guest)
+            .space(space)
+            .reservation(reviewed)
+            .rating(5)
+            .content("좋아요")
+            .reservedDate(reviewed.getDate())
+            .build());
+
+        //when
+        int archived = reservationArchiver.archive(LocalDateTime.now());
+
+        //then
+        assertThat(archived).isZero();
+        assertThat(reservationRepository.findById(reviewed.getId())).isPresent();
+        assertThat(reservationRepository.findById(accepted.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("지난 예약 조회 - 커서 모드에서 보관된 예약이 최근 예약 뒤에 이어진다")
+    void past_cursor_list_continues_into_archive() {
+        //given
+        Reservation recent = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(3));
+        Reservation older = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(400));
+        Reservation oldest = save(ReservationStatus.REJECTED, LocalDate.now().minusDays(500));
+        reservationArchiver.archive(LocalDateTime.now());
+
+        //when
+        ReservationListPageResponseDto first = reservationGuestService.findPastReservationList(
+            CursorRequest.from("", Pageable.ofSize(2)));
+        ReservationListPageResponseDto second = reservationGuestService.findPastReservationList(
+            CursorRequest.from(first.getNextCursor(), Pageable.ofSize(2)));
+
+        //then
+        assertThat(ids(first.getReservations())).containsExactly(recent.getId(), older.getId());
+        assertThat(ids(second.getReservations())).containsExactly(oldest.getId());
+        assertThat(first.getReservations().get(1).getSpaceName()).isEqualTo("공간1");
+    }
+
+    @Test
+    @DisplayName("지난 예약 조회 - 페이지 모드에서 예약 테이블 다음 페이지부터 보관된 예약을 보여준다")
+    void past_page_list_continues_into_archive() {
+        //given
+        Reservation recent1 = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(2));
+        Reservation recent2 = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(3));
+        Reservation recent3 = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(4));
+        Reservation older = save(ReservationStatus.COMPLETED, LocalDate.now().minusDays(400));
+        Reservation oldest = save(ReservationStatus.REJECTED, LocalDate.now().minusDays(500));
+        reservationArchiver.archive(LocalDateTime.now());
+
+        //when
+        ReservationListPageResponseDto second = reservationGuestService.findPastReservationList(
+            PageRequest.of(1, 2));
+        ReservationListPageResponseDto third = reservationGuestService.findPastReservationList(
+            PageRequest.of(2, 2));
+
+        //then
+        assertThat(ids(second.getReservations())).hasSize(2).contains(older.getId());
+        assertThat(ids(third.getReservations())).containsExactly(oldest.getId());
+        assertThat(third.getTotalPage()).isEqualTo(3);
+        assertThat(third.isLast()).isTrue();
+    }
+
+    private Reservation save(ReservationStatus status, LocalDate date) {
+        return reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(status)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테스트")
+            .date(date)
+            .startTime(LocalTime.of(12, 0))
+            .endTime(LocalTime.of(14, 0))
+            .price(30000)
+            .guestCount(2)
+            .build());
+    }
+
+    private static List<Long> ids(List<ReservationListResponseDto> reservations) {
+        return reservations.stream()
+            .map(ReservationListResponseDto::getReservationId)
+            .toList();
+    }
+}
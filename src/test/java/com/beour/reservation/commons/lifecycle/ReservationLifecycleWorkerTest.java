@@ -0,0 +1,225 @@
+package com.beour.reservation.commons.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.beour.global.lease.SchedulerLease;
+import com.beour.global.lease.SchedulerLeaseRepository;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.ReservationSlot;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ReservationLifecycleWorkerTest {
+
+    @Autowired
+    private ReservationLifecycleWorker reservationLifecycleWorker;
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User guest;
+    private User host;
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(User.builder()
+            .loginId("guest")
+            .password(passwordEncoder.encode("guestpassword!"))
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build());
+        host = userRepository.save(User.builder()
+            .loginId("host1")
+            .password(passwordEncoder.encode("host1password!"))
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build());
+
+        space = spaceRepository.save(Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(123.12)
+            .longitude(123.12)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerLeaseRepository.deleteAll();
+        reservationSlotRepository.deleteAll();
+        reservationRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("예약 상태 정리 - 이용이 끝난 승인 예약만 완료로 바뀐다")
+    void complete_ended_accepted_reservations() {
+        //given
+        Reservation ended = save(ReservationStatus.ACCEPTED, LocalDate.now().minusDays(1), 12, 14);
+        Reservation upcoming = save(ReservationStatus.ACCEPTED, LocalDate.now().plusDays(1), 12, 14);
+        Reservation pendingPast = save(ReservationStatus.PENDING, LocalDate.now().minusDays(1), 15, 16);
+
+        //when
+        reservationLifecycleWorker.completeEndedReservations(LocalDateTime.now());
+
+        //then
+        assertEquals(ReservationStatus.COMPLETED, statusOf(ended));
+        assertEquals(ReservationStatus.ACCEPTED, statusOf(upcoming));
+        assertEquals(ReservationStatus.PENDING, statusOf(pendingPast));
+    }
+
+    @Test
+    @DisplayName("예약 상태 정리 - 자정에 끝나는 예약은 다음 날이 되어야 완료된다")
+    void complete_midnight_reservation_next_day() {
+        //given
+        LocalDate date = LocalDate.now();
+        Reservation untilMidnight = reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.ACCEPTED)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .date(date)
+            .startTime(LocalTime.of(22, 0))
+            .endTime(LocalTime.MIDNIGHT)
+            .price(30000)
+            .guestCount(2)
+            .build());
+
+        //when
+        reservationLifecycleWorker.completeEndedReservations(date.atTime(23, 30));
+
+        //then
+        assertEquals(ReservationStatus.ACCEPTED, statusOf(untilMidnight));
+
+        //when
+        reservationLifecycleWorker.completeEndedReservations(date.plusDays(1).atTime(0, 1));
+
+        //then
+        assertEquals(ReservationStatus.COMPLETED, statusOf(untilMidnight));
+    }
+
+    @Test
+    @DisplayName("예약 상태 정리 - 시작 시각이 지난 대기 예약은 거절되고 시간 칸이 풀린다")
+    void expire_started_pending_reservations() {
+        //given
+        Reservation started = save(ReservationStatus.PENDING, LocalDate.now().minusDays(1), 12, 14);
+        reservationSlotRepository.saveAll(ReservationSlot.claimsOf(started));
+        Reservation upcoming = save(ReservationStatus.PENDING, LocalDate.now().plusDays(1), 12, 14);
+        reservationSlotRepository.saveAll(ReservationSlot.claimsOf(upcoming));
+
+        //when
+        reservationLifecycleWorker.expireStartedPendingReservations(LocalDateTime.now());
+
+        //then
+        assertEquals(ReservationStatus.REJECTED, statusOf(started));
+        assertEquals(0, reservationSlotRepository.findByReservationId(started.getId()).size());
+        assertEquals(ReservationStatus.PENDING, statusOf(upcoming));
+        assertEquals(2, reservationSlotRepository.findByReservationId(upcoming.getId()).size());
+    }
+
+    @Test
+    @DisplayName("예약 상태 정리 - 다른 서버가 임대를 잡고 있으면 돌지 않는다")
+    void skip_when_lease_is_held_by_other_node() {
+        //given
+        Reservation ended = save(ReservationStatus.ACCEPTED, LocalDate.now().minusDays(1), 12, 14);
+        schedulerLeaseRepository.save(SchedulerLease.builder()
+            .name("reservation-lifecycle")
+            .owner("other-node")
+            .leasedUntil(LocalDateTime.now().plusMinutes(5))
+            .build());
+
+        //when
+        reservationLifecycleWorker.run();
+
+        //then
+        assertEquals(ReservationStatus.ACCEPTED, statusOf(ended));
+    }
+
+    @Test
+    @DisplayName("예약 상태 정리 - 임대가 만료됐으면 이어 받아 실행한다")
+    void take_over_expired_lease() {
+        //given
+        Reservation ended = save(ReservationStatus.ACCEPTED, LocalDate.now().minusDays(1), 12, 14);
+        schedulerLeaseRepository.save(SchedulerLease.builder()
+            .name("reservation-lifecycle")
+            .owner("other-node")
+            .leasedUntil(LocalDateTime.now().minusMinutes(1))
+            .build());
+
+        //when
+        reservationLifecycleWorker.run();
+
+        //then
+        assertEquals(ReservationStatus.COMPLETED, statusOf(ended));
+    }
+
+    private Reservation save(ReservationStatus status, LocalDate date, int startHour,
+        int endHour) {
+        return reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(status)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테스트")
+            .date(date)
+            .startTime(LocalTime.of(startHour, 0))
+            .endTime(LocalTime.of(endHour, 0))
+            .price(15000 * (endHour - startHour))
+            .guestCount(2)
+            .build());
+    }
+
+    private ReservationStatus statusOf(Reservation reservation) {
+        return reservationRepository.findById(reservation.getId()).orElseThrow().getStatus();
+    }
+}
@@ -14,6 +14,7 @@ import com.beour.space.domain.enums.UseCategory;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -220,6 +221,43 @@ class ReservationRepositoryTest {
         assertEquals(reservation.getStatus(), result.get(0).getStatus());
     }
 
+    @Test
+    @Transactional
+    void findActiveBySpaceIdAndDate_test() {
+        //given
+        Reservation reservation = reservationAt(ReservationStatus.PENDING, 12, 14);
+        reservationRepository.save(reservation);
+        reservationRepository.save(reservationAt(ReservationStatus.REJECTED, 14, 15));
+        Reservation deleted = reservationAt(ReservationStatus.ACCEPTED, 15, 17);
+        reservationRepository.save(deleted);
+        deleted.softDelete();
+
+        //when
+        List<Reservation> result = reservationRepository.findActiveBySpaceIdAndDate(
+            space.getId(), LocalDate.now().plusDays(1));
+
+        //then
+        assertEquals(1, result.size());
+        assertEquals(reservation.getStartTime(), result.get(0).getStartTime());
+        assertEquals(reservation.getEndTime(), result.get(0).getEndTime());
+    }
+
+    private Reservation reservationAt(ReservationStatus status, int startHour, int endHour) {
+        return Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(status)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(LocalDate.now().plusDays(1))
+            .startTime(LocalTime.of(startHour, 0, 0))
+            .endTime(LocalTime.of(endHour, 0, 0))
+            .price(15000)
+            .guestCount(2)
+            .build();
+    }
+
     @Test
     void findUpcomingReservationsByGuest_test() {
         //given
@@ -256,7 +294,7 @@ class ReservationRepositoryTest {
 
         //when
         Page<Reservation> result = reservationRepository.findUpcomingReservationsByGuest(
-            guest.getId(), LocalDate.now(), LocalTime.now(), Pageable.ofSize(20));
+            guest.getId(), LocalDateTime.now(), Pageable.ofSize(20));
 
         //then
         assertEquals(2, result.getContent().size());
@@ -305,8 +343,8 @@ class ReservationRepositoryTest {
         reservationRepository.save(reservation2);
 
         //when
-        Page<Reservation> result = reservationRepository.findPastReservationsByGuest(
-            guest.getId(), LocalDate.now(), LocalTime.now(), Pageable.ofSize(20));
+        Page<PastReservationRow> result = reservationRepository.findPastReservationsByGuest(
+            guest.getId(), LocalDateTime.now(), Pageable.ofSize(20));
 
         //then
         assertEquals(1, result.getContent().size());
@@ -316,4 +354,34 @@ class ReservationRepositoryTest {
         assertEquals(reservation.getStatus(), result.getContent().get(0).getStatus());
     }
 
-}
\ No newline at end of file
+    @Test
+    void findReservationsByGuest_midnight_end_is_upcoming_until_next_day() {
+        //given
+        Reservation reservation = Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.ACCEPTED)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(LocalDate.now())
+            .startTime(LocalTime.of(22, 0, 0))
+            .endTime(LocalTime.MIDNIGHT)
+            .price(30000)
+            .guestCount(2)
+            .build();
+        reservationRepository.save(reservation);
+        LocalDateTime lateNight = LocalDate.now().atTime(23, 30);
+
+        //when
+        Page<Reservation> upcoming = reservationRepository.findUpcomingReservationsByGuest(
+            guest.getId(), lateNight, Pageable.ofSize(20));
+        Page<PastReservationRow> past = reservationRepository.findPastReservationsByGuest(
+            guest.getId(), lateNight, Pageable.ofSize(20));
+
+        //then
+        assertEquals(LocalDate.now().plusDays(1).atStartOfDay(), reservation.getEndAt());
+        assertEquals(1, upcoming.getContent().size());
+        assertEquals(0, past.getContent().size());
+    }
+}
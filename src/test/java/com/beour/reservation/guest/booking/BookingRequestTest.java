@@ -0,0 +1,51 @@
+package com.beour.reservation.guest.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.exceptionType.ServiceUnavailableException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BookingRequestTest {
+
+    @Test
+    @DisplayName("제한 시간 안에 처리되지 않으면 503 으로 실패하고 레인은 그 요청을 건너뛴다")
+    void await_timeout() {
+        //given
+        BookingRequest booking = new BookingRequest(1L, null, null, null);
+
+        //when & then
+        assertThatThrownBy(() -> booking.await(10))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .hasMessage(ReservationErrorCode.BOOKING_TIMEOUT.getMessage());
+        assertThat(booking.claim()).isFalse();
+    }
+
+    @Test
+    @DisplayName("레인이 차지한 요청은 제한 시간이 지나도 결과가 나올 때까지 기다린다")
+    void await_claimed() {
+        //given
+        BookingRequest booking = new BookingRequest(1L, null, null, null);
+        assertThat(booking.claim()).isTrue();
+        CompletableFuture.runAsync(() -> booking.complete(7L),
+            CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        //when & then
+        assertThat(booking.await(10).getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("포기하기 전에 처리된 요청은 결과를 돌려준다")
+    void await_completed() {
+        //given
+        BookingRequest booking = new BookingRequest(1L, null, null, null);
+        booking.complete(7L);
+
+        //when & then
+        assertThat(booking.await(10).getId()).isEqualTo(7L);
+    }
+}
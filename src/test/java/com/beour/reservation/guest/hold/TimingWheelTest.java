@@ -0,0 +1,68 @@
+package com.beour.reservation.guest.hold;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.reservation.guest.hold.TimingWheel.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("타이밍 휠 - deadline 이 지난 tick 에서만 꺼낸다")
+    void advance_expires_after_deadline() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        wheel.schedule("a", 2500);
+        wheel.schedule("b", 5000);
+
+        //when then
+        assertThat(wheel.advance(2999)).isEmpty();
+        assertThat(wheel.advance(3000)).containsExactly("a");
+        assertThat(wheel.advance(5000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 - 한 바퀴보다 먼 만료는 바퀴가 돌아도 남아 있다")
+    void advance_keeps_items_beyond_one_round() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 4, 0);
+        wheel.schedule("far", 10_000);
+
+        //when then
+        assertThat(wheel.advance(6000)).isEmpty();
+        assertThat(wheel.advance(9000)).isEmpty();
+        assertThat(wheel.advance(10_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 - 오래 멈췄다가 돌아도 지난 항목을 모두 꺼낸다")
+    void advance_after_long_pause() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 4, 0);
+        wheel.schedule("a", 1000);
+        wheel.schedule("b", 3000);
+        wheel.schedule("c", 7000);
+        wheel.schedule("d", 30_000);
+
+        //when then
+        assertThat(wheel.advance(20_000)).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 - 취소한 항목은 만료되지 않는다")
+    void cancel() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        Timeout<String> timeout = wheel.schedule("a", 2000);
+
+        //when
+        wheel.cancel(timeout);
+
+        //then
+        assertThat(wheel.advance(5000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}
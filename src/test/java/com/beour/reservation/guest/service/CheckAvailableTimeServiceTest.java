@@ -6,21 +6,31 @@ import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
 import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
 import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.guest.dto.AvailabilityCalendarResponseDto;
+import com.beour.reservation.guest.dto.AvailabilityCalendarResponseDto.DayAvailability;
 import com.beour.reservation.guest.dto.SpaceAvailableTimeResponseDto;
+import com.beour.space.domain.entity.AvailabilityException;
 import com.beour.space.domain.entity.AvailableTime;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.WeeklyAvailability;
+import com.beour.space.domain.repository.AvailabilityExceptionRepository;
 import com.beour.space.domain.repository.AvailableTimeRepository;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.domain.repository.TagRepository;
+import com.beour.space.domain.repository.WeeklyAvailabilityRepository;
+import com.beour.space.domain.slot.HourSlots;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +61,10 @@ class CheckAvailableTimeServiceTest {
     private AvailableTimeRepository availableTimeRepository;
     @Autowired
     private ReservationRepository reservationRepository;
+    @Autowired
+    private WeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    @Autowired
+    private AvailabilityExceptionRepository availabilityExceptionRepository;
 
     private User guest;
     private User host;
@@ -138,6 +152,8 @@ class CheckAvailableTimeServiceTest {
     void tearDown() {
         SecurityContextHolder.clearContext();
         tagRepository.deleteAll();
+        availabilityExceptionRepository.deleteAll();
+        weeklyAvailabilityRepository.deleteAll();
         availableTimeRepository.deleteAll();
         reservationRepository.deleteAll();
         spaceRepository.deleteAll();
@@ -148,27 +164,66 @@ class CheckAvailableTimeServiceTest {
     @DisplayName("시간, 날짜 유효성 조회 - 과거 날짜로 조회")
     void past_date_checkReservationAvailableDateAndGetAvailableTime(){
         //when  //then
-        assertThrows(AvailableTimeNotFound.class, () -> checkAvailableTimeService.checkReservationAvailableDateAndGetAvailableTime(space.getId(), LocalDate.now().minusDays(1)));
+        assertThrows(AvailableTimeNotFound.class, () -> checkAvailableTimeService.checkReservationAvailableDateAndGetOpenMask(space.getId(), LocalDate.now().minusDays(1)));
     }
 
     @Test
     @DisplayName("시간, 날짜 유효성 조회 - 가능한 시간 없을 경우")
     void non_existent_available_time_checkReservationAvailableDateAndGetAvailableTime(){
         //when  //then
-        assertThrows(AvailableTimeNotFound.class, () -> checkAvailableTimeService.checkReservationAvailableDateAndGetAvailableTime(space.getId(), LocalDate.now().plusDays(2)));
+        assertThrows(AvailableTimeNotFound.class, () -> checkAvailableTimeService.checkReservationAvailableDateAndGetOpenMask(space.getId(), LocalDate.now().plusDays(2)));
     }
 
     @Test
     @DisplayName("시간, 날짜 유효성 조회 - 시간 있을 경우")
     void exist_available_time_checkReservationAvailableDateAndGetAvailableTime(){
         //when
-        AvailableTime availableTime = checkAvailableTimeService.checkReservationAvailableDateAndGetAvailableTime(space.getId(), LocalDate.now().plusDays(1));
+        int open = checkAvailableTimeService.checkReservationAvailableDateAndGetOpenMask(space.getId(), LocalDate.now().plusDays(1));
+
+        //then
+        assertEquals(HourSlots.of(availableTimeNext.getStartTime(), availableTimeNext.getEndTime()), open);
+    }
+
+    @Test
+    @DisplayName("예약 가능한 시간 조회 - 요일 규칙으로 연 날짜와 날짜 예외")
+    void find_available_time_with_weekly_rule_and_exceptions(){
+        //given
+        LocalDate from = LocalDate.now().plusDays(2);
+        weeklyAvailabilityRepository.save(WeeklyAvailability.builder()
+            .space(space)
+            .dayMask(WeeklyAvailability.dayMaskOf(EnumSet.allOf(DayOfWeek.class)))
+            .startTime(LocalTime.of(10, 0, 0))
+            .endTime(LocalTime.of(18, 0, 0))
+            .validFrom(from)
+            .build());
+        availabilityExceptionRepository.save(AvailabilityException.builder()
+            .space(space)
+            .date(from.plusDays(1))
+            .build());
+        availabilityExceptionRepository.save(AvailabilityException.builder()
+            .space(space)
+            .date(from.plusDays(2))
+            .startTime(LocalTime.of(14, 0, 0))
+            .endTime(LocalTime.of(16, 0, 0))
+            .build());
+
+        //when
+        SpaceAvailableTimeResponseDto regular = checkAvailableTimeService.findAvailableTime(space.getId(), from);
+        SpaceAvailableTimeResponseDto shortened = checkAvailableTimeService.findAvailableTime(space.getId(), from.plusDays(2));
+        AvailabilityCalendarResponseDto calendar = checkAvailableTimeService.findAvailabilityCalendar(
+            space.getId(), from, from.plusDays(3));
 
         //then
-        assertEquals(availableTimeNext.getSpace().getId(), availableTime.getSpace().getId());
-        assertEquals(availableTimeNext.getDate(), availableTime.getDate());
-        assertEquals(availableTimeNext.getStartTime(), availableTime.getStartTime());
-        assertEquals(availableTimeNext.getEndTime(), availableTime.getEndTime());
+        assertEquals(8, regular.getTimeList().size());
+        assertEquals(LocalTime.of(10, 0, 0), regular.getTimeList().get(0));
+        assertThrows(AvailableTimeNotFound.class, () -> checkAvailableTimeService.findAvailableTime(space.getId(), from.plusDays(1)));
+        assertEquals(List.of(LocalTime.of(14, 0, 0), LocalTime.of(15, 0, 0)), shortened.getTimeList());
+
+        List<DayAvailability> days = calendar.getDays();
+        assertTrue(days.get(0).isOpen());
+        assertFalse(days.get(1).isOpen());
+        assertEquals(2, days.get(2).getFreeHourCount());
+        assertEquals(8, days.get(3).getFreeHourCount());
     }
 
     @Test
@@ -268,4 +323,55 @@ class CheckAvailableTimeServiceTest {
         assertEquals(expectedHours.size(), result.getTimeList().size());
         assertIterableEquals(expectedHours, result.getTimeList());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("예약 가능 달력 조회 - 날짜별 요약과 예약 후 갱신")
+    void get_availability_calendar(){
+        //given
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        AvailabilityCalendarResponseDto before = checkAvailableTimeService.findAvailabilityCalendar(
+            space.getId(), LocalDate.now().minusDays(1), tomorrow.plusDays(1));
+
+        Reservation reservation = Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.PENDING)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(tomorrow)
+            .startTime(LocalTime.of(1, 0, 0))
+            .endTime(LocalTime.of(3, 0, 0))
+            .price(30000)
+            .guestCount(2)
+            .build();
+        reservationRepository.save(reservation);
+
+        //when
+        AvailabilityCalendarResponseDto after = checkAvailableTimeService.findAvailabilityCalendar(
+            space.getId(), tomorrow, tomorrow);
+
+        //then
+        List<DayAvailability> days = before.getDays();
+        assertEquals(4, days.size());
+        assertFalse(days.get(0).isOpen());
+        assertTrue(days.get(2).isOpen());
+        assertEquals(22, days.get(2).getFreeHourCount());
+        assertEquals(LocalTime.of(1, 0, 0), days.get(2).getFirstFreeTime());
+        assertFalse(days.get(3).isOpen());
+        assertNull(days.get(3).getFirstFreeTime());
+
+        assertEquals(20, after.getDays().get(0).getFreeHourCount());
+        assertEquals(LocalTime.of(3, 0, 0), after.getDays().get(0).getFirstFreeTime());
+    }
+
+    @Test
+    @DisplayName("예약 가능 달력 조회 - 잘못된 기간")
+    void get_availability_calendar_invalid_range(){
+        //when  //then
+        assertThrows(InputInvalidFormatException.class, () -> checkAvailableTimeService.findAvailabilityCalendar(
+            space.getId(), LocalDate.now().plusDays(1), LocalDate.now()));
+        assertThrows(InputInvalidFormatException.class, () -> checkAvailableTimeService.findAvailabilityCalendar(
+            space.getId(), LocalDate.now(), LocalDate.now().plusYears(1)));
+    }
+}
@@ -0,0 +1,190 @@
+package com.beour.reservation.guest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.global.pagination.CursorRequest;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.guest.dto.ReservationListPageResponseDto;
+import com.beour.reservation.guest.dto.ReservationListResponseDto;
+import com.beour.review.domain.entity.Review;
+import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class PastReservationQueryTest {
+
+    private static final int SPACE_COUNT = 3;
+    private static final int RESERVATIONS_PER_SPACE = 4;
+
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Map<Long, Long> reviewIdByReservationId = new HashMap<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User guest = userRepository.save(User.builder()
+            .loginId("guest")
+            .password(passwordEncoder.encode("guestpassword!"))
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build());
+        User host = userRepository.save(User.builder()
+            .loginId("host1")
+            .password(passwordEncoder.encode("host1password!"))
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build());
+
+        for (int i = 0; i < SPACE_COUNT; i++) {
+            Space space = spaceRepository.save(Space.builder()
+                .host(host)
+                .name("공간" + i)
+                .spaceCategory(SpaceCategory.COOKING)
+                .useCategory(UseCategory.COOKING)
+                .maxCapacity(3)
+                .address("서울시 강남구")
+                .detailAddress("투썸건물 2층")
+                .pricePerHour(15000)
+                .thumbnailUrl("https://example.img")
+                .latitude(123.12)
+                .longitude(123.12)
+                .avgRating(0.0)
+                .availableTimes(new ArrayList<>())
+                .build());
+
+            for (int j = 0; j < RESERVATIONS_PER_SPACE; j++) {
+                Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .guest(guest)
+                    .host(host)
+                    .space(space)
+                    .status(ReservationStatus.COMPLETED)
+                    .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+                    .requestMessage("테스트")
+                    .date(LocalDate.now().minusDays(j + 1))
+                    .startTime(LocalTime.of(10 + i, 0))
+                    .endTime(LocalTime.of(11 + i, 0))
+                    .price(15000)
+                    .guestCount(2)
+                    .build());
+
+                // 절반만 리뷰 작성
+                if (j % 2 == 0) {
+                    Review review = reviewRepository.save(Review.builder()
+                        .guest(guest)
+                        .space(space)
+                        .reservation(reservation)
+                        .rating(5)
+                        .content("좋아요")
+                        .reservedDate(reservation.getDate())
+                        .build());
+                    reviewIdByReservationId.put(reservation.getId(), review.getId());
+                }
+            }
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(guest.getLoginId(), null,
+                Collections.emptyList()));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        SecurityContextHolder.clearContext();
+        reviewRepository.deleteAll();
+        reservationRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("지난 예약 조회 - 행 수와 관계없이 사용자 조회와 목록 조회 두 번의 쿼리로 끝난다")
+    void past_reservation_list_query_count() {
+        //when
+        ReservationListPageResponseDto result = reservationGuestService.findPastReservationList(
+            Pageable.ofSize(20));
+
+        //then
+        assertThat(result.getReservations()).hasSize(SPACE_COUNT * RESERVATIONS_PER_SPACE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertReviewIds(result.getReservations());
+    }
+
+    @Test
+    @DisplayName("지난 예약 조회 - 커서 모드도 두 번의 쿼리로 끝난다")
+    void past_reservation_cursor_query_count() {
+        //when
+        ReservationListPageResponseDto result = reservationGuestService.findPastReservationList(
+            CursorRequest.from("", Pageable.ofSize(5)));
+
+        //then
+        assertThat(result.getReservations()).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertReviewIds(result.getReservations());
+    }
+
+    private void assertReviewIds(List<ReservationListResponseDto> reservations) {
+        Map<Long, Long> actual = reservations.stream()
+            .collect(Collectors.toMap(ReservationListResponseDto::getReservationId,
+                ReservationListResponseDto::getReviewId));
+        for (Map.Entry<Long, Long> entry : actual.entrySet()) {
+            assertThat(entry.getValue())
+                .isEqualTo(reviewIdByReservationId.getOrDefault(entry.getKey(), 0L));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.beour.reservation.guest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.beour.global.exception.exceptionType.MissMatch;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.guest.dto.ReservationCreateRequest;
+import com.beour.space.domain.entity.AvailableTime;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private AvailableTimeRepository availableTimeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    private User guest;
+    private User host;
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        guest = User.builder()
+            .loginId("guest")
+            .password(passwordEncoder.encode("guestpassword!"))
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build();
+        userRepository.save(guest);
+
+        host = User.builder()
+            .loginId("host1")
+            .password(passwordEncoder.encode("host1password!"))
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        space = Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(123.12)
+            .longitude(123.12)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+        spaceRepository.save(space);
+
+        availableTimeRepository.save(AvailableTime.builder()
+            .space(space)
+            .date(LocalDate.now().plusDays(1))
+            .startTime(LocalTime.of(1, 0, 0))
+            .endTime(LocalTime.of(23, 0, 0))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        reservationSlotRepository.deleteAll();
+        availableTimeRepository.deleteAll();
+        reservationRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 예약 - 겹치는 시간으로 동시에 예약하면 하나만 성공")
+    void concurrent_overlapping_reservations() throws InterruptedException {
+        //given
+        LocalDate date = LocalDate.now().plusDays(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            // 14~16시, 15~17시를 번갈아 요청해 한 칸만 겹치는 경우도 포함
+            int startHour = 14 + i % 2;
+            executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(guest.getLoginId(), null,
+                        Collections.emptyList()));
+                ReservationCreateRequest request = new ReservationCreateRequest(date,
+                    LocalTime.of(startHour, 0, 0), LocalTime.of(startHour + 2, 0, 0), 30000, 2,
+                    UsagePurpose.BARISTA_TRAINING, "동시 예약");
+                ready.countDown();
+                try {
+                    start.await();
+                    reservationGuestService.createReservation(space.getId(), request);
+                    succeeded.incrementAndGet();
+                } catch (MissMatch e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        //then
+        List<Reservation> reservations = reservationRepository.findBySpaceIdAndDateAndStatusNot(
+            space.getId(), date, ReservationStatus.REJECTED);
+        assertEquals(1, succeeded.get());
+        assertEquals(THREAD_COUNT - 1, rejected.get());
+        assertEquals(1, reservations.size());
+        assertEquals(2, reservationSlotRepository.findByReservationId(reservations.get(0).getId()).size());
+    }
+
+    @Test
+    @DisplayName("동시 예약 - 서로 겹치지 않는 시간은 동시에 들어와도 모두 성공")
+    void concurrent_non_overlapping_reservations() throws InterruptedException {
+        //given
+        LocalDate date = LocalDate.now().plusDays(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int startHour = 2 + i;
+            executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(guest.getLoginId(), null,
+                        Collections.emptyList()));
+                ReservationCreateRequest request = new ReservationCreateRequest(date,
+                    LocalTime.of(startHour, 0, 0), LocalTime.of(startHour + 1, 0, 0), 15000, 2,
+                    UsagePurpose.BARISTA_TRAINING, "동시 예약");
+                try {
+                    start.await();
+                    reservationGuestService.createReservation(space.getId(), request);
+                    succeeded.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        //then
+        assertEquals(THREAD_COUNT, succeeded.get());
+        assertEquals(THREAD_COUNT, reservationRepository.findBySpaceIdAndDateAndStatusNot(
+            space.getId(), date, ReservationStatus.REJECTED).size());
+    }
+
+    @Test
+    @DisplayName("동시 예약 - 취소하면 점유한 칸이 풀려 같은 시간을 다시 예약할 수 있다")
+    void cancel_releases_slots() {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(guest.getLoginId(), null, Collections.emptyList()));
+        ReservationCreateRequest request = new ReservationCreateRequest(LocalDate.now().plusDays(1),
+            LocalTime.of(14, 0, 0), LocalTime.of(16, 0, 0), 30000, 2,
+            UsagePurpose.BARISTA_TRAINING, "취소 후 재예약");
+        Long reservationId = reservationGuestService.createReservation(space.getId(), request).getId();
+
+        //when
+        reservationGuestService.cancelReservation(reservationId);
+        Long rebookedId = reservationGuestService.createReservation(space.getId(), request).getId();
+
+        //then
+        assertEquals(0, reservationSlotRepository.findByReservationId(reservationId).size());
+        assertEquals(2, reservationSlotRepository.findByReservationId(rebookedId).size());
+    }
+}
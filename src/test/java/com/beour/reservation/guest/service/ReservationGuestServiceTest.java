@@ -7,9 +7,11 @@ import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.lifecycle.ReservationLifecycleWorker;
 import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
 import com.beour.global.exception.exceptionType.MissMatch;
 import com.beour.global.exception.exceptionType.ReservationNotFound;
+import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.reservation.commons.repository.ReservationRepository;
 import com.beour.reservation.guest.dto.ReservationCreateRequest;
 import com.beour.reservation.guest.dto.ReservationListPageResponseDto;
@@ -55,6 +57,8 @@ class ReservationGuestServiceTest {
     private AvailableTimeRepository availableTimeRepository;
     @Autowired
     private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationLifecycleWorker reservationLifecycleWorker;
 
     private User guest;
     private User host;
@@ -221,6 +225,33 @@ class ReservationGuestServiceTest {
             () -> reservationGuestService.createReservation(space.getId(), request));
     }
 
+    @Test
+    @DisplayName("공간 예약 - 시작 시간은 비어 있지만 뒤쪽 시간이 다른 예약과 겹침")
+    void create_reservation_overlap_later_hour() {
+        //given
+        Reservation reservation = Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.PENDING)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(LocalDate.now().plusDays(1))
+            .startTime(LocalTime.of(16, 0, 0))
+            .endTime(LocalTime.of(18, 0, 0))
+            .price(30000)
+            .guestCount(2)
+            .build();
+        reservationRepository.save(reservation);
+
+        ReservationCreateRequest request = new ReservationCreateRequest(LocalDate.now().plusDays(1), LocalTime.of(14, 0, 0), LocalTime.of(17, 0, 0), 45000, 2,
+            UsagePurpose.BARISTA_TRAINING, "테슽뚜");
+
+        //when  then
+        assertThrows(MissMatch.class,
+            () -> reservationGuestService.createReservation(space.getId(), request));
+    }
+
     @Test
     @DisplayName("공간 예약 - 없는 공간")
     void create_reservation_with_non_existent_space() {
@@ -350,7 +381,7 @@ class ReservationGuestServiceTest {
     }
 
     @Test
-    @DisplayName("지난 예약 조회 - 시간 지나면 예약 사용 완료 상태로 변경")
+    @DisplayName("지난 예약 조회 - 상태 정리 작업이 이용 끝난 예약을 사용 완료 상태로 변경")
     void get_past_reservation_list_change_status() {
         //given
         Reservation reservationPast = Reservation.builder()
@@ -383,6 +414,7 @@ class ReservationGuestServiceTest {
         reservationRepository.save(reservationFuture);
 
         //when
+        reservationLifecycleWorker.run();
         ReservationListPageResponseDto result = reservationGuestService.findPastReservationList(Pageable.ofSize(20));
 
         //then
@@ -477,4 +509,30 @@ class ReservationGuestServiceTest {
         assertEquals(ReservationStatus.REJECTED, reservationFuture.getStatus());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("예약 취소 - 다른 사람의 예약은 취소할 수 없다")
+    void cancel_reservation_of_other_guest() {
+        //given
+        Reservation othersReservation = Reservation.builder()
+            .guest(host)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.PENDING)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(LocalDate.now().plusDays(1))
+            .startTime(LocalTime.of(15, 0, 0))
+            .endTime(LocalTime.of(16, 0, 0))
+            .price(15000)
+            .guestCount(2)
+            .build();
+        reservationRepository.save(othersReservation);
+
+        //when  //then
+        assertThrows(UnauthorityException.class,
+            () -> reservationGuestService.cancelReservation(othersReservation.getId()));
+        assertEquals(ReservationStatus.PENDING,
+            reservationRepository.findById(othersReservation.getId()).get().getStatus());
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.beour.reservation.guest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
+import com.beour.global.exception.exceptionType.MissMatch;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.guest.dto.ReservationCreateRequest;
+import com.beour.reservation.guest.dto.SlotHoldRequest;
+import com.beour.reservation.guest.dto.SlotHoldResponseDto;
+import com.beour.reservation.guest.hold.SlotHoldStore;
+import com.beour.space.domain.entity.AvailableTime;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class SlotHoldServiceTest {
+
+    @Autowired
+    private SlotHoldService slotHoldService;
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+    @Autowired
+    private CheckAvailableTimeService checkAvailableTimeService;
+    @Autowired
+    private SlotHoldStore slotHoldStore;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private AvailableTimeRepository availableTimeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    private User guest;
+    private User otherGuest;
+    private Space space;
+    private final LocalDate date = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(createUser("guest"));
+        otherGuest = userRepository.save(createUser("guest2"));
+        User host = userRepository.save(User.builder()
+            .loginId("host1")
+            .password(passwordEncoder.encode("host1password!"))
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build());
+
+        space = Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(123.12)
+            .longitude(123.12)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+        spaceRepository.save(space);
+
+        AvailableTime availableTime = AvailableTime.builder()
+            .space(space)
+            .date(date)
+            .startTime(LocalTime.of(9, 0, 0))
+            .endTime(LocalTime.of(18, 0, 0))
+            .build();
+        availableTimeRepository.save(availableTime);
+        space.getAvailableTimes().add(availableTime);
+
+        loginAs(guest);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        slotHoldStore.clear();
+        reservationSlotRepository.deleteAll();
+        availableTimeRepository.deleteAll();
+        reservationRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("시간 선점 - 선점한 시간은 예약 가능 시간에서 빠진다")
+    void hold_hides_slots_from_available_time() {
+        //when
+        slotHoldService.holdSlots(space.getId(), holdRequest(10, 12));
+
+        //then
+        assertThat(checkAvailableTimeService.findAvailableTime(space.getId(), date).getTimeList())
+            .doesNotContain(LocalTime.of(10, 0), LocalTime.of(11, 0))
+            .contains(LocalTime.of(9, 0), LocalTime.of(12, 0));
+    }
+
+    @Test
+    @DisplayName("시간 선점 - 다른 게스트가 선점한 시간은 선점도 예약도 할 수 없다")
+    void hold_blocks_other_guest() {
+        //given
+        slotHoldService.holdSlots(space.getId(), holdRequest(10, 12));
+
+        //when
+        loginAs(otherGuest);
+
+        //then
+        assertThrows(MissMatch.class,
+            () -> slotHoldService.holdSlots(space.getId(), holdRequest(11, 13)));
+        assertThrows(MissMatch.class,
+            () -> reservationGuestService.createReservation(space.getId(), createRequest(11, 13)));
+    }
+
+    @Test
+    @DisplayName("시간 선점 - 선점으로 예약하면 예약이 만들어지고 선점은 해제된다")
+    void reserve_with_hold() {
+        //given
+        SlotHoldResponseDto hold = slotHoldService.holdSlots(space.getId(), holdRequest(10, 12));
+
+        //when
+        Long reservationId = reservationGuestService.createReservation(space.getId(),
+            createRequest(10, 12), hold.getHoldId()).getId();
+
+        //then
+        assertThat(reservationRepository.findById(reservationId)).isPresent();
+        assertThat(slotHoldStore.find(hold.getHoldId())).isEmpty();
+        assertEquals(2, reservationSlotRepository.findByReservationId(reservationId).size());
+    }
+
+    @Test
+    @DisplayName("시간 선점 - 선점과 다른 시간으로 예약하면 실패")
+    void reserve_with_mismatched_hold() {
+        //given
+        SlotHoldResponseDto hold = slotHoldService.holdSlots(space.getId(), holdRequest(10, 12));
+
+        //when then
+        assertThrows(MissMatch.class, () -> reservationGuestService.createReservation(
+            space.getId(), createRequest(10, 13), hold.getHoldId()));
+    }
+
+    @Test
+    @DisplayName("시간 선점 - 해제했거나 없는 선점으로 예약하면 실패")
+    void reserve_with_released_hold() {
+        //given
+        SlotHoldResponseDto hold = slotHoldService.holdSlots(space.getId(), holdRequest(10, 12));
+        slotHoldService.releaseHold(hold.getHoldId());
+
+        //when then
+        assertThrows(AvailableTimeNotFound.class, () -> reservationGuestService.createReservation(
+            space.getId(), createRequest(10, 12), hold.getHoldId()));
+    }
+
+    @Test
+    @DisplayName("시간 선점 - 운영 시간을 벗어나면 선점할 수 없다")
+    void hold_outside_open_hours() {
+        //when then
+        assertThrows(MissMatch.class,
+            () -> slotHoldService.holdSlots(space.getId(), holdRequest(17, 19)));
+    }
+
+    private User createUser(String loginId) {
+        return User.builder()
+            .loginId(loginId)
+            .password(passwordEncoder.encode(loginId + "password!"))
+            .name("게스트")
+            .nickname(loginId)
+            .email(loginId + "@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build();
+    }
+
+    private void loginAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user.getLoginId(), null,
+                Collections.emptyList()));
+    }
+
+    private SlotHoldRequest holdRequest(int startHour, int endHour) {
+        return new SlotHoldRequest(date, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0));
+    }
+
+    private ReservationCreateRequest createRequest(int startHour, int endHour) {
+        return new ReservationCreateRequest(date, LocalTime.of(startHour, 0),
+            LocalTime.of(endHour, 0), 15000 * (endHour - startHour), 2,
+            UsagePurpose.BARISTA_TRAINING, "선점 예약");
+    }
+}
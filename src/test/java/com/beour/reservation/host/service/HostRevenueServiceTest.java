@@ -0,0 +1,344 @@
+package com.beour.reservation.host.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.global.exception.exceptionType.UnauthorityException;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.lifecycle.ReservationLifecycleWorker;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.ReservationSlotRepository;
+import com.beour.reservation.commons.rollup.ReservationRollupRecorder;
+import com.beour.reservation.commons.rollup.SpaceDailyRollup;
+import com.beour.reservation.commons.rollup.SpaceDailyRollupRepository;
+import com.beour.reservation.host.dto.HostRevenuePointDto;
+import com.beour.reservation.host.dto.HostRevenueResponseDto;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class HostRevenueServiceTest {
+
+    // 2025-06-02 는 월요일
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 2);
+
+    @Autowired
+    private HostRevenueService hostRevenueService;
+    @Autowired
+    private ReservationCalendarService reservationCalendarService;
+    @Autowired
+    private ReservationLifecycleWorker reservationLifecycleWorker;
+    @Autowired
+    private ReservationRollupRecorder reservationRollupRecorder;
+    @Autowired
+    private SpaceDailyRollupRepository spaceDailyRollupRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User guest;
+    private User host;
+    private User otherHost;
+    private Space space;
+    private Space otherSpace;
+
+    @BeforeEach
+    void setUp() {
+        spaceDailyRollupRepository.deleteAll();
+
+        guest = userRepository.save(user("guest", "GUEST"));
+        host = userRepository.save(user("host1", "HOST"));
+        otherHost = userRepository.save(user("host2", "HOST"));
+        space = spaceRepository.save(space(host, "공간1"));
+        otherSpace = spaceRepository.save(space(otherHost, "공간2"));
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+            host.getLoginId(), null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        spaceDailyRollupRepository.deleteAll();
+        reservationSlotRepository.deleteAll();
+        reservationRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("매출 집계 - 새 예약은 대기 건수에만 반영된다")
+    void created_reservation_counts_as_pending() {
+        //given
+        book(MONDAY, 10, 12, 30000);
+
+        //when
+        SpaceDailyRollup rollup = rollupOf(space, MONDAY);
+
+        //then
+        assertEquals(1, rollup.getPendingCount());
+        assertEquals(0, rollup.getAcceptedCount());
+        assertEquals(0, rollup.getBookedHours());
+        assertEquals(0L, rollup.getRevenue());
+    }
+
+    @Test
+    @DisplayName("매출 집계 - 승인하면 대기에서 승인으로 옮겨지고 이용 시간과 매출이 더해진다")
+    void accept_moves_pending_to_revenue() {
+        //given
+        Reservation reservation = book(MONDAY, 10, 12, 30000);
+
+        //when
+        reservationCalendarService.acceptReservation(reservation.getId(), space.getId());
+
+        //then
+        SpaceDailyRollup rollup = rollupOf(space, MONDAY);
+        assertEquals(0, rollup.getPendingCount());
+        assertEquals(1, rollup.getAcceptedCount());
+        assertEquals(2, rollup.getBookedHours());
+        assertEquals(30000L, rollup.getRevenue());
+    }
+
+    @Test
+    @DisplayName("매출 집계 - 거절된 예약은 집계에서 빠진다")
+    void reject_removes_pending() {
+        //given
+        Reservation reservation = book(MONDAY, 10, 12, 30000);
+
+        //when
+        reservationCalendarService.rejectReservation(reservation.getId(), space.getId());
+
+        //then
+        SpaceDailyRollup rollup = rollupOf(space, MONDAY);
+        assertEquals(0, rollup.getPendingCount());
+        assertEquals(0L, rollup.getRevenue());
+    }
+
+    @Test
+    @DisplayName("매출 집계 - 승인한 예약을 거절하면 승인 건수와 매출에서 빠진다")
+    void reject_accepted_removes_revenue() {
+        //given
+        Reservation reservation = book(MONDAY, 10, 12, 30000);
+        reservationCalendarService.acceptReservation(reservation.getId(), space.getId());
+
+        //when
+        reservationCalendarService.rejectReservation(reservation.getId(), space.getId());
+
+        //then
+        SpaceDailyRollup rollup = rollupOf(space, MONDAY);
+        assertEquals(0, rollup.getPendingCount());
+        assertEquals(0, rollup.getAcceptedCount());
+        assertEquals(0, rollup.getBookedHours());
+        assertEquals(0L, rollup.getRevenue());
+    }
+
+    @Test
+    @DisplayName("매출 집계 - 완료 전환은 매출을 유지하고 대기 만료는 대기 건수를 줄인다")
+    void lifecycle_keeps_revenue_and_expires_pending() {
+        //given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Reservation accepted = book(yesterday, 10, 12, 30000);
+        reservationCalendarService.acceptReservation(accepted.getId(), space.getId());
+        book(yesterday, 14, 15, 15000);
+
+        //when
+        reservationLifecycleWorker.completeEndedReservations(LocalDateTime.now());
+        reservationLifecycleWorker.expireStartedPendingReservations(LocalDateTime.now());
+
+        //then
+        SpaceDailyRollup rollup = rollupOf(space, yesterday);
+        assertEquals(0, rollup.getPendingCount());
+        assertEquals(1, rollup.getAcceptedCount());
+        assertEquals(2, rollup.getBookedHours());
+        assertEquals(30000L, rollup.getRevenue());
+    }
+
+    @Test
+    @DisplayName("매출 집계 - 다시 계산한 값이 증분으로 쌓은 값과 같다")
+    void rebuild_matches_incremental() {
+        //given
+        Reservation first = book(MONDAY, 10, 12, 30000);
+        book(MONDAY, 13, 14, 15000);
+        reservationCalendarService.acceptReservation(first.getId(), space.getId());
+        SpaceDailyRollup incremental = rollupOf(space, MONDAY);
+
+        //when
+        transactionTemplate.executeWithoutResult(status ->
+            reservationRollupRecorder.rebuild(space.getId(), MONDAY));
+
+        //then
+        SpaceDailyRollup rebuilt = rollupOf(space, MONDAY);
+        assertEquals(incremental.getPendingCount(), rebuilt.getPendingCount());
+        assertEquals(incremental.getAcceptedCount(), rebuilt.getAcceptedCount());
+        assertEquals(incremental.getBookedHours(), rebuilt.getBookedHours());
+        assertEquals(incremental.getRevenue(), rebuilt.getRevenue());
+    }
+
+    @Test
+    @DisplayName("매출 조회 - 주 단위로 묶고 예약이 없는 주는 0 으로 채운다")
+    void weekly_series() {
+        //given
+        acceptBooking(MONDAY, 10, 12, 30000);
+        acceptBooking(MONDAY.plusDays(6), 10, 13, 45000);
+        acceptBooking(MONDAY.plusWeeks(2), 9, 10, 15000);
+
+        //when
+        HostRevenueResponseDto result = hostRevenueService.getRevenueSeries("weekly", MONDAY,
+            MONDAY.plusWeeks(2).plusDays(6), null);
+
+        //then
+        assertEquals(3, result.getSeries().size());
+        HostRevenuePointDto firstWeek = result.getSeries().get(0);
+        assertEquals(MONDAY, firstWeek.getPeriodStart());
+        assertEquals(75000L, firstWeek.getRevenue());
+        assertEquals(5, firstWeek.getBookedHours());
+        assertEquals(2, firstWeek.getAcceptedCount());
+        assertEquals(0L, result.getSeries().get(1).getRevenue());
+        assertEquals(15000L, result.getSeries().get(2).getRevenue());
+        assertEquals(90000L, result.getTotalRevenue());
+        assertEquals(6, result.getTotalBookedHours());
+    }
+
+    @Test
+    @DisplayName("매출 조회 - 월 단위")
+    void monthly_series() {
+        //given
+        acceptBooking(MONDAY, 10, 12, 30000);
+        acceptBooking(MONDAY.plusMonths(1), 10, 11, 15000);
+
+        //when
+        HostRevenueResponseDto result = hostRevenueService.getRevenueSeries("monthly", MONDAY.withDayOfMonth(1),
+            MONDAY.plusMonths(1).withDayOfMonth(30), space.getId());
+
+        //then
+        assertEquals(2, result.getSeries().size());
+        assertEquals(LocalDate.of(2025, 6, 1), result.getSeries().get(0).getPeriodStart());
+        assertEquals(30000L, result.getSeries().get(0).getRevenue());
+        assertEquals(15000L, result.getSeries().get(1).getRevenue());
+    }
+
+    @Test
+    @DisplayName("매출 조회 - 잘못된 집계 단위나 기간")
+    void invalid_period_or_range() {
+        assertThrows(InputInvalidFormatException.class, () ->
+            hostRevenueService.getRevenueSeries("yearly", MONDAY, MONDAY.plusDays(1), null));
+        assertThrows(InputInvalidFormatException.class, () ->
+            hostRevenueService.getRevenueSeries("daily", MONDAY.plusDays(1), MONDAY, null));
+    }
+
+    @Test
+    @DisplayName("매출 조회 - 집계 단위별 최대 기간을 넘으면 조회할 수 없다")
+    void range_too_long() {
+        assertEquals(92, hostRevenueService.getRevenueSeries("daily", MONDAY, MONDAY.plusDays(91), null)
+            .getSeries().size());
+        assertThrows(InputInvalidFormatException.class, () ->
+            hostRevenueService.getRevenueSeries("daily", MONDAY, MONDAY.plusDays(92), null));
+        assertThrows(InputInvalidFormatException.class, () ->
+            hostRevenueService.getRevenueSeries("monthly", MONDAY, MONDAY.plusYears(5), null));
+    }
+
+    @Test
+    @DisplayName("매출 조회 - 다른 호스트의 공간")
+    void other_host_space() {
+        assertThrows(UnauthorityException.class, () ->
+            hostRevenueService.getRevenueSeries("daily", MONDAY, MONDAY.plusDays(1), otherSpace.getId()));
+    }
+
+    private Reservation book(LocalDate date, int startHour, int endHour, int price) {
+        Reservation reservation = Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.PENDING)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .date(date)
+            .startTime(LocalTime.of(startHour, 0))
+            .endTime(LocalTime.of(endHour, 0))
+            .price(price)
+            .guestCount(2)
+            .build();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            reservationRepository.save(reservation);
+            reservationRollupRecorder.recordCreated(reservation);
+        });
+
+        return reservation;
+    }
+
+    private void acceptBooking(LocalDate date, int startHour, int endHour, int price) {
+        Reservation reservation = book(date, startHour, endHour, price);
+        reservationCalendarService.acceptReservation(reservation.getId(), space.getId());
+    }
+
+    private SpaceDailyRollup rollupOf(Space space, LocalDate date) {
+        return spaceDailyRollupRepository.findAll().stream()
+            .filter(rollup -> rollup.getSpaceId().equals(space.getId()) && rollup.getDate().equals(date))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private User user(String loginId, String role) {
+        return User.builder()
+            .loginId(loginId)
+            .password(passwordEncoder.encode(loginId + "password!"))
+            .name(loginId)
+            .nickname(loginId)
+            .email(loginId + "@gmail.com")
+            .phone("01012345678")
+            .role(role)
+            .build();
+    }
+
+    private Space space(User owner, String name) {
+        return Space.builder()
+            .host(owner)
+            .name(name)
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(123.12)
+            .longitude(123.12)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.beour.reservation.host.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
@@ -13,6 +14,10 @@ import com.beour.global.exception.exceptionType.ReservationNotFound;
 import com.beour.reservation.commons.repository.ReservationRepository;
 import com.beour.reservation.host.dto.CalendarReservationPageResponseDto;
 import com.beour.reservation.host.dto.CalendarReservationResponseDto;
+import com.beour.reservation.host.dto.ReservationStatusBulkRequestDto;
+import com.beour.reservation.host.dto.ReservationStatusBulkResponseDto;
+import com.beour.reservation.host.dto.ReservationStatusResultDto;
+import com.beour.reservation.host.dto.ReservationStatusResultDto.Result;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.domain.repository.TagRepository;
@@ -22,9 +27,12 @@ import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -373,6 +381,75 @@ class ReservationCalendarServiceTest {
         assertEquals(2, result.getTotalPage());
     }
 
+    @Test
+    @DisplayName("월간 달력 조회 - 한 달치 예약을 날짜, 시작 시간 순으로 한 번에 조회")
+    void getHostMonthlyCalendar_whole_month() {
+        // given
+        YearMonth month = YearMonth.now();
+        Reservation nextMonthReservation = Reservation.builder()
+                .guest(guest)
+                .host(host)
+                .space(space)
+                .status(ReservationStatus.ACCEPTED)
+                .usagePurpose(UsagePurpose.OTHER)
+                .requestMessage("다음 달 예약")
+                .date(month.plusMonths(1).atDay(1))
+                .startTime(LocalTime.of(9, 0, 0))
+                .endTime(LocalTime.of(10, 0, 0))
+                .price(15000)
+                .guestCount(1)
+                .build();
+        reservationRepository.save(nextMonthReservation);
+
+        // when
+        CalendarReservationPageResponseDto result = reservationCalendarService.getHostMonthlyCalendar(month, null, null);
+
+        // then
+        List<CalendarReservationResponseDto> reservations = result.getReservations();
+        assertEquals(3, reservations.size());
+        assertEquals(pendingReservation.getId(), reservations.get(0).getReservationId());
+        assertEquals(acceptedReservation.getId(), reservations.get(1).getReservationId());
+        assertEquals(rejectedReservation.getId(), reservations.get(2).getReservationId());
+        assertEquals(LocalDate.now(), reservations.get(0).getDate());
+        assertTrue(result.isLast());
+    }
+
+    @Test
+    @DisplayName("월간 달력 조회 - 상태와 공간 조건")
+    void getHostMonthlyCalendar_with_status_and_space() {
+        // when
+        CalendarReservationPageResponseDto result = reservationCalendarService.getHostMonthlyCalendar(
+                YearMonth.now(), space.getId(), ReservationStatus.PENDING);
+
+        // then
+        assertEquals(1, result.getReservations().size());
+        assertEquals(pendingReservation.getId(), result.getReservations().get(0).getReservationId());
+    }
+
+    @Test
+    @DisplayName("월간 달력 조회 - 권한 없는 공간")
+    void getHostMonthlyCalendar_unauthorized_space() {
+        // when & then
+        assertThrows(UnauthorityException.class, () ->
+                reservationCalendarService.getHostMonthlyCalendar(YearMonth.now(), otherSpace.getId(), null));
+    }
+
+    @Test
+    @DisplayName("승인 대기 예약 조회 - 상태 조건이 전체 페이지 수에 반영")
+    void getHostPendingReservations_page_count() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+
+        // when
+        CalendarReservationPageResponseDto result = reservationCalendarService.getHostPendingReservations(
+                LocalDate.now(), null, pageable);
+
+        // then
+        assertEquals(1, result.getReservations().size());
+        assertTrue(result.isLast());
+        assertEquals(1, result.getTotalPage());
+    }
+
     @Test
     @DisplayName("예약 승인 성공")
     void acceptReservation_success() {
@@ -388,6 +465,53 @@ class ReservationCalendarServiceTest {
         assertEquals(ReservationStatus.ACCEPTED, updated.getStatus());
     }
 
+    @Test
+    @DisplayName("예약 승인 - 조건부 UPDATE 로 바뀌고 version 이 올라간다")
+    void acceptReservation_increments_version() {
+        // given
+        long before = reservationRepository.findById(pendingReservation.getId()).get().getVersion();
+
+        // when
+        reservationCalendarService.acceptReservation(pendingReservation.getId(), space.getId());
+
+        // then
+        Reservation updated = reservationRepository.findById(pendingReservation.getId()).get();
+        assertEquals(ReservationStatus.ACCEPTED, updated.getStatus());
+        assertEquals(before + 1, updated.getVersion());
+    }
+
+    @Test
+    @DisplayName("예약 승인 - 승인 대기가 아닌 예약은 바꿀 수 없다")
+    void acceptReservation_not_pending() {
+        // when & then
+        assertThrows(MissMatch.class, () ->
+                reservationCalendarService.acceptReservation(rejectedReservation.getId(), space.getId()));
+        assertEquals(ReservationStatus.REJECTED,
+                reservationRepository.findById(rejectedReservation.getId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("예약 거부 - 이미 승인된 예약도 거절할 수 있다")
+    void rejectReservation_already_accepted() {
+        // given
+        reservationCalendarService.acceptReservation(pendingReservation.getId(), space.getId());
+
+        // when
+        reservationCalendarService.rejectReservation(pendingReservation.getId(), space.getId());
+
+        // then
+        assertEquals(ReservationStatus.REJECTED,
+                reservationRepository.findById(pendingReservation.getId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("예약 거부 - 거절된 예약은 다시 거절할 수 없다")
+    void rejectReservation_already_rejected() {
+        // when & then
+        assertThrows(MissMatch.class, () ->
+                reservationCalendarService.rejectReservation(rejectedReservation.getId(), space.getId()));
+    }
+
     @Test
     @DisplayName("예약 승인 - 존재하지 않는 예약")
     void acceptReservation_reservation_not_found() {
@@ -486,6 +610,93 @@ class ReservationCalendarServiceTest {
         assertEquals(ReservationStatus.REJECTED, updated.getStatus());
     }
 
+    @Test
+    @DisplayName("예약 일괄 승인 - 승인 대기 예약만 바뀌고 나머지는 id 별 사유를 돌려준다")
+    void changeReservationStatuses_accept_with_results() {
+        // given
+        Reservation otherHostReservation = reservationRepository.save(Reservation.builder()
+                .guest(guest)
+                .host(otherHost)
+                .space(otherSpace)
+                .status(ReservationStatus.PENDING)
+                .usagePurpose(UsagePurpose.OTHER)
+                .requestMessage("다른 호스트 예약")
+                .date(LocalDate.now())
+                .startTime(LocalTime.of(10, 0, 0))
+                .endTime(LocalTime.of(11, 0, 0))
+                .price(20000)
+                .guestCount(1)
+                .build());
+        ReservationStatusBulkRequestDto requestDto = new ReservationStatusBulkRequestDto(
+                List.of(pendingReservation.getId(), acceptedReservation.getId(),
+                        deletedReservation.getId(), otherHostReservation.getId(), 999L,
+                        pendingReservation.getId()),
+                ReservationStatus.ACCEPTED);
+
+        // when
+        ReservationStatusBulkResponseDto result = reservationCalendarService.changeReservationStatuses(requestDto);
+
+        // then
+        Map<Long, Result> results = result.getResults().stream()
+                .collect(Collectors.toMap(ReservationStatusResultDto::getReservationId,
+                        ReservationStatusResultDto::getResult));
+        assertEquals(5, result.getResults().size());
+        assertEquals(1, result.getChangedCount());
+        assertEquals(Result.CHANGED, results.get(pendingReservation.getId()));
+        assertEquals(Result.NOT_PENDING, results.get(acceptedReservation.getId()));
+        assertEquals(Result.NOT_FOUND, results.get(deletedReservation.getId()));
+        assertEquals(Result.NO_PERMISSION, results.get(otherHostReservation.getId()));
+        assertEquals(Result.NOT_FOUND, results.get(999L));
+
+        assertEquals(ReservationStatus.ACCEPTED,
+                reservationRepository.findById(pendingReservation.getId()).get().getStatus());
+        assertEquals(ReservationStatus.PENDING,
+                reservationRepository.findById(otherHostReservation.getId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("예약 일괄 거절 - 여러 건을 한 번에 거절한다")
+    void changeReservationStatuses_reject() {
+        // given
+        Reservation anotherPending = reservationRepository.save(Reservation.builder()
+                .guest(guest)
+                .host(host)
+                .space(space)
+                .status(ReservationStatus.PENDING)
+                .usagePurpose(UsagePurpose.OTHER)
+                .requestMessage("또 다른 대기 예약")
+                .date(LocalDate.now().plusDays(1))
+                .startTime(LocalTime.of(10, 0, 0))
+                .endTime(LocalTime.of(11, 0, 0))
+                .price(15000)
+                .guestCount(1)
+                .build());
+        ReservationStatusBulkRequestDto requestDto = new ReservationStatusBulkRequestDto(
+                List.of(pendingReservation.getId(), anotherPending.getId()), ReservationStatus.REJECTED);
+
+        // when
+        ReservationStatusBulkResponseDto result = reservationCalendarService.changeReservationStatuses(requestDto);
+
+        // then
+        assertEquals(2, result.getChangedCount());
+        assertEquals(ReservationStatus.REJECTED,
+                reservationRepository.findById(pendingReservation.getId()).get().getStatus());
+        assertEquals(ReservationStatus.REJECTED,
+                reservationRepository.findById(anotherPending.getId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("예약 일괄 변경 - 승인·거절 외의 상태는 요청할 수 없다")
+    void changeReservationStatuses_invalid_status() {
+        // given
+        ReservationStatusBulkRequestDto requestDto = new ReservationStatusBulkRequestDto(
+                List.of(pendingReservation.getId()), ReservationStatus.COMPLETED);
+
+        // when & then
+        assertThrows(InputInvalidFormatException.class, () ->
+                reservationCalendarService.changeReservationStatuses(requestDto));
+    }
+
     @Test
     @DisplayName("예약 거부 - 존재하지 않는 예약")
     void rejectReservation_reservation_not_found() {
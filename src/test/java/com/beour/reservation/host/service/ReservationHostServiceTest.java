@@ -626,4 +626,41 @@ class ReservationHostServiceTest {
         assertThat(result.isLast()).isTrue(); // 마지막 페이지임
         assertThat(result.getTotalPage()).isEqualTo(2); // 총 2페이지
     }
+
+    @Test
+    @Transactional
+    @DisplayName("페이징 기능 테스트 - 대기 중 예약이 앞에 있어도 확정된 예약 기준으로 페이지 구성")
+    void test_pagination_counts_only_accepted() {
+        //given
+        LocalDate targetDate = LocalDate.now().plusDays(1);
+        Pageable pageable = PageRequest.of(0, 2);
+
+        // 앞 시간대 PENDING 2개, 뒤 시간대 ACCEPTED 3개
+        for (int i = 0; i < 5; i++) {
+            Reservation reservation = Reservation.builder()
+                    .guest(guest)
+                    .host(host)
+                    .space(space1)
+                    .status(i < 2 ? ReservationStatus.PENDING : ReservationStatus.ACCEPTED)
+                    .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+                    .requestMessage("예약 " + (i + 1))
+                    .date(targetDate)
+                    .startTime(LocalTime.of(8 + i, 0, 0))
+                    .endTime(LocalTime.of(9 + i, 0, 0))
+                    .price(15000)
+                    .guestCount(2)
+                    .build();
+            reservationRepository.save(reservation);
+        }
+
+        //when
+        HostReservationListPageResponseDto result = reservationHostService.getHostReservationsByDate(targetDate, pageable);
+
+        //then
+        assertThat(result.getReservations()).hasSize(2);
+        assertThat(result.getReservations())
+                .allMatch(reservation -> reservation.getStatus().equals(ReservationStatus.ACCEPTED.getText()));
+        assertThat(result.isLast()).isFalse();
+        assertThat(result.getTotalPage()).isEqualTo(2);
+    }
 }
@@ -27,7 +27,9 @@ import com.beour.review.guest.dto.ReviewRequestDto;
 import com.beour.review.guest.dto.ReviewUpdateRequestDto;
 import com.beour.review.guest.dto.ReviewableReservationPageResponseDto;
 import com.beour.review.guest.dto.WrittenReviewPageResponseDto;
+import com.beour.space.domain.entity.RatingSummary;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.rating.SpaceRatingReconciler;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
@@ -88,6 +90,8 @@ class ReviewGuestServiceTest {
     private ReviewCommentRepository reviewCommentRepository;
     @Autowired
     private ImageUploader imageUploader;
+    @Autowired
+    private SpaceRatingReconciler spaceRatingReconciler;
 
     private User guest;
     private User host;
@@ -634,4 +638,60 @@ class ReviewGuestServiceTest {
         assertEquals(4, result.get(0).getRating());
         assertEquals("두 번째 리뷰", result.get(0).getReviewContent());
     }
+
+    @Test
+    @DisplayName("리뷰 작성, 수정, 삭제 - 공간 리뷰 집계 반영")
+    void review_changes_update_space_rating_summary() throws IOException {
+        //given
+        ReviewRequestDto requestDto = new ReviewRequestDto(
+                completedReservation.getId(), 5, "좋은 공간이었습니다.");
+
+        //when then
+        reviewGuestService.createReview(requestDto, Collections.emptyList());
+        Space created = spaceRepository.findById(space.getId()).orElseThrow();
+        assertEquals(1, created.getRatingSummary().getReviewCount());
+        assertEquals(5.0, created.getAvgRating());
+        assertEquals(List.of(0, 0, 0, 0, 1), created.getRatingSummary().getStarCounts());
+
+        Long reviewId = reviewRepository.findAll().get(0).getId();
+        reviewGuestService.updateReview(reviewId, new ReviewUpdateRequestDto(3, "수정된 리뷰"),
+                Collections.emptyList());
+        Space updated = spaceRepository.findById(space.getId()).orElseThrow();
+        assertEquals(1, updated.getRatingSummary().getReviewCount());
+        assertEquals(3.0, updated.getAvgRating());
+        assertEquals(List.of(0, 0, 1, 0, 0), updated.getRatingSummary().getStarCounts());
+
+        reviewGuestService.deleteReview(reviewId);
+        Space deleted = spaceRepository.findById(space.getId()).orElseThrow();
+        assertEquals(0, deleted.getRatingSummary().getReviewCount());
+        assertEquals(0.0, deleted.getAvgRating());
+        assertThrows(ReviewNotFoundException.class,
+                () -> reviewGuestService.deleteReview(reviewId));
+    }
+
+    @Test
+    @DisplayName("리뷰 집계 보정 - review 테이블 기준으로 다시 계산")
+    void reconcile_space_rating_summary() {
+        //given
+        Review review = Review.builder()
+                .guest(guest)
+                .space(space)
+                .reservation(completedReservation)
+                .rating(4)
+                .content("집계 없이 저장된 리뷰")
+                .reservedDate(completedReservation.getDate())
+                .build();
+        reviewRepository.save(review);
+
+        //when
+        spaceRatingReconciler.reconcile();
+
+        //then
+        Space reconciled = spaceRepository.findById(space.getId()).orElseThrow();
+        RatingSummary summary = reconciled.getRatingSummary();
+        assertEquals(1, summary.getReviewCount());
+        assertEquals(4, summary.getRatingSum());
+        assertEquals(List.of(0, 0, 0, 1, 0), summary.getStarCounts());
+        assertEquals(4.0, reconciled.getAvgRating());
+    }
 }
@@ -0,0 +1,96 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.slot.HourSlots;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceAvailabilityIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 10);
+
+    private SpaceAvailabilityIndex spaceAvailabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        spaceAvailabilityIndex = new SpaceAvailabilityIndex();
+
+        spaceAvailabilityIndex.putAvailableTime(1L, 1L, DATE, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        spaceAvailabilityIndex.putAvailableTime(2L, 2L, DATE, LocalTime.of(9, 0), LocalTime.of(18, 0));
+    }
+
+    @Test
+    @DisplayName("날짜 필터 - 운영 시간이 모두 예약된 공간은 제외되고 취소하면 다시 포함")
+    void bookable_spaces_follow_reservations() {
+        //when
+        spaceAvailabilityIndex.putReservation(100L, 1L, DATE, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        spaceAvailabilityIndex.putReservation(101L, 2L, DATE, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        //then
+        assertThat(spaceAvailabilityIndex.findBookableSpaceIds(DATE)).containsExactly(2L);
+        assertThat(spaceAvailabilityIndex.findBookableSpaceIds(DATE.plusDays(1))).isEmpty();
+
+        //when
+        spaceAvailabilityIndex.removeReservation(100L, 1L, DATE);
+
+        //then
+        assertThat(spaceAvailabilityIndex.findBookableSpaceIds(DATE)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("시간 범위 검색 - 범위 전체가 연속으로 비어 있는 공간만")
+    void free_during_window() {
+        //given
+        spaceAvailabilityIndex.putReservation(100L, 2L, DATE, LocalTime.of(15, 0), LocalTime.of(16, 0));
+
+        //when then
+        assertThat(spaceAvailabilityIndex.findSpaceIdsFreeDuring(DATE, LocalTime.of(10, 0),
+            LocalTime.of(12, 0))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(spaceAvailabilityIndex.findSpaceIdsFreeDuring(DATE, LocalTime.of(14, 0),
+            LocalTime.of(17, 0))).isEmpty();
+        assertThat(spaceAvailabilityIndex.findSpaceIdsFreeDuring(DATE, LocalTime.of(16, 0),
+            LocalTime.of(18, 0))).containsExactly(2L);
+        assertThat(spaceAvailabilityIndex.findSpaceIdsFreeDuring(DATE, LocalTime.of(11, 0),
+            LocalTime.of(13, 0))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("운영 시간 교체와 지난 날짜 정리")
+    void replace_and_evict() {
+        //when
+        spaceAvailabilityIndex.removeAvailableTime(1L, 1L, DATE);
+        spaceAvailabilityIndex.putAvailableTime(3L, 1L, DATE.plusDays(1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+        spaceAvailabilityIndex.evictBefore(DATE.plusDays(1));
+
+        //then
+        assertThat(spaceAvailabilityIndex.findBookableSpaceIds(DATE)).isEmpty();
+        assertThat(spaceAvailabilityIndex.findBookableSpaceIds(DATE.plusDays(1))).containsExactly(1L);
+        assertThat(spaceAvailabilityIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요일 규칙은 단건 등록과 합치고 날짜 예외는 그날 운영 시간을 대신한다")
+    void schedule_and_exception() {
+        //when
+        spaceAvailabilityIndex.putSchedule(3L, DATE, HourSlots.of(LocalTime.of(9, 0), LocalTime.of(12, 0)), null);
+        spaceAvailabilityIndex.putSchedule(1L, DATE, HourSlots.of(LocalTime.of(14, 0), LocalTime.of(16, 0)), null);
+        spaceAvailabilityIndex.putSchedule(2L, DATE, 0, 0);
+
+        //then
+        assertThat(spaceAvailabilityIndex.findBookableSpaceIds(DATE)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(spaceAvailabilityIndex.findSpaceIdsFreeDuring(DATE, LocalTime.of(14, 0),
+            LocalTime.of(16, 0))).containsExactly(1L);
+
+        //when
+        spaceAvailabilityIndex.putSchedule(2L, DATE, 0, null);
+        spaceAvailabilityIndex.putSchedule(3L, DATE, 0, null);
+
+        //then
+        assertThat(spaceAvailabilityIndex.findBookableSpaceIds(DATE)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(spaceAvailabilityIndex.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,77 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceCatalogTest {
+
+    private SpaceCatalog spaceCatalog;
+
+    @BeforeEach
+    void setUp() {
+        spaceCatalog = new SpaceCatalog();
+
+        spaceCatalog.put(1L, 10000, 4, SpaceCategory.CAFE, UseCategory.MEETING, "서울시 강남구 역삼동");
+        spaceCatalog.put(2L, 20000, 10, SpaceCategory.COOKING, UseCategory.COOKING, "서울시 마포구");
+        spaceCatalog.put(3L, 30000, 20, SpaceCategory.CAFE, UseCategory.COOKING, "서울시 강남구 삼성동");
+    }
+
+    @Test
+    @DisplayName("필터 - 조건이 없으면 전체 공간을 id 오름차순으로")
+    void filter_without_condition() {
+        //when
+        long[] result = spaceCatalog.filter(SpaceCatalogFilter.builder().build());
+
+        //then
+        assertThat(result).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("필터 - 카테고리, 가격, 수용 인원, 주소 조건을 모두 만족하는 공간만")
+    void filter_with_all_conditions() {
+        //when
+        long[] byCategory = spaceCatalog.filter(SpaceCatalogFilter.builder()
+            .spaceCategories(List.of(SpaceCategory.CAFE))
+            .useCategories(List.of(UseCategory.COOKING, UseCategory.MEETING))
+            .build());
+        long[] byPriceAndCapacity = spaceCatalog.filter(SpaceCatalogFilter.builder()
+            .minPrice(15000)
+            .maxPrice(30000)
+            .minCapacity(15)
+            .build());
+        long[] byAddress = spaceCatalog.filter(SpaceCatalogFilter.builder()
+            .address("강남구")
+            .candidateSpaceIds(Set.of(3L, 2L))
+            .build());
+
+        //then
+        assertThat(byCategory).containsExactly(1L, 3L);
+        assertThat(byPriceAndCapacity).containsExactly(3L);
+        assertThat(byAddress).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("필터 - 수정과 삭제가 비트맵에 반영되고 빈 slot 은 재사용된다")
+    void update_and_remove() {
+        //when
+        spaceCatalog.put(1L, 10000, 4, SpaceCategory.ART, UseCategory.MEETING, "서울시 강남구 역삼동");
+        spaceCatalog.removeSpace(2L);
+        spaceCatalog.put(4L, 5000, 2, SpaceCategory.CAFE, UseCategory.MEETING, "부산시");
+
+        //then
+        assertThat(spaceCatalog.filter(SpaceCatalogFilter.builder()
+            .spaceCategories(List.of(SpaceCategory.CAFE))
+            .build())).containsExactly(3L, 4L);
+        assertThat(spaceCatalog.filter(SpaceCatalogFilter.builder()
+            .useCategories(List.of(UseCategory.COOKING))
+            .build())).containsExactly(3L);
+        assertThat(spaceCatalog.size()).isEqualTo(3);
+    }
+}
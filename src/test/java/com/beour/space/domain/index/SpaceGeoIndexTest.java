@@ -0,0 +1,122 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.index.SpaceGeoIndex.GeoHit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceGeoIndexTest {
+
+    private SpaceGeoIndex spaceGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        spaceGeoIndex = new SpaceGeoIndex();
+
+        spaceGeoIndex.put(1L, 37.5665, 126.9780); // 시청
+        spaceGeoIndex.put(2L, 37.4979, 127.0276); // 강남역
+        spaceGeoIndex.put(3L, 35.1796, 129.0756); // 부산
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 반경 안의 공간만 가까운 순")
+    void find_within_radius_nearest_first() {
+        //when
+        List<GeoHit> hits = spaceGeoIndex.findWithin(37.5700, 126.9800, 10_000);
+
+        //then
+        assertThat(hits).extracting(GeoHit::getSpaceId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).getDistance()).isLessThan(hits.get(1).getDistance());
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 격자 경계와 무관하게 전체 탐색 결과와 같다")
+    void find_within_matches_brute_force() {
+        //given
+        for (long id = 10; id < 400; id++) {
+            spaceGeoIndex.put(id, 37.0 + (id % 20) * 0.037, 126.5 + (id / 20) * 0.041);
+        }
+
+        //when
+        List<GeoHit> hits = spaceGeoIndex.findWithin(37.33, 126.91, 12_000);
+
+        //then
+        long expected = 0;
+        for (long id = 10; id < 400; id++) {
+            double distance = SpaceGeoIndex.distanceMeters(37.33, 126.91,
+                37.0 + (id % 20) * 0.037, 126.5 + (id / 20) * 0.041);
+            if (distance <= 12_000) {
+                expected++;
+            }
+        }
+        assertThat(hits).hasSize((int) expected);
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 날짜변경선과 극점")
+    void find_within_across_antimeridian_and_pole() {
+        //given
+        spaceGeoIndex.put(4L, 10.0, 179.999);
+        spaceGeoIndex.put(5L, -90.0, 30.0);
+
+        //when then
+        assertThat(spaceGeoIndex.findWithin(10.0, -179.999, 1_000))
+            .extracting(GeoHit::getSpaceId).containsExactly(4L);
+        assertThat(spaceGeoIndex.findWithin(-90.0, -150.0, 1_000))
+            .extracting(GeoHit::getSpaceId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("최근접 검색 - 가까운 k개를 거리순으로 돌려주고 전체 탐색 결과와 같다")
+    void find_nearest_matches_brute_force() {
+        //given
+        List<GeoHit> expected = new ArrayList<>();
+        for (long id = 10; id < 400; id++) {
+            double latitude = 37.0 + (id % 20) * 0.037;
+            double longitude = 126.5 + (id / 20) * 0.041;
+            spaceGeoIndex.put(id, latitude, longitude);
+            expected.add(new GeoHit(id, SpaceGeoIndex.distanceMeters(37.33, 126.91, latitude, longitude)));
+        }
+        for (long id = 1; id <= 3; id++) {
+            spaceGeoIndex.removeSpace(id);
+        }
+        expected.sort(GeoHit.NEAREST_FIRST);
+
+        //when
+        List<GeoHit> hits = spaceGeoIndex.findNearest(37.33, 126.91, 7);
+
+        //then
+        assertThat(hits).extracting(GeoHit::getSpaceId)
+            .containsExactlyElementsOf(expected.subList(0, 7).stream().map(GeoHit::getSpaceId).toList());
+    }
+
+    @Test
+    @DisplayName("최근접 검색 - 색인된 공간보다 많이 요청하면 전부")
+    void find_nearest_more_than_indexed() {
+        assertThat(spaceGeoIndex.findNearest(35.1796, 129.0756, 10))
+            .extracting(GeoHit::getSpaceId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 주소 변경과 삭제")
+    void update_and_delete_space() {
+        //given
+        Space moved = Space.builder().id(1L).latitude(35.1800).longitude(129.0760).build();
+        Space deleted = Space.builder().id(2L).latitude(37.4979).longitude(127.0276).build();
+        deleted.delete();
+
+        //when
+        spaceGeoIndex.updateSpace(moved);
+        spaceGeoIndex.updateSpace(deleted);
+
+        //then
+        assertThat(spaceGeoIndex.findWithin(37.5700, 126.9800, 10_000)).isEmpty();
+        assertThat(spaceGeoIndex.findWithin(35.1796, 129.0756, 1_000))
+            .extracting(GeoHit::getSpaceId).containsExactly(3L, 1L);
+    }
+}
@@ -0,0 +1,105 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.entity.Description;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.Tag;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceSearchIndexTest {
+
+    private SpaceSearchIndex spaceSearchIndex;
+    private Space cafe;
+    private Space studio;
+
+    @BeforeEach
+    void setUp() {
+        spaceSearchIndex = new SpaceSearchIndex();
+
+        cafe = Space.builder().id(1L).name("성수 루프탑 카페").address("서울특별시 성동구 성수동").build();
+        studio = Space.builder().id(2L).name("촬영 스튜디오").address("서울특별시 마포구 합정동").build();
+        spaceSearchIndex.updateSpace(cafe);
+        spaceSearchIndex.updateSpace(studio);
+
+        spaceSearchIndex.updateDescription(Description.builder()
+            .space(studio)
+            .description("카페 분위기의 자연광 스튜디오")
+            .build());
+        spaceSearchIndex.putTag(Tag.builder().id(10L).space(cafe).contents("브런치").build());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 이름에 포함된 공간이 설명에만 포함된 공간보다 먼저 나온다")
+    void search_ranks_name_before_description() {
+        //when
+        List<Long> result = spaceSearchIndex.search("카페");
+
+        //then
+        assertThat(result).containsExactly(cafe.getId(), studio.getId());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - bigram 이 모두 있어도 연속된 문자열이 아니면 제외")
+    void search_requires_substring_match() {
+        //when
+        List<Long> result = spaceSearchIndex.search("수동구");
+
+        //then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 한 글자 검색어")
+    void search_single_character() {
+        //when
+        List<Long> result = spaceSearchIndex.search("합");
+
+        //then
+        assertThat(result).containsExactly(studio.getId());
+    }
+
+    @Test
+    @DisplayName("태그 삭제 후에는 해당 태그로 검색되지 않는다")
+    void remove_tag() {
+        //given
+        Tag tag = Tag.builder().id(10L).space(cafe).contents("브런치").build();
+
+        //when
+        spaceSearchIndex.removeTag(tag);
+
+        //then
+        assertThat(spaceSearchIndex.search("브런치")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("id 묶음으로 지운 태그만 검색에서 빠진다")
+    void remove_tags_by_ids() {
+        //given
+        spaceSearchIndex.putTag(Tag.builder().id(11L).space(cafe).contents("루프탑").build());
+        spaceSearchIndex.putTag(Tag.builder().id(12L).space(cafe).contents("디저트").build());
+
+        //when
+        spaceSearchIndex.removeTags(cafe.getId(), List.of(10L, 12L));
+
+        //then
+        assertThat(spaceSearchIndex.search("브런치")).isEmpty();
+        assertThat(spaceSearchIndex.search("디저트")).isEmpty();
+        assertThat(spaceSearchIndex.search("루프탑")).containsExactly(cafe.getId());
+    }
+
+    @Test
+    @DisplayName("삭제된 공간은 검색되지 않는다")
+    void deleted_space_is_not_searchable() {
+        //when
+        cafe.delete();
+        spaceSearchIndex.updateSpace(cafe);
+
+        //then
+        assertThat(spaceSearchIndex.search("성수")).isEmpty();
+        assertThat(spaceSearchIndex.search("카페")).containsExactly(studio.getId());
+    }
+}
@@ -0,0 +1,77 @@
+package com.beour.space.domain.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.entity.AvailabilityException;
+import com.beour.space.domain.entity.WeeklyAvailability;
+import com.beour.space.domain.slot.HourSlots;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenScheduleTest {
+
+    // 2030-01-07 은 월요일
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Test
+    @DisplayName("요일 규칙 - 적용 요일과 유효 기간 안의 날짜만 열린다")
+    void weekly_rule() {
+        //given
+        OpenSchedule schedule = new OpenSchedule();
+        schedule.addRule(WeeklyAvailability.builder()
+            .dayMask(WeeklyAvailability.dayMaskOf(
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)))
+            .startTime(LocalTime.of(9, 0))
+            .endTime(LocalTime.of(22, 0))
+            .validFrom(MONDAY)
+            .validUntil(MONDAY.plusDays(7))
+            .build());
+
+        //when then
+        int weekday = HourSlots.of(LocalTime.of(9, 0), LocalTime.of(22, 0));
+        assertThat(schedule.openMask(MONDAY)).isEqualTo(weekday);
+        assertThat(schedule.openMask(MONDAY.plusDays(4))).isEqualTo(weekday);
+        assertThat(schedule.openMask(MONDAY.plusDays(5))).isZero();
+        assertThat(schedule.openMask(MONDAY.plusDays(7))).isEqualTo(weekday);
+        assertThat(schedule.openMask(MONDAY.plusDays(8))).isZero();
+        assertThat(schedule.openMask(MONDAY.minusDays(7))).isZero();
+    }
+
+    @Test
+    @DisplayName("날짜 예외 - 그날은 규칙과 단건 등록 대신 예외 시간만, 시간이 없으면 휴무")
+    void exception_overrides_rule_and_one_off() {
+        //given
+        OpenSchedule schedule = new OpenSchedule();
+        schedule.addRule(WeeklyAvailability.builder()
+            .dayMask(WeeklyAvailability.dayMaskOf(EnumSet.allOf(DayOfWeek.class)))
+            .startTime(LocalTime.of(9, 0))
+            .endTime(LocalTime.of(12, 0))
+            .validFrom(MONDAY)
+            .build());
+        int evening = HourSlots.of(LocalTime.of(18, 0), LocalTime.of(20, 0));
+        schedule.addOneOff(MONDAY, evening);
+        schedule.addOneOff(MONDAY.plusDays(1), evening);
+        schedule.addException(AvailabilityException.builder()
+            .date(MONDAY.plusDays(1))
+            .startTime(LocalTime.of(14, 0))
+            .endTime(LocalTime.of(15, 0))
+            .build());
+        schedule.addException(AvailabilityException.builder()
+            .date(MONDAY.plusDays(2))
+            .build());
+
+        //when then
+        assertThat(schedule.openMask(MONDAY)).isEqualTo(
+            HourSlots.of(LocalTime.of(9, 0), LocalTime.of(12, 0)) | evening);
+        assertThat(schedule.openMask(MONDAY.plusDays(1))).isEqualTo(
+            HourSlots.of(LocalTime.of(14, 0), LocalTime.of(15, 0)));
+        assertThat(schedule.openMask(MONDAY.plusDays(2))).isZero();
+        assertThat(schedule.exceptionMask(MONDAY.plusDays(2))).isZero();
+        assertThat(schedule.exceptionMask(MONDAY.plusDays(3))).isNull();
+        assertThat(schedule.openMask(MONDAY.plusDays(365))).isNotZero();
+    }
+}
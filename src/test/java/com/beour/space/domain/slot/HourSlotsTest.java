@@ -0,0 +1,57 @@
+package com.beour.space.domain.slot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HourSlotsTest {
+
+    @Test
+    @DisplayName("시간 칸 - [시작, 종료) 시간대 비트, 자정 종료는 24시")
+    void of() {
+        //when then
+        assertThat(HourSlots.of(LocalTime.of(10, 0), LocalTime.of(12, 0))).isEqualTo(0b1100_0000_0000);
+        assertThat(HourSlots.of(LocalTime.of(22, 0), LocalTime.MIDNIGHT)).isEqualTo(0b11 << 22);
+        assertThat(HourSlots.of(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT)).isEqualTo(HourSlots.FULL_DAY);
+        assertThat(HourSlots.from(24)).isZero();
+    }
+
+    @Test
+    @DisplayName("시간 칸 - 빈 칸 목록과 연속 구간")
+    void start_times_and_runs() {
+        //given
+        int mask = HourSlots.of(LocalTime.of(9, 0), LocalTime.of(12, 0))
+            | HourSlots.of(LocalTime.of(14, 0), LocalTime.MIDNIGHT);
+
+        //when
+        List<LocalTime> startTimes = HourSlots.startTimes(mask & ~HourSlots.from(11));
+        List<LocalTime> runs = new ArrayList<>();
+        HourSlots.forEachRun(mask, (startTime, endTime) -> {
+            runs.add(startTime);
+            runs.add(endTime);
+        });
+
+        //then
+        assertThat(startTimes).containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        assertThat(runs).containsExactly(LocalTime.of(9, 0), LocalTime.of(12, 0),
+            LocalTime.of(14, 0), LocalTime.MIDNIGHT);
+    }
+
+    @Test
+    @DisplayName("시간 칸 - 포함과 겹침")
+    void covers_and_overlaps() {
+        //given
+        int open = HourSlots.of(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        int reserved = HourSlots.of(LocalTime.of(16, 0), LocalTime.of(18, 0));
+
+        //when then
+        assertThat(HourSlots.covers(open, HourSlots.of(LocalTime.of(9, 0), LocalTime.of(12, 0)))).isTrue();
+        assertThat(HourSlots.covers(open & ~reserved, HourSlots.of(LocalTime.of(14, 0), LocalTime.of(17, 0)))).isFalse();
+        assertThat(HourSlots.overlaps(reserved, HourSlots.of(LocalTime.of(14, 0), LocalTime.of(17, 0)))).isTrue();
+        assertThat(HourSlots.overlaps(reserved, HourSlots.of(LocalTime.of(14, 0), LocalTime.of(16, 0)))).isFalse();
+    }
+}
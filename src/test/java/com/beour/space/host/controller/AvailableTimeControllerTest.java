@@ -4,6 +4,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.beour.global.exception.error.errorcode.AvailableTimeErrorCode;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.reservation.commons.entity.Reservation;
@@ -14,9 +15,11 @@ import com.beour.space.domain.entity.Description;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.AvailabilityExceptionRepository;
 import com.beour.space.domain.repository.AvailableTimeRepository;
 import com.beour.space.domain.repository.DescriptionRepository;
 import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.repository.WeeklyAvailabilityRepository;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -56,6 +59,10 @@ class AvailableTimeControllerTest {
     @Autowired
     private ReservationRepository reservationRepository;
     @Autowired
+    private WeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    @Autowired
+    private AvailabilityExceptionRepository availabilityExceptionRepository;
+    @Autowired
     private ObjectMapper objectMapper;
 
     private User host;
@@ -181,6 +188,8 @@ class AvailableTimeControllerTest {
     void tearDown() {
         reservationRepository.deleteAll();
         availableTimeRepository.deleteAll();
+        weeklyAvailabilityRepository.deleteAll();
+        availabilityExceptionRepository.deleteAll();
         descriptionRepository.deleteAll();
         spaceRepository.deleteAll();
         userRepository.deleteAll();
@@ -384,4 +393,126 @@ class AvailableTimeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data").value("대여 가능 시간을 성공적으로 업데이트 했습니다."));
     }
+
+    @Test
+    @DisplayName("반복 운영 시간 수정 - 성공 후 조회에 요일 규칙과 날짜 예외 포함")
+    @WithMockUser(username = "host", roles = "HOST")
+    void success_updateWeeklyAvailability() throws Exception {
+        // given
+        LocalDate closedDate = LocalDate.now().plusDays(10);
+        String requestJson = """
+            {
+                "weeklyRules": [
+                    {
+                        "daysOfWeek": ["MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"],
+                        "startTime": "09:00:00",
+                        "endTime": "22:00:00",
+                        "validFrom": "%s"
+                    }
+                ],
+                "exceptions": [
+                    {
+                        "date": "%s"
+                    }
+                ]
+            }
+            """.formatted(LocalDate.now().toString(), closedDate.toString());
+
+        // when
+        mockMvc.perform(put("/api/spaces/{spaceId}/available-times/weekly", hostSpace.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("반복 운영 시간을 성공적으로 업데이트 했습니다."));
+
+        // then
+        mockMvc.perform(get("/api/spaces/{spaceId}/available-times", hostSpace.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.weeklyRules.length()").value(1))
+                .andExpect(jsonPath("$.data.weeklyRules[0].daysOfWeek.length()").value(5))
+                .andExpect(jsonPath("$.data.weeklyRules[0].startTime").value("09:00:00"))
+                .andExpect(jsonPath("$.data.weeklyRules[0].validUntil").doesNotExist())
+                .andExpect(jsonPath("$.data.exceptions.length()").value(1))
+                .andExpect(jsonPath("$.data.exceptions[0].date").value(closedDate.toString()))
+                .andExpect(jsonPath("$.data.exceptions[0].closed").value(true));
+    }
+
+    @Test
+    @DisplayName("반복 운영 시간 수정 - 종료 시간이 시작 시간보다 빠름")
+    @WithMockUser(username = "host", roles = "HOST")
+    void updateWeeklyAvailability_invalid_time_range() throws Exception {
+        // given
+        String requestJson = """
+            {
+                "weeklyRules": [
+                    {
+                        "daysOfWeek": ["SATURDAY"],
+                        "startTime": "18:00:00",
+                        "endTime": "10:00:00",
+                        "validFrom": "%s"
+                    }
+                ]
+            }
+            """.formatted(LocalDate.now().toString());
+
+        // when & then
+        mockMvc.perform(put("/api/spaces/{spaceId}/available-times/weekly", hostSpace.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(AvailableTimeErrorCode.INVALID_WEEKLY_SCHEDULE.getMessage()));
+    }
+
+    @Test
+    @DisplayName("반복 운영 시간 수정 - 예약이 잡힌 시간을 닫을 수 없다")
+    @WithMockUser(username = "host", roles = "HOST")
+    void updateWeeklyAvailability_closes_reserved_time() throws Exception {
+        // given
+        String allDaysJson = """
+            {
+                "weeklyRules": [
+                    {
+                        "daysOfWeek": ["MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY"],
+                        "startTime": "09:00:00",
+                        "endTime": "22:00:00",
+                        "validFrom": "%s"
+                    }
+                ]
+            }
+            """.formatted(LocalDate.now().toString());
+        mockMvc.perform(put("/api/spaces/{spaceId}/available-times/weekly", hostSpace.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(allDaysJson))
+                .andExpect(status().isOk());
+
+        String closingJson = """
+            {
+                "weeklyRules": [
+                    {
+                        "daysOfWeek": ["MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY"],
+                        "startTime": "09:00:00",
+                        "endTime": "22:00:00",
+                        "validFrom": "%s"
+                    }
+                ],
+                "exceptions": [
+                    {
+                        "date": "%s",
+                        "startTime": "12:00:00",
+                        "endTime": "18:00:00"
+                    }
+                ]
+            }
+            """.formatted(LocalDate.now().toString(), pendingReservation.getDate().toString());
+
+        // when & then
+        mockMvc.perform(put("/api/spaces/{spaceId}/available-times/weekly", hostSpace.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(closingJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(AvailableTimeErrorCode.RESERVED_TIME_CLOSED.getMessage()));
+        mockMvc.perform(get("/api/spaces/{spaceId}/available-times", hostSpace.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.exceptions.length()").value(0));
+    }
 }
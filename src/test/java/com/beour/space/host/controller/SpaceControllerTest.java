@@ -1,5 +1,6 @@
 package com.beour.space.host.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -8,15 +9,18 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.space.domain.entity.Description;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.SpaceImage;
 import com.beour.space.domain.entity.Tag;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
 import com.beour.space.domain.repository.DescriptionRepository;
+import com.beour.space.domain.repository.SpaceImageRepository;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.domain.repository.TagRepository;
 import com.beour.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +54,8 @@ class SpaceControllerTest {
     @Autowired
     private TagRepository tagRepository;
     @Autowired
+    private SpaceImageRepository spaceImageRepository;
+    @Autowired
     private ObjectMapper objectMapper;
 
     private User host1;
@@ -149,6 +155,7 @@ class SpaceControllerTest {
 
     @AfterEach
     void tearDown() {
+        spaceImageRepository.deleteAll();
         descriptionRepository.deleteAll();
         tagRepository.deleteAll();
         spaceRepository.deleteAll();
@@ -332,6 +339,52 @@ class SpaceControllerTest {
                 .andExpect(jsonPath("$.message").value(SpaceErrorCode.NO_PERMISSION.getMessage()));
     }
 
+    @Test
+    @DisplayName("공간 전체 수정 - 다른 공간의 이미지 URL 은 유지할 수 없다")
+    void updateSpace_foreign_image_url() throws Exception {
+        // given
+        SpaceImage image1 = spaceImageRepository.save(
+                new SpaceImage(space1, "https://example.com/space1-image.jpg", 0));
+        spaceImageRepository.save(new SpaceImage(space2, "https://example.com/space2-image.jpg", 0));
+
+        String updateJson = """
+            {
+                "name": "수정된 공간명",
+                "spaceCategory": "CAFE",
+                "useCategory": "MEETING",
+                "maxCapacity": 12,
+                "address": "서울 강남구 테헤란로 124",
+                "detailAddress": "수정된 상세주소",
+                "pricePerHour": 18000,
+                "description": "수정된 설명",
+                "notice": "수정된 주의사항",
+                "refundPolicy": "수정된 환불 정책",
+                "imageUrls": ["https://example.com/space1-image.jpg", "https://example.com/space2-image.jpg"]
+            }
+            """;
+
+        MockMultipartFile spaceData = new MockMultipartFile(
+                "space", "", "application/json", updateJson.getBytes());
+
+        // when
+        mockMvc.perform(multipart("/api/spaces/{id}", space1.getId())
+                        .file(spaceData)
+                        .with(request -> {
+                            request.setMethod("PUT");
+                            return request;
+                        })
+                        .with(user(host1.getLoginId()).roles("HOST"))
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(SpaceErrorCode.INVALID_IMAGE_URL.getMessage()));
+
+        // then
+        List<SpaceImage> images = spaceImageRepository.findAll().stream()
+                .filter(image -> image.getSpace().getId().equals(space1.getId()))
+                .toList();
+        assertThat(images).extracting(SpaceImage::getId).containsExactly(image1.getId());
+    }
+
     @Test
     @DisplayName("공간 기본 정보 부분 수정 - 성공")
     @WithMockUser(username = "host", roles = "HOST")
@@ -411,6 +464,44 @@ class SpaceControllerTest {
                 //.andExpect(jsonPath("$.message").value("태그가 성공적으로 수정되었습니다."));
     }*/
 
+    @Test
+    @DisplayName("공간 태그 수정 - 바뀐 태그만 추가하고 기존 태그는 순서만 고친다")
+    void updateTags_only_changed_rows() throws Exception {
+        // given
+        String updateJson = """
+            {
+                "name": "테스트 공간1",
+                "spaceCategory": "COOKING",
+                "useCategory": "COOKING",
+                "maxCapacity": 10,
+                "address": "서울특별시 강남구 역삼동",
+                "detailAddress": "테스트빌딩 1층",
+                "pricePerHour": 15000,
+                "description": "테스트 공간 설명",
+                "notice": "사전 예약 필수",
+                "refundPolicy": "24시간 전 취소 가능",
+                "tags": ["베이킹", "요리"]
+            }
+            """;
+
+        // when
+        mockMvc.perform(patch("/api/spaces/{id}/tags", space1.getId())
+                        .with(user(host1.getLoginId()).roles("HOST"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateJson))
+                .andExpect(status().isOk());
+
+        // then
+        List<Tag> tags = tagRepository.findAll().stream()
+                .filter(tag -> tag.getSpace().getId().equals(space1.getId()))
+                .toList();
+        assertThat(tags).hasSize(2);
+        assertThat(tagRepository.findById(tag1.getId())).get()
+                .extracting(Tag::getDisplayOrder).isEqualTo(1);
+        assertThat(tags).filteredOn(tag -> tag.getContents().equals("베이킹"))
+                .extracting(Tag::getDisplayOrder).containsExactly(0);
+    }
+
     @Test
     @DisplayName("공간 삭제 - 성공")
     @WithMockUser(username = "host", roles = "HOST")
@@ -0,0 +1,67 @@
+package com.beour.space.host.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.entity.Tag;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderedChildDiffTest {
+
+    private static Tag tag(long id, String contents, int displayOrder) {
+        return Tag.builder().id(id).contents(contents).displayOrder(displayOrder).build();
+    }
+
+    @Test
+    @DisplayName("태그 하나만 바꾸면 그 태그만 삭제·추가되고 나머지는 그대로")
+    void change_one_tag() {
+        //given
+        List<Tag> current = List.of(tag(1L, "촬영", 0), tag(2L, "아트", 1), tag(3L, "스튜디오", 2));
+
+        //when
+        OrderedChildDiff<Tag, String> diff = OrderedChildDiff.of(current, Tag::getContents,
+            Tag::getDisplayOrder, List.of("촬영", "조명", "스튜디오"));
+
+        //then
+        assertThat(diff.getRemoved()).extracting(Tag::getId).containsExactly(2L);
+        assertThat(diff.getAdded()).extracting(OrderedChildDiff.Added::getValue).containsExactly("조명");
+        assertThat(diff.getAdded()).extracting(OrderedChildDiff.Added::getOrder).containsExactly(1);
+        assertThat(diff.getMoved()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순서만 바뀌면 삭제·추가 없이 순서가 바뀐 행만 고친다")
+    void reorder_only() {
+        //given
+        List<Tag> current = List.of(tag(1L, "촬영", 0), tag(2L, "아트", 1), tag(3L, "스튜디오", 2));
+
+        //when
+        OrderedChildDiff<Tag, String> diff = OrderedChildDiff.of(current, Tag::getContents,
+            Tag::getDisplayOrder, List.of("아트", "촬영", "스튜디오"));
+
+        //then
+        assertThat(diff.getRemoved()).isEmpty();
+        assertThat(diff.getAdded()).isEmpty();
+        assertThat(diff.getMoved()).extracting(moved -> moved.getChild().getId())
+            .containsExactly(2L, 1L);
+        assertThat(diff.getMoved()).extracting(OrderedChildDiff.Moved::getOrder)
+            .containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("같은 값이 여러 개면 개수만큼 짝짓고 남는 행은 삭제")
+    void duplicated_values() {
+        //given
+        List<Tag> current = List.of(tag(1L, "카페", 0), tag(2L, "카페", 1));
+
+        //when
+        OrderedChildDiff<Tag, String> diff = OrderedChildDiff.of(current, Tag::getContents,
+            Tag::getDisplayOrder, List.of("카페"));
+
+        //then
+        assertThat(diff.getRemoved()).extracting(Tag::getId).containsExactly(2L);
+        assertThat(diff.getAdded()).isEmpty();
+        assertThat(diff.getMoved()).isEmpty();
+    }
+}
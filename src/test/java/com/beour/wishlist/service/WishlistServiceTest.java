@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.beour.global.exception.exceptionType.DuplicateLikesException;
 import com.beour.global.exception.exceptionType.LikesNotFoundException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.global.pagination.CursorRequest;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.entity.Tag;
 import com.beour.space.domain.repository.SpaceRepository;
@@ -226,6 +227,40 @@ class WishlistServiceTest {
         assertTrue(result.isLast());
     }
 
+    @Test
+    @Transactional
+    @DisplayName("찜목록 조회 - 커서 모드")
+    void success_get_wishlist_with_cursor() {
+        //given
+        Like like1 = Like.builder()
+            .user(guest)
+            .space(space1)
+            .build();
+        likeRepository.save(like1);
+
+        Like like2 = Like.builder()
+            .user(guest)
+            .space(space2)
+            .build();
+        likeRepository.save(like2);
+        Pageable pageable = PageRequest.of(0, 1);
+
+        //when
+        WishListPageResponseDto first = wishlistService.getWishlist(CursorRequest.from("", pageable));
+        WishListPageResponseDto second = wishlistService.getWishlist(
+            CursorRequest.from(first.getNextCursor(), pageable));
+
+        //then
+        assertEquals("공간2", first.getSpaces().get(0).getSpaceName());
+        assertFalse(first.isLast());
+        assertNotNull(first.getNextCursor());
+
+        assertEquals(1, second.getSpaces().size());
+        assertEquals("공간1", second.getSpaces().get(0).getSpaceName());
+        assertTrue(second.isLast());
+        assertNull(second.getNextCursor());
+    }
+
     @Test
     @Transactional
     @DisplayName("찜삭제 - 성공")